@@ -0,0 +1,51 @@
+package com.yjkim.spring.java.utility.data;
+
+import com.yjkim.spring.java.utility.data.map.MapUtil;
+import com.yjkim.spring.java.utility.data.map.MapUtilBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map 변환 + String.valueOf 비교 (기존 compareObject) 와 {@link ObjectDiff} 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=ObjectDiffBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectDiffBenchmark
+{
+    private MapUtilBenchmark.Bean before;
+    private MapUtilBenchmark.Bean after;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        before = MapUtilBenchmark.Bean.sample();
+        after = MapUtilBenchmark.Bean.sample();
+        after.setEmail("changed@example.com");
+        after.setQuantity(after.getQuantity() + 1);
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyCompareObject ()
+    {
+        return MapUtil.compareMapObject(MapUtil.converObjectToMap(before), MapUtil.converObjectToMap(after));
+    }
+
+    @Benchmark
+    public Map<String, Object> compareObject ()
+    {
+        return ReflectionUtil.compareObject(before, after);
+    }
+
+    @Benchmark
+    public List<ObjectDiff.Change> diff ()
+    {
+        return ObjectDiff.diff(before, after);
+    }
+}
@@ -0,0 +1,101 @@
+package com.yjkim.spring.java.utility.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 호출마다 경로를 분석하던 기존 getValueByPath 와 {@link ObjectPath} / {@link ObjectPath.Batch} 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=ObjectPathBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectPathBenchmark
+{
+    private static final String[] PATHS = {
+            "data.order.items[0].sku", "data.order.items[0].price", "data.order.items[1].sku",
+            "data.order.id", "data.user.name", "meta.version"
+    };
+
+    private Map<String, Object> root;
+    private ObjectPath.Batch batch;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        root = Map.of(
+                "data", Map.of(
+                        "order", Map.of(
+                                "id", 10L,
+                                "items", List.of(Map.of("sku", "A", "price", 100), Map.of("sku", "B", "price", 200))),
+                        "user", Map.of("name", "kim")),
+                "meta", Map.of("version", 3));
+        batch = ObjectPath.Batch.of(PATHS);
+    }
+
+    @Benchmark
+    public Object[] legacyGetValueByPath ()
+    {
+        Object[] values = new Object[PATHS.length];
+        for (int i = 0; i < PATHS.length; i++)
+        {
+            values[i] = legacy(root, PATHS[i]);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object[] getValueByPath ()
+    {
+        Object[] values = new Object[PATHS.length];
+        for (int i = 0; i < PATHS.length; i++)
+        {
+            values[i] = ReflectionUtil.getValueByPath(root, PATHS[i]);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object[] batchGetValues ()
+    {
+        return batch.getValues(root);
+    }
+
+    /**
+     * 변경 전 ReflectionUtil.getValueByPath
+     */
+    private static Object legacy (Object obj, String path)
+    {
+        Object value = obj;
+        Pattern pattern = Pattern.compile("\\[[0-9]+\\]");
+        for (String p : path.split("\\."))
+        {
+            Matcher matcher = pattern.matcher(p);
+            if (matcher.find())
+            {
+                String mapKey = p.substring(0, matcher.start());
+                if (!mapKey.isBlank())
+                {
+                    value = ((Map<?, ?>) value).get(mapKey);
+                }
+                matcher.reset();
+                while (matcher.find())
+                {
+                    String group = matcher.group();
+                    value = ((List<?>) value).get(Integer.parseInt(group.substring(1, group.length() - 1)));
+                }
+            } else
+            {
+                value = ((Map<?, ?>) value).get(p);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yjkim.spring.java.utility.data;
+
+import com.yjkim.spring.java.utility.data.map.MapUtilBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Method.invoke 와 {@link MethodAccessors} (LambdaMetafactory) 기반 getter / setter 호출,
+ * 미리 분석한 {@link BeanCopier} 복사 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=ReflectionUtilBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReflectionUtilBenchmark
+{
+    private MapUtilBenchmark.Bean bean;
+    private MapUtilBenchmark.Bean target;
+    private BeanMetadata metadata;
+    private BeanCopier<MapUtilBenchmark.Bean, MapUtilBenchmark.Bean> copier;
+    private BeanCopier<MapUtilBenchmark.Bean, MapUtilBenchmark.Bean> deepCopier;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        bean = MapUtilBenchmark.Bean.sample();
+        target = new MapUtilBenchmark.Bean();
+        metadata = BeanMetadata.of(MapUtilBenchmark.Bean.class);
+        copier = BeanCopier.of(MapUtilBenchmark.Bean.class, MapUtilBenchmark.Bean.class);
+        deepCopier = BeanCopier.of(MapUtilBenchmark.Bean.class, MapUtilBenchmark.Bean.class, BeanCopier.Mode.DEEP);
+    }
+
+    @Benchmark
+    public Object legacyInvokeGetMethod () throws Exception
+    {
+        return metadata.getReadMethod("email").invoke(bean);
+    }
+
+    @Benchmark
+    public Object invokeGetMethod ()
+    {
+        return ReflectionUtil.invokeGetMethod(bean, "email");
+    }
+
+    @Benchmark
+    public MapUtilBenchmark.Bean legacyDeepCopyObject () throws Exception
+    {
+        for (int i = 0; i < metadata.size(); i++)
+        {
+            Method readMethod = metadata.getReadMethod(i);
+            Method writeMethod = metadata.getWriteMethod(metadata.getName(i));
+            if (readMethod != null && writeMethod != null)
+            {
+                writeMethod.invoke(target, readMethod.invoke(bean));
+            }
+        }
+        return target;
+    }
+
+    @Benchmark
+    public MapUtilBenchmark.Bean deepCopyObject ()
+    {
+        ReflectionUtil.deepCopyObject(bean, target);
+        return target;
+    }
+
+    @Benchmark
+    public MapUtilBenchmark.Bean beanCopier ()
+    {
+        copier.copy(bean, target);
+        return target;
+    }
+
+    @Benchmark
+    public MapUtilBenchmark.Bean beanCopierDeep ()
+    {
+        return deepCopier.copy(bean);
+    }
+}
@@ -0,0 +1,292 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.yjkim.spring.java.utility.data.map.MapUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 40 필드 DTO 의 POJO &lt;-&gt; Map 변환에서 Blackbird 모듈 (LambdaMetafactory accessor) 등록 전후 비교
+ * POJO -&gt; POJO 는 convertValue 와 {@link ObjectConverter} 복사 계획 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=JsonConvertBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonConvertBenchmark
+{
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private Dto dto;
+    private Map<String, Object> map;
+    private Map<String, String> stringMap;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp ()
+    {
+        JsonMapperRegistry.reset();
+        if (blackbird)
+        {
+            JsonMapperRegistry.registerModule(new BlackbirdModule());
+        }
+
+        dto = Dto.sample();
+        map = JsonUtil.convertObject(dto, Map.class);
+        stringMap = new HashMap<>();
+        map.forEach((key, value) -> stringMap.put(key, String.valueOf(value)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown ()
+    {
+        JsonMapperRegistry.reset();
+    }
+
+    @Benchmark
+    public Map<?, ?> objectToMap ()
+    {
+        return JsonUtil.convertObject(dto, Map.class);
+    }
+
+    @Benchmark
+    public Dto mapToObject ()
+    {
+        return JsonUtil.convertObject(map, Dto.class);
+    }
+
+    @Benchmark
+    public Dto legacyObjectToObject ()
+    {
+        return JsonMapperRegistry.mapper().convertValue(dto, Dto.class);
+    }
+
+    @Benchmark
+    public Dto objectToObject ()
+    {
+        return JsonUtil.convertObject(dto, Dto.class);
+    }
+
+    @Benchmark
+    public Dto stringMapToObject ()
+    {
+        return MapUtil.convertMapToObject(stringMap, Dto.class);
+    }
+
+    public static class Dto
+    {
+        private Long long01;
+        private Long long02;
+        private Long long03;
+        private Long long04;
+        private Long long05;
+        private Long long06;
+        private Long long07;
+        private Long long08;
+        private Long long09;
+        private Long long10;
+        private String str01;
+        private String str02;
+        private String str03;
+        private String str04;
+        private String str05;
+        private String str06;
+        private String str07;
+        private String str08;
+        private String str09;
+        private String str10;
+        private String str11;
+        private String str12;
+        private String str13;
+        private String str14;
+        private String str15;
+        private Integer int01;
+        private Integer int02;
+        private Integer int03;
+        private Integer int04;
+        private Integer int05;
+        private Integer int06;
+        private Integer int07;
+        private Integer int08;
+        private Double dbl01;
+        private Double dbl02;
+        private Double dbl03;
+        private Double dbl04;
+        private Boolean flag01;
+        private Boolean flag02;
+        private Boolean flag03;
+
+        static Dto sample ()
+        {
+            Dto dto = new Dto();
+            int i = 1;
+            dto.setLong01((long) i++);
+            dto.setLong02((long) i++);
+            dto.setLong03((long) i++);
+            dto.setLong04((long) i++);
+            dto.setLong05((long) i++);
+            dto.setLong06((long) i++);
+            dto.setLong07((long) i++);
+            dto.setLong08((long) i++);
+            dto.setLong09((long) i++);
+            dto.setLong10((long) i++);
+            dto.setStr01("value-" + i++);
+            dto.setStr02("value-" + i++);
+            dto.setStr03("value-" + i++);
+            dto.setStr04("value-" + i++);
+            dto.setStr05("value-" + i++);
+            dto.setStr06("value-" + i++);
+            dto.setStr07("value-" + i++);
+            dto.setStr08("value-" + i++);
+            dto.setStr09("value-" + i++);
+            dto.setStr10("value-" + i++);
+            dto.setStr11("value-" + i++);
+            dto.setStr12("value-" + i++);
+            dto.setStr13("value-" + i++);
+            dto.setStr14("value-" + i++);
+            dto.setStr15("value-" + i++);
+            dto.setInt01(i++);
+            dto.setInt02(i++);
+            dto.setInt03(i++);
+            dto.setInt04(i++);
+            dto.setInt05(i++);
+            dto.setInt06(i++);
+            dto.setInt07(i++);
+            dto.setInt08(i++);
+            dto.setDbl01(i++ * 1.5);
+            dto.setDbl02(i++ * 1.5);
+            dto.setDbl03(i++ * 1.5);
+            dto.setDbl04(i++ * 1.5);
+            dto.setFlag01(i++ % 2 == 0);
+            dto.setFlag02(i++ % 2 == 0);
+            dto.setFlag03(i++ % 2 == 0);
+            return dto;
+        }
+
+        public Long getLong01 () { return long01; }
+        public void setLong01 (Long long01) { this.long01 = long01; }
+
+        public Long getLong02 () { return long02; }
+        public void setLong02 (Long long02) { this.long02 = long02; }
+
+        public Long getLong03 () { return long03; }
+        public void setLong03 (Long long03) { this.long03 = long03; }
+
+        public Long getLong04 () { return long04; }
+        public void setLong04 (Long long04) { this.long04 = long04; }
+
+        public Long getLong05 () { return long05; }
+        public void setLong05 (Long long05) { this.long05 = long05; }
+
+        public Long getLong06 () { return long06; }
+        public void setLong06 (Long long06) { this.long06 = long06; }
+
+        public Long getLong07 () { return long07; }
+        public void setLong07 (Long long07) { this.long07 = long07; }
+
+        public Long getLong08 () { return long08; }
+        public void setLong08 (Long long08) { this.long08 = long08; }
+
+        public Long getLong09 () { return long09; }
+        public void setLong09 (Long long09) { this.long09 = long09; }
+
+        public Long getLong10 () { return long10; }
+        public void setLong10 (Long long10) { this.long10 = long10; }
+
+        public String getStr01 () { return str01; }
+        public void setStr01 (String str01) { this.str01 = str01; }
+
+        public String getStr02 () { return str02; }
+        public void setStr02 (String str02) { this.str02 = str02; }
+
+        public String getStr03 () { return str03; }
+        public void setStr03 (String str03) { this.str03 = str03; }
+
+        public String getStr04 () { return str04; }
+        public void setStr04 (String str04) { this.str04 = str04; }
+
+        public String getStr05 () { return str05; }
+        public void setStr05 (String str05) { this.str05 = str05; }
+
+        public String getStr06 () { return str06; }
+        public void setStr06 (String str06) { this.str06 = str06; }
+
+        public String getStr07 () { return str07; }
+        public void setStr07 (String str07) { this.str07 = str07; }
+
+        public String getStr08 () { return str08; }
+        public void setStr08 (String str08) { this.str08 = str08; }
+
+        public String getStr09 () { return str09; }
+        public void setStr09 (String str09) { this.str09 = str09; }
+
+        public String getStr10 () { return str10; }
+        public void setStr10 (String str10) { this.str10 = str10; }
+
+        public String getStr11 () { return str11; }
+        public void setStr11 (String str11) { this.str11 = str11; }
+
+        public String getStr12 () { return str12; }
+        public void setStr12 (String str12) { this.str12 = str12; }
+
+        public String getStr13 () { return str13; }
+        public void setStr13 (String str13) { this.str13 = str13; }
+
+        public String getStr14 () { return str14; }
+        public void setStr14 (String str14) { this.str14 = str14; }
+
+        public String getStr15 () { return str15; }
+        public void setStr15 (String str15) { this.str15 = str15; }
+
+        public Integer getInt01 () { return int01; }
+        public void setInt01 (Integer int01) { this.int01 = int01; }
+
+        public Integer getInt02 () { return int02; }
+        public void setInt02 (Integer int02) { this.int02 = int02; }
+
+        public Integer getInt03 () { return int03; }
+        public void setInt03 (Integer int03) { this.int03 = int03; }
+
+        public Integer getInt04 () { return int04; }
+        public void setInt04 (Integer int04) { this.int04 = int04; }
+
+        public Integer getInt05 () { return int05; }
+        public void setInt05 (Integer int05) { this.int05 = int05; }
+
+        public Integer getInt06 () { return int06; }
+        public void setInt06 (Integer int06) { this.int06 = int06; }
+
+        public Integer getInt07 () { return int07; }
+        public void setInt07 (Integer int07) { this.int07 = int07; }
+
+        public Integer getInt08 () { return int08; }
+        public void setInt08 (Integer int08) { this.int08 = int08; }
+
+        public Double getDbl01 () { return dbl01; }
+        public void setDbl01 (Double dbl01) { this.dbl01 = dbl01; }
+
+        public Double getDbl02 () { return dbl02; }
+        public void setDbl02 (Double dbl02) { this.dbl02 = dbl02; }
+
+        public Double getDbl03 () { return dbl03; }
+        public void setDbl03 (Double dbl03) { this.dbl03 = dbl03; }
+
+        public Double getDbl04 () { return dbl04; }
+        public void setDbl04 (Double dbl04) { this.dbl04 = dbl04; }
+
+        public Boolean getFlag01 () { return flag01; }
+        public void setFlag01 (Boolean flag01) { this.flag01 = flag01; }
+
+        public Boolean getFlag02 () { return flag02; }
+        public void setFlag02 (Boolean flag02) { this.flag02 = flag02; }
+
+        public Boolean getFlag03 () { return flag03; }
+        public void setFlag03 (Boolean flag03) { this.flag03 = flag03; }
+    }
+}
@@ -0,0 +1,136 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 1건에서 경로 12개를 꺼내는 비용 비교
+ * <pre>
+ *     - legacy     : has + get 으로 단계마다 두번 조회하는 기존 JsonNodeUtil 방식 (트리 생성 포함)
+ *     - compiled   : {@link JsonNodePath} (트리 생성 포함)
+ *     - extractor  : {@link JsonPathExtractor} 로 트리 없이 한번에 추출
+ *     - extractorBytes / extractorFirstFields : byte[] 입력, 앞쪽 3개 필드만 (나머지는 읽지 않음)
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonNodePathBenchmark
+{
+    private static final String[][] FIELD_PATHS = {
+            {"id"}, {"type"}, {"source"}, {"timestamp"},
+            {"user", "id"}, {"user", "name"}, {"user", "address", "city"}, {"user", "address", "zip"},
+            {"order", "id"}, {"order", "amount"}, {"order", "currency"}, {"meta", "trace", "spanId"}
+    };
+
+    private static final JsonNodePath[] COMPILED = new JsonNodePath[FIELD_PATHS.length];
+    private static final JsonPathExtractor EXTRACTOR;
+    private static final JsonPathExtractor FIRST_FIELDS = JsonPathExtractor.of("id", "type", "timestamp");
+
+    static
+    {
+        String[] paths = new String[FIELD_PATHS.length];
+        for (int i = 0; i < FIELD_PATHS.length; i++)
+        {
+            COMPILED[i] = JsonNodePath.of(FIELD_PATHS[i]);
+            paths[i] = String.join(".", FIELD_PATHS[i]);
+        }
+        EXTRACTOR = JsonPathExtractor.of(paths);
+    }
+
+    private String json;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 50; i++)
+        {
+            items.append(i == 0 ? "" : ",").append("{\"sku\":\"SKU-").append(i).append("\",\"qty\":").append(i)
+                    .append(",\"price\":").append(i * 1.5).append('}');
+        }
+        json = "{\"id\":\"evt-1\",\"type\":\"order.created\",\"source\":\"shop\",\"timestamp\":1700000000000,"
+                + "\"user\":{\"id\":42,\"name\":\"kim\",\"address\":{\"city\":\"Seoul\",\"zip\":\"04524\"}},"
+                + "\"order\":{\"id\":1001,\"amount\":15000.5,\"currency\":\"KRW\",\"items\":[" + items + "]},"
+                + "\"meta\":{\"trace\":{\"traceId\":\"abc\",\"spanId\":\"def\"},\"tags\":[\"a\",\"b\",\"c\"]}}";
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void legacy (Blackhole bh) throws Exception
+    {
+        JsonNode node = JsonUtil.parseString(json);
+        for (String[] fieldPaths : FIELD_PATHS)
+        {
+            bh.consume(legacyToString(node, fieldPaths));
+        }
+    }
+
+    @Benchmark
+    public void compiled (Blackhole bh) throws Exception
+    {
+        JsonNode node = JsonUtil.parseString(json);
+        for (JsonNodePath path : COMPILED)
+        {
+            bh.consume(path.asText(node));
+        }
+    }
+
+    @Benchmark
+    public void extractor (Blackhole bh) throws Exception
+    {
+        JsonPathExtractor.Result result = EXTRACTOR.extract(json);
+        for (int i = 0; i < FIELD_PATHS.length; i++)
+        {
+            bh.consume(result.getString(i));
+        }
+    }
+
+    @Benchmark
+    public void extractorBytes (Blackhole bh) throws Exception
+    {
+        JsonPathExtractor.Result result = EXTRACTOR.extract(bytes);
+        for (int i = 0; i < FIELD_PATHS.length; i++)
+        {
+            bh.consume(result.get(i));
+        }
+    }
+
+    @Benchmark
+    public void extractorFirstFields (Blackhole bh) throws Exception
+    {
+        JsonPathExtractor.Result result = FIRST_FIELDS.extract(bytes);
+        bh.consume(result.getString(0));
+        bh.consume(result.getString(1));
+        bh.consume(result.getLong(2, 0L));
+    }
+
+    /**
+     * 변경 전 JsonNodeUtil.jsonNodeToString
+     */
+    private static String legacyToString (JsonNode node, String... fieldPaths)
+    {
+        if (!node.has(fieldPaths[0]))
+        {
+            return null;
+        }
+        JsonNode tmp = node.get(fieldPaths[0]);
+        for (int i = 1; i < fieldPaths.length; i++)
+        {
+            if (tmp == null)
+            {
+                return null;
+            }
+            if (tmp.has(fieldPaths[i]))
+            {
+                tmp = tmp.get(fieldPaths[i]);
+            }
+        }
+        return tmp != null ? tmp.asText() : null;
+    }
+}
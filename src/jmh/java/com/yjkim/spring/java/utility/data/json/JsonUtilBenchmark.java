@@ -0,0 +1,121 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 ObjectMapper 를 만드는 기존 방식과 {@link JsonMapperRegistry} 기반 {@link JsonUtil} 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=JsonUtilBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonUtilBenchmark
+{
+    public static class Item
+    {
+        public long id;
+        public String name;
+        public String description;
+        public Double price;
+        public List<String> tags;
+    }
+
+    private Item item;
+    private String json;
+    private Map<String, Object> map;
+
+    @Setup(Level.Trial)
+    public void setUp () throws Exception
+    {
+        item = new Item();
+        item.id = 1L;
+        item.name = "item";
+        item.price = 1200.5;
+        item.tags = new ArrayList<>(List.of("a", "b", "c"));
+        json = "{\"id\":1,\"name\":\"item\",\"description\":null,\"price\":1200.5,\"tags\":[\"a\",\"b\",\"c\"],\"unknown\":1}";
+        map = JsonUtil.parseString(json, Map.class);
+    }
+
+    @Benchmark
+    public String legacyWriteNullAsEmpty () throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        DefaultSerializerProvider sp = new DefaultSerializerProvider.Impl();
+        sp.setNullValueSerializer(new EmptyStringSerializer());
+        mapper.setSerializerProvider(sp);
+        return mapper.writeValueAsString(item);
+    }
+
+    @Benchmark
+    public String writeNullAsEmpty () throws Exception
+    {
+        return JsonUtil.parseJsonObject(item);
+    }
+
+    @Benchmark
+    public Item legacyReadIgnoreUnknown () throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.readValue(json, Item.class);
+    }
+
+    @Benchmark
+    public Item readIgnoreUnknown () throws Exception
+    {
+        return JsonUtil.parseString(json, Item.class);
+    }
+
+    @Benchmark
+    public Item legacyConvert ()
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.convertValue(map, Item.class);
+    }
+
+    @Benchmark
+    public Item convert ()
+    {
+        return JsonUtil.convertObjectWithUnkown(map, Item.class);
+    }
+
+    @Benchmark
+    public List<Item> legacyReadList () throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper.readValue("[" + json + "," + json + "]",
+                mapper.getTypeFactory().constructCollectionType(List.class, Item.class));
+    }
+
+    @Benchmark
+    public List<Item> readList () throws Exception
+    {
+        return JsonMapperRegistry.reader(JsonMapperRegistry.typeFactory().constructCollectionType(List.class, Item.class),
+                JsonMapperRegistry.Option.IGNORE_UNKNOWN).readValue("[" + json + "," + json + "]");
+    }
+
+    private static class EmptyStringSerializer extends JsonSerializer<Object>
+    {
+        @Override
+        public void serialize (Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException
+        {
+            jgen.writeString("");
+        }
+    }
+}
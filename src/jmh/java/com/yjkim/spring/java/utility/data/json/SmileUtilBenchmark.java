@@ -0,0 +1,110 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Json (text) 과 {@link SmileUtil} (binary) 의 변환 속도 비교. payload 크기는 encode 결과의 bytes 항목으로 출력된다.
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=SmileUtilBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SmileUtilBenchmark
+{
+    public static class Line
+    {
+        public long productId;
+        public String productName;
+        public int quantity;
+        public double price;
+    }
+
+    public static class Order
+    {
+        public long orderId;
+        public String orderNo;
+        public String status;
+        public LocalDateTime orderedAt;
+        public boolean paid;
+        public List<Line> lines;
+    }
+
+    /**
+     * encode 결과 크기 (byte). jsonEncode:bytes, smileEncode:bytes 로 출력된다. (thread 1개 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize
+    {
+        public long bytes;
+    }
+
+    private Order order;
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+    private byte[] json;
+    private byte[] smile;
+
+    @Setup(Level.Trial)
+    public void setUp () throws Exception
+    {
+        order = new Order();
+        order.orderId = 1L;
+        order.orderNo = "ORD-20240101-0001";
+        order.status = "READY";
+        order.orderedAt = LocalDateTime.of(2024, 1, 1, 12, 30, 0);
+        order.paid = true;
+        order.lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+        {
+            Line line = new Line();
+            line.productId = 1000L + i;
+            line.productName = "product-" + i;
+            line.quantity = i + 1;
+            line.price = 1200.5 * (i + 1);
+            order.lines.add(line);
+        }
+
+        jsonWriter = JsonMapperRegistry.writer();
+        jsonReader = JsonMapperRegistry.reader(Order.class, JsonMapperRegistry.Option.IGNORE_UNKNOWN);
+        json = jsonWriter.writeValueAsBytes(order);
+        smile = SmileUtil.toBytes(order);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode (PayloadSize size) throws Exception
+    {
+        byte[] bytes = jsonWriter.writeValueAsBytes(order);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] smileEncode (PayloadSize size) throws Exception
+    {
+        byte[] bytes = SmileUtil.toBytes(order);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Order jsonDecode () throws Exception
+    {
+        return jsonReader.readValue(json);
+    }
+
+    @Benchmark
+    public Order smileDecode () throws Exception
+    {
+        return SmileUtil.fromBytes(smile, Order.class);
+    }
+}
@@ -0,0 +1,428 @@
+package com.yjkim.spring.java.utility.data.map;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 Introspector 로 property 를 구하던 기존 방식과 BeanMetadata cache 기반 {@link MapUtil#converObjectToMap(Object)} 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=MapUtilBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapUtilBenchmark
+{
+    private Bean bean;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        bean = Bean.sample();
+    }
+
+    @Benchmark
+    public Map<String, Object> legacyConverObjectToMap () throws Exception
+    {
+        BeanInfo beanInfo = Introspector.getBeanInfo(bean.getClass());
+        Map<String, Object> resultMap = new HashMap<>();
+        for (PropertyDescriptor pd : beanInfo.getPropertyDescriptors())
+        {
+            if (pd.getPropertyType() == Class.class)
+            {
+                continue;
+            }
+            resultMap.put(pd.getName(), pd.getReadMethod().invoke(bean));
+        }
+        return resultMap;
+    }
+
+    @Benchmark
+    public Map<String, Object> converObjectToMap ()
+    {
+        return MapUtil.converObjectToMap(bean);
+    }
+
+    @Benchmark
+    public Map<String, Object> converObjectToSnakeCaseMap ()
+    {
+        return MapUtil.converObjectToSnakeCaseMap(bean);
+    }
+
+    public static class Bean
+    {
+        private Long id;
+        private String name;
+        private String email;
+        private String phone;
+        private String address;
+        private String city;
+        private String zipCode;
+        private String country;
+        private String status;
+        private String type;
+        private Double amount;
+        private Double price;
+        private Integer quantity;
+        private Double discount;
+        private Double tax;
+        private Double total;
+        private String currency;
+        private String memo;
+        private String createdBy;
+        private String updatedBy;
+        private String createdAt;
+        private String updatedAt;
+        private Boolean deleted;
+        private Boolean active;
+        private Integer score;
+        private Integer rank;
+        private Integer level;
+        private String category;
+        private String tag;
+        private Long version;
+
+        public static Bean sample ()
+        {
+            Bean bean = new Bean();
+            bean.setId(1L);
+            bean.setName("name-1");
+            bean.setEmail("email-2");
+            bean.setPhone("phone-3");
+            bean.setAddress("address-4");
+            bean.setCity("city-5");
+            bean.setZipCode("zipCode-6");
+            bean.setCountry("country-7");
+            bean.setStatus("status-8");
+            bean.setType("type-9");
+            bean.setAmount(10.5);
+            bean.setPrice(11.5);
+            bean.setQuantity(12);
+            bean.setDiscount(13.5);
+            bean.setTax(14.5);
+            bean.setTotal(15.5);
+            bean.setCurrency("currency-16");
+            bean.setMemo("memo-17");
+            bean.setCreatedBy("createdBy-18");
+            bean.setUpdatedBy("updatedBy-19");
+            bean.setCreatedAt("createdAt-20");
+            bean.setUpdatedAt("updatedAt-21");
+            bean.setDeleted(true);
+            bean.setActive(true);
+            bean.setScore(24);
+            bean.setRank(25);
+            bean.setLevel(26);
+            bean.setCategory("category-27");
+            bean.setTag("tag-28");
+            bean.setVersion(30L);
+            return bean;
+        }
+
+        public Long getId ()
+        {
+            return id;
+        }
+
+        public void setId (Long id)
+        {
+            this.id = id;
+        }
+
+        public String getName ()
+        {
+            return name;
+        }
+
+        public void setName (String name)
+        {
+            this.name = name;
+        }
+
+        public String getEmail ()
+        {
+            return email;
+        }
+
+        public void setEmail (String email)
+        {
+            this.email = email;
+        }
+
+        public String getPhone ()
+        {
+            return phone;
+        }
+
+        public void setPhone (String phone)
+        {
+            this.phone = phone;
+        }
+
+        public String getAddress ()
+        {
+            return address;
+        }
+
+        public void setAddress (String address)
+        {
+            this.address = address;
+        }
+
+        public String getCity ()
+        {
+            return city;
+        }
+
+        public void setCity (String city)
+        {
+            this.city = city;
+        }
+
+        public String getZipCode ()
+        {
+            return zipCode;
+        }
+
+        public void setZipCode (String zipCode)
+        {
+            this.zipCode = zipCode;
+        }
+
+        public String getCountry ()
+        {
+            return country;
+        }
+
+        public void setCountry (String country)
+        {
+            this.country = country;
+        }
+
+        public String getStatus ()
+        {
+            return status;
+        }
+
+        public void setStatus (String status)
+        {
+            this.status = status;
+        }
+
+        public String getType ()
+        {
+            return type;
+        }
+
+        public void setType (String type)
+        {
+            this.type = type;
+        }
+
+        public Double getAmount ()
+        {
+            return amount;
+        }
+
+        public void setAmount (Double amount)
+        {
+            this.amount = amount;
+        }
+
+        public Double getPrice ()
+        {
+            return price;
+        }
+
+        public void setPrice (Double price)
+        {
+            this.price = price;
+        }
+
+        public Integer getQuantity ()
+        {
+            return quantity;
+        }
+
+        public void setQuantity (Integer quantity)
+        {
+            this.quantity = quantity;
+        }
+
+        public Double getDiscount ()
+        {
+            return discount;
+        }
+
+        public void setDiscount (Double discount)
+        {
+            this.discount = discount;
+        }
+
+        public Double getTax ()
+        {
+            return tax;
+        }
+
+        public void setTax (Double tax)
+        {
+            this.tax = tax;
+        }
+
+        public Double getTotal ()
+        {
+            return total;
+        }
+
+        public void setTotal (Double total)
+        {
+            this.total = total;
+        }
+
+        public String getCurrency ()
+        {
+            return currency;
+        }
+
+        public void setCurrency (String currency)
+        {
+            this.currency = currency;
+        }
+
+        public String getMemo ()
+        {
+            return memo;
+        }
+
+        public void setMemo (String memo)
+        {
+            this.memo = memo;
+        }
+
+        public String getCreatedBy ()
+        {
+            return createdBy;
+        }
+
+        public void setCreatedBy (String createdBy)
+        {
+            this.createdBy = createdBy;
+        }
+
+        public String getUpdatedBy ()
+        {
+            return updatedBy;
+        }
+
+        public void setUpdatedBy (String updatedBy)
+        {
+            this.updatedBy = updatedBy;
+        }
+
+        public String getCreatedAt ()
+        {
+            return createdAt;
+        }
+
+        public void setCreatedAt (String createdAt)
+        {
+            this.createdAt = createdAt;
+        }
+
+        public String getUpdatedAt ()
+        {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt (String updatedAt)
+        {
+            this.updatedAt = updatedAt;
+        }
+
+        public Boolean getDeleted ()
+        {
+            return deleted;
+        }
+
+        public void setDeleted (Boolean deleted)
+        {
+            this.deleted = deleted;
+        }
+
+        public Boolean getActive ()
+        {
+            return active;
+        }
+
+        public void setActive (Boolean active)
+        {
+            this.active = active;
+        }
+
+        public Integer getScore ()
+        {
+            return score;
+        }
+
+        public void setScore (Integer score)
+        {
+            this.score = score;
+        }
+
+        public Integer getRank ()
+        {
+            return rank;
+        }
+
+        public void setRank (Integer rank)
+        {
+            this.rank = rank;
+        }
+
+        public Integer getLevel ()
+        {
+            return level;
+        }
+
+        public void setLevel (Integer level)
+        {
+            this.level = level;
+        }
+
+        public String getCategory ()
+        {
+            return category;
+        }
+
+        public void setCategory (String category)
+        {
+            this.category = category;
+        }
+
+        public String getTag ()
+        {
+            return tag;
+        }
+
+        public void setTag (String tag)
+        {
+            this.tag = tag;
+        }
+
+        public Long getVersion ()
+        {
+            return version;
+        }
+
+        public void setVersion (Long version)
+        {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 8KB read loop MD5 와 {@link FileDigestUtil} 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileDigestBenchmark
+{
+    @Param({"65536", "1048576", "67108864"})
+    private int fileSize;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp () throws IOException
+    {
+        byte[] data = new byte[fileSize];
+        new Random(fileSize).nextBytes(data);
+        file = Files.createTempFile("digest-bench", ".bin");
+        Files.write(file, data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] legacyMd5Loop () throws Exception
+    {
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(new File(file.toString()))))
+        {
+            int numofbytes;
+            byte[] buffer = new byte[8192];
+            while ((numofbytes = in.read(buffer, 0, buffer.length)) > -1)
+            {
+                md.update(buffer, 0, numofbytes);
+            }
+        }
+        return md.digest();
+    }
+
+    @Benchmark
+    public byte[] md5 () throws IOException
+    {
+        return FileDigestUtil.digest(file, FileDigestUtil.DigestAlgorithm.MD5);
+    }
+
+    @Benchmark
+    public byte[] crc32c () throws IOException
+    {
+        return FileDigestUtil.digest(file, FileDigestUtil.DigestAlgorithm.CRC32C);
+    }
+
+    @Benchmark
+    public byte[] murmur3 () throws IOException
+    {
+        return FileDigestUtil.digest(file, FileDigestUtil.DigestAlgorithm.MURMUR3_128);
+    }
+
+    @Benchmark
+    public Map<FileDigestUtil.DigestAlgorithm, byte[]> md5AndSha256SinglePass () throws IOException
+    {
+        return FileDigestUtil.digest(file, FileDigestUtil.DigestAlgorithm.MD5, FileDigestUtil.DigestAlgorithm.SHA_256);
+    }
+}
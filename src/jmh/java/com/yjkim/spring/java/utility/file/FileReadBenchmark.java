@@ -0,0 +1,92 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 ByteArrayOutputStream 기반 read 와 presize read 의 할당량 비교
+ * <pre>
+ *     ./gradlew jmh -Pjmh.includes=FileReadBenchmark -Pjmh.profilers=gc
+ *     gc.alloc.rate.norm (B/op) 값을 비교한다.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileReadBenchmark
+{
+    @Param({"65536", "4194304", "33554432"})
+    private int fileSize;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp () throws IOException
+    {
+        byte[] data = new byte[fileSize];
+        Random random = new Random(fileSize);
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte) ('a' + random.nextInt(26));
+        }
+        Path path = Files.createTempFile("read-bench", ".txt");
+        Files.write(path, data);
+        file = path.toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException
+    {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public byte[] legacyFileToBytes () throws IOException
+    {
+        byte[] buffer = new byte[8192];
+        int numOfBytes;
+        try (ByteArrayOutputStream bao = new ByteArrayOutputStream();
+             BufferedInputStream bsi = new BufferedInputStream(new FileInputStream(file)))
+        {
+            while ((numOfBytes = bsi.read(buffer, 0, buffer.length)) != -1)
+            {
+                bao.write(buffer, 0, numOfBytes);
+            }
+            return bao.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] fileToBytes () throws IOException
+    {
+        return FileUtil.fileToBytes(file);
+    }
+
+    @Benchmark
+    public String legacyFileToString () throws IOException
+    {
+        return new String(legacyFileToBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String fileToString () throws IOException
+    {
+        return FileUtil.fileToString(file, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] streamToBytes () throws IOException
+    {
+        return FileUtil.streamToBytes(new FileInputStream(file));
+    }
+}
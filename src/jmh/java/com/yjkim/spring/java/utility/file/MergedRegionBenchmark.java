@@ -0,0 +1,117 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병합 영역 10,000개 시트에서 기존 선형 탐색과 {@link MergedRegionIndex} 비교
+ * <pre>
+ *     2 x 2 병합 영역을 10,000개 만들고, 임의의 셀 1,000개를 조회한다.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MergedRegionBenchmark
+{
+    private static final int MERGES = 10_000;
+    private static final int MERGES_PER_ROW = 20;
+    private static final int ROWS = MERGES / MERGES_PER_ROW * 2;
+    private static final int COLUMNS = MERGES_PER_ROW * 2;
+    private static final int LOOKUPS = 1_000;
+
+    private XSSFWorkbook workbook;
+    private XSSFSheet sheet;
+    private MergedRegionIndex index;
+    private int[] rowIxs;
+    private int[] colIxs;
+
+    @Setup(Level.Trial)
+    public void setUp ()
+    {
+        workbook = new XSSFWorkbook();
+        sheet = workbook.createSheet();
+        for (int r = 0; r < ROWS; r++)
+        {
+            XSSFRow row = sheet.createRow(r);
+            for (int c = 0; c < COLUMNS; c++)
+            {
+                row.createCell(c).setCellValue(r + ":" + c);
+            }
+        }
+        for (int r = 0; r < ROWS; r += 2)
+        {
+            for (int c = 0; c < COLUMNS; c += 2)
+            {
+                sheet.addMergedRegionUnsafe(new CellRangeAddress(r, r + 1, c, c + 1));
+            }
+        }
+
+        index = XSSFExcelUtil.getMergedRegionIndex(sheet);
+
+        Random random = new Random(MERGES);
+        rowIxs = new int[LOOKUPS];
+        colIxs = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            rowIxs[i] = random.nextInt(ROWS);
+            colIxs[i] = random.nextInt(COLUMNS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException
+    {
+        workbook.close();
+    }
+
+    @Benchmark
+    public void legacyLinearScan (Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            CellRangeAddress found = null;
+            for (CellRangeAddress mergedRegion : sheet.getMergedRegions())
+            {
+                if (mergedRegion.isInRange(rowIxs[i], colIxs[i]))
+                {
+                    found = mergedRegion;
+                    break;
+                }
+            }
+            bh.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void indexed (Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(XSSFExcelUtil.getMergedRegion(index, rowIxs[i], colIxs[i]));
+        }
+    }
+
+    @Benchmark
+    public void indexedWithMerges (Blackhole bh)
+    {
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            bh.consume(XSSFExcelUtil.getCellStringValueWithMerges(sheet, index, rowIxs[i], colIxs[i]));
+        }
+    }
+
+    @Benchmark
+    public MergedRegionIndex buildIndex ()
+    {
+        return MergedRegionIndex.of(sheet.getMergedRegions());
+    }
+}
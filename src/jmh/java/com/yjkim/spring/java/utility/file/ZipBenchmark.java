@@ -0,0 +1,93 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * 순차 압축({@link ZipUtil#zip(File, OutputStream)})과 병렬 압축({@link ZipUtil#zipParallel}) 비교
+ * <pre>
+ *     합성 디렉토리 : 8개 디렉토리 x (텍스트 32개 256KB + 이미 압축된 jpg 4개 1MB)
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ZipBenchmark
+{
+    @Param({"1", "4", "8"})
+    private int threads;
+
+    private File root;
+
+    @Setup(Level.Trial)
+    public void setUp () throws IOException
+    {
+        Random random = new Random(42);
+        Path dir = Files.createTempDirectory("zip-bench");
+        for (int d = 0; d < 8; d++)
+        {
+            Path sub = Files.createDirectories(dir.resolve("dir" + d));
+            for (int f = 0; f < 32; f++)
+            {
+                StringBuilder sb = new StringBuilder();
+                while (sb.length() < 256 * 1024)
+                {
+                    sb.append("row-").append(random.nextInt(1000)).append(",report,").append(random.nextLong()).append('\n');
+                }
+                Files.writeString(sub.resolve("report" + f + ".csv"), sb, StandardCharsets.UTF_8);
+            }
+            for (int f = 0; f < 4; f++)
+            {
+                byte[] bytes = new byte[1024 * 1024];
+                random.nextBytes(bytes);
+                Files.write(sub.resolve("image" + f + ".jpg"), bytes);
+            }
+        }
+        root = dir.toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException
+    {
+        try (Stream<Path> walk = Files.walk(root.toPath()))
+        {
+            walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void sequential () throws IOException
+    {
+        ZipUtil.zip(root, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void parallelDefaultLevel () throws IOException
+    {
+        ZipOption option = new ZipOption();
+        option.setThreads(threads);
+        ZipUtil.zipParallel(root, OutputStream.nullOutputStream(), option);
+    }
+
+    @Benchmark
+    public void parallelBestSpeed () throws IOException
+    {
+        ZipOption option = new ZipOption();
+        option.setThreads(threads);
+        option.setLevel(Deflater.BEST_SPEED);
+        ZipUtil.zipParallel(root, OutputStream.nullOutputStream(), option);
+    }
+}
@@ -0,0 +1,37 @@
+package com.yjkim.spring.java.utility.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Boolean 변환
+ * true / false 외에 "Y" / "N", "1" / "0", 숫자 1 / 0 도 Boolean 으로 변환한다.
+ */
+public class BooleanDeserializer extends JsonDeserializer<Boolean> {
+    
+    @Override
+    public Boolean deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        if (token == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue() != 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = p.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            return "Y".equalsIgnoreCase(text) || "1".equals(text) || "true".equalsIgnoreCase(text);
+        }
+        return (Boolean) ctxt.handleUnexpectedToken(Boolean.class, p);
+    }
+}
@@ -1,19 +1,19 @@
-package com.techlabs.common.config;
+package com.yjkim.spring.java.utility.config;
 
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
-import com.techlabs.platform.core.data.CommonConst;
-import com.techlabs.platform.core.processor.converter.BooleanDeserializer;
-import com.techlabs.platform.core.processor.converter.LocalDateConverter;
-import com.techlabs.platform.core.processor.converter.LocalDateTimeConverter;
-import com.techlabs.platform.core.processor.converter.LocalTimeConverter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -26,26 +26,27 @@ import java.time.format.DateTimeFormatter;
 @Configuration
 public class JacksonConfig {
     
+    public static final String DT_FM_DATE_TIME = "yyyy-MM-dd HH:mm:ss";
+    public static final String DT_FM_DATE = "yyyy-MM-dd";
+    public static final String DT_FM_TIME = "HH:mm:ss";
+    
+    /**
+     * true 이면 ObjectMapper 에 Blackbird (LambdaMetafactory 기반 getter/setter/생성자 호출) 모듈을 등록한다.
+     * application 설정 또는 -D 시스템 속성으로 지정한다. (Spring 없이 사용하는 JsonUtil 기본 mapper 는 시스템 속성)
+     */
+    public static final String PROP_BLACKBIRD = "utility.jackson.blackbird";
+    
+    @Value("${" + PROP_BLACKBIRD + ":false}")
+    private boolean blackbird;
+    
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
-        
-        
-        DateTimeFormatter localDateTimeFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_DATE_TIME);
-        DateTimeFormatter localDateFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_DATE);
-        DateTimeFormatter localTimeFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_TIME);
-        
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(localDateTimeFormatter));
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeConverter());
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(localDateFormatter));
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateConverter());
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(localTimeFormatter));
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeConverter());
-
-
-        objectMapper.registerModule(javaTimeModule);
+        objectMapper.registerModule(javaTimeModule());
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
         return objectMapper;
@@ -55,26 +56,37 @@ public class JacksonConfig {
     public ObjectMapper snakeObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         
-        DateTimeFormatter localDateTimeFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_DATE_TIME);
-        DateTimeFormatter localDateFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_DATE);
-        DateTimeFormatter localTimeFormatter = DateTimeFormatter.ofPattern(CommonConst.DT_FM_TIME);
-        
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(localDateTimeFormatter));
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeConverter());
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(localDateFormatter));
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateConverter());
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(localTimeFormatter));
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeConverter());
-
-
         SimpleModule simpleModule = new SimpleModule();
         simpleModule.addDeserializer(Boolean.class, new BooleanDeserializer());
         
-        objectMapper.registerModule(javaTimeModule);
+        objectMapper.registerModule(javaTimeModule());
         objectMapper.registerModule(simpleModule);
-        objectMapper.setPropertyNamingStrategy(new PropertyNamingStrategy.SnakeCaseStrategy());
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         return objectMapper;
     }
+    
+    /**
+     * LocalDateTime, LocalDate, LocalTime 을 DT_FM_* 형식으로 변환하는 모듈
+     * (Spring 없이 사용하는 JsonUtil 기본 mapper 에도 등록된다.)
+     *
+     * @return JavaTimeModule
+     */
+    public static JavaTimeModule javaTimeModule() {
+        DateTimeFormatter localDateTimeFormatter = DateTimeFormatter.ofPattern(DT_FM_DATE_TIME);
+        DateTimeFormatter localDateFormatter = DateTimeFormatter.ofPattern(DT_FM_DATE);
+        DateTimeFormatter localTimeFormatter = DateTimeFormatter.ofPattern(DT_FM_TIME);
+        
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(localDateTimeFormatter));
+        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(localDateTimeFormatter));
+        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(localDateFormatter));
+        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(localDateFormatter));
+        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(localTimeFormatter));
+        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(localTimeFormatter));
+        return javaTimeModule;
+    }
 }
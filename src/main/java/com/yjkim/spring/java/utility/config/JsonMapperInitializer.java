@@ -0,0 +1,46 @@
+package com.yjkim.spring.java.utility.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yjkim.spring.java.utility.data.json.JsonMapperRegistry;
+import com.yjkim.spring.java.utility.spring.ApplicationContextProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring 이 관리하는 ObjectMapper 를 JsonUtil / MapUtil 이 사용하도록 {@link JsonMapperRegistry} 에 등록한다.
+ * <p>
+ * 모든 singleton 생성 후 한번 실행되며, JsonUtil 과 Spring MVC 등이 같은 ObjectMapper (serializer cache) 를 공유한다.
+ * Spring mapper 의 읽기 완화 설정 (알 수 없는 속성 무시, 제어 문자 허용) 은 따르지 않는다.
+ * JsonUtil 은 ObjectReader 단위로 엄격하게 읽고 (Spring 없이 사용할 때와 같다), 완화가 필요하면 IGNORE_UNKNOWN 옵션을 지정한다.
+ * Spring 없이 사용하면 JsonMapperRegistry 의 기본 mapper 를 사용한다.
+ */
+@Slf4j
+@Component
+public class JsonMapperInitializer implements SmartInitializingSingleton, DisposableBean {
+    
+    public static final String SNAKE_OBJECT_MAPPER = "snakeObjectMapper";
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        ApplicationContext context = ApplicationContextProvider.getApplicationContext();
+        if (context == null) {
+            log.warn("ApplicationContext is not ready. JsonUtil uses default ObjectMapper.");
+            return;
+        }
+        
+        ObjectMapper primary = context.getBean(ObjectMapper.class);
+        ObjectMapper snake = context.containsBean(SNAKE_OBJECT_MAPPER)
+                ? context.getBean(SNAKE_OBJECT_MAPPER, ObjectMapper.class)
+                : null;
+        JsonMapperRegistry.install(primary, snake);
+        log.info("JsonUtil uses spring ObjectMapper. snake : {}", snake != null);
+    }
+    
+    @Override
+    public void destroy() {
+        JsonMapperRegistry.reset();
+    }
+}
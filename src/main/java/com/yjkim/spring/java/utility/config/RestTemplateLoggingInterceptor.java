@@ -2,10 +2,11 @@ package com.yjkim.spring.java.utility.config;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
@@ -14,6 +15,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map.Entry;
@@ -68,10 +70,9 @@ public class RestTemplateLoggingInterceptor implements ClientHttpRequestIntercep
         //
         traceRequest(request, body);
         ClientHttpResponse response = execution.execute(request, body);
-        response = new BufferingClientHttpResponseWrapper(response);
-        traceResponse(response);
 
-        return response;
+        // body 는 복사하지 않고, message converter 가 읽는 동안 앞 부분만 담아 두었다가 close 시 로그를 남긴다.
+        return new LoggingClientHttpResponse(response, RESPONSE_LOGGING_LENGTH);
     }
 
     private void traceRequest(HttpRequest request, byte[] body)
@@ -89,68 +90,205 @@ public class RestTemplateLoggingInterceptor implements ClientHttpRequestIntercep
         // CommonLog.txLogReq(transaction, request, new String(body, StandardCharsets.UTF_8));
     }
 
-    private void traceResponse(ClientHttpResponse response) throws IOException
+    private static void traceResponse(ClientHttpResponse response, String body)
     {
-        String contentType = "";
-        if (response.getHeaders() != null && response.getHeaders().getContentType() != null)
+        try
         {
-            contentType = response.getHeaders().getContentType().toString();
+            log.info("[============================RESPONSE==========================================");
+            log.info("[Status : {} {}]", response.getStatusCode(), response.getStatusText());
+            log.info("[Headers : {}   ]", response.getHeaders());
+            log.info("[Response Body : {}]", body);
+            log.info("[=========================REST TEMPLATE END====================================]");
+        } catch (IOException e)
+        {
+            log.warn("response logging failed : {}", e.getMessage());
+        }
+
+        // long endTime = System.currentTimeMillis();
+        //
+        // // Transaction Update
+        // transaction.setEndTime(endTime);
+        // transaction.setStatus(response.getStatusCode().value());
+        // // Write TxLog
+        // CommonLog.txLogRes(transaction, response);
+    }
+
+    /**
+     * body 를 복사하지 않는 로깅용 Response wrapper
+     * <pre>
+     *     getBody 는 원본 stream 을 그대로 전달하면서 읽힌 byte 중 앞의 limit byte 만 담아 둔다.
+     *     body 또는 response 가 닫힐 때 한번만 로그를 남긴다. (읽지 않은 부분은 로그에 없다.)
+     *     이미지 응답은 body 를 담지 않는다.
+     * </pre>
+     */
+    public static class LoggingClientHttpResponse implements ClientHttpResponse
+    {
+        private final ClientHttpResponse response;
+        private final byte[] captured;
+        private int capturedLength = 0;
+        private long totalLength = 0;
+        private CapturingInputStream body;
+        private boolean logged = false;
+
+        LoggingClientHttpResponse(ClientHttpResponse response, int limit)
+        {
+            this.response = response;
+            this.captured = isImage(response.getHeaders()) ? new byte[0] : new byte[limit];
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException
+        {
+            return this.response.getStatusCode();
         }
 
-        StringBuilder inputStringBuilder = new StringBuilder();
-        if (response.getBody() != null && !contentType.contains("image"))
+        @Override
+        public String getStatusText() throws IOException
         {
-            BufferedReader bufferedReader =
-                new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
-            char[] buffer = null;
-//            char[] buffer = new char[1024 * 10];
-            if(StringUtils.contains(contentType, "text/htmnl")) {
-                buffer = new char[1024];
+            return this.response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders()
+        {
+            return this.response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException
+        {
+            if (this.body == null)
+            {
+                InputStream in = this.response.getBody();
+                if (in == null)
+                {
+                    return null;
+                }
+                this.body = new CapturingInputStream(in);
             }
-            else {
-                buffer = new char[1024 * 10];
+            return this.body;
+        }
+
+        @Override
+        public void close()
+        {
+            try
+            {
+                this.response.close();
+            } finally
+            {
+                traceOnce();
             }
+        }
 
-//            int len;
-//            while ((len = bufferedReader.read(buffer, 0, buffer.length)) != -1)
-//            {
-////                if(inputStringBuilder.length() > RESPONSE_LOGGING_LENGTH) {
-////                    inputStringBuilder.append("...");
-////                    break;
-////                }
-//                inputStringBuilder.append(buffer, 0, len);
-//            }
-            
-            int len = bufferedReader.read(buffer, 0, buffer.length);
-            if(len != -1) {
-                inputStringBuilder.append(buffer, 0, len);
+        private void capture(byte[] b, int off, int len)
+        {
+            totalLength += len;
+            int n = Math.min(len, captured.length - capturedLength);
+            if (n > 0)
+            {
+                System.arraycopy(b, off, captured, capturedLength, n);
+                capturedLength += n;
             }
         }
 
-        log.info("[============================RESPONSE==========================================");
-        log.info("[Status : {} {}]", response.getStatusCode(), response.getStatusText());
-        log.info("[Headers : {}   ]", response.getHeaders());
-        if(inputStringBuilder.length() > RESPONSE_LOGGING_LENGTH) {
-            log.info("[Response Body : {} ...]", StringUtils.substring(inputStringBuilder.toString(), 0, RESPONSE_LOGGING_LENGTH));
+        private void traceOnce()
+        {
+            if (logged)
+            {
+                return;
+            }
+            logged = true;
+
+            String bodyText;
+            if (captured.length == 0)
+            {
+                bodyText = "(" + totalLength + " bytes)";
+            } else
+            {
+                bodyText = new String(captured, 0, capturedLength, charsetOf(getHeaders()));
+                if (totalLength > capturedLength)
+                {
+                    bodyText += " ... (" + totalLength + " bytes read)";
+                }
+            }
+            traceResponse(this, bodyText);
         }
-        else {
-            log.info("[Response Body : {}]", inputStringBuilder.toString());    
+
+        private static boolean isImage(HttpHeaders headers)
+        {
+            MediaType contentType = headers == null ? null : headers.getContentType();
+            return contentType != null && "image".equalsIgnoreCase(contentType.getType());
         }
-        log.info("[=========================REST TEMPLATE END====================================]");
 
-        inputStringBuilder.setLength(0);
-        inputStringBuilder.trimToSize();
+        private static Charset charsetOf(HttpHeaders headers)
+        {
+            MediaType contentType = headers == null ? null : headers.getContentType();
+            Charset charset = contentType == null ? null : contentType.getCharset();
+            return charset == null ? StandardCharsets.UTF_8 : charset;
+        }
 
-        // long endTime = System.currentTimeMillis();
-        //
-        // // Transaction Update
-        // transaction.setEndTime(endTime);
-        // transaction.setStatus(response.getStatusCode().value());
-        // // Write TxLog
-        // CommonLog.txLogRes(transaction, response);
+        /**
+         * 읽은 byte 를 capture 에 전달하는 stream
+         */
+        private class CapturingInputStream extends FilterInputStream
+        {
+            private final byte[] single = new byte[1];
+
+            CapturingInputStream(InputStream in)
+            {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException
+            {
+                int b = super.read();
+                if (b >= 0)
+                {
+                    single[0] = (byte) b;
+                    capture(single, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException
+            {
+                int n = super.read(b, off, len);
+                if (n > 0)
+                {
+                    capture(b, off, n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException
+            {
+                long skipped = super.skip(n);
+                totalLength += Math.max(skipped, 0);
+                return skipped;
+            }
+
+            @Override
+            public void close() throws IOException
+            {
+                try
+                {
+                    super.close();
+                } finally
+                {
+                    traceOnce();
+                }
+            }
+        }
     }
 
     /**
+     * body 전체를 byte[] 로 복사하는 Response wrapper. (body 를 여러번 읽어야 하는 경우에만 사용)
+     * 인터셉터는 {@link LoggingClientHttpResponse} 를 사용한다.
+     * <p>
      * Response wrapper ?겢?옒?뒪 response 媛앹껜?뿉?꽌 body ?궡?슜?쓣 蹂듭궗?븯?뿬 ?옱?궗?슜 媛??뒫?븯寃? 泥섎━?븿.
      *
      * @author silverb
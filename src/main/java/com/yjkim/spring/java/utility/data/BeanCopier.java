@@ -0,0 +1,688 @@
+package com.yjkim.spring.java.utility.data;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 같은 이름의 property 를 복사하는 copier
+ * <pre>
+ *     (원본 class, 대상 class) 조합을 처음 한번만 분석해서 getter / setter accessor 배열로 만들어 두고 재사용한다.
+ *     타입이 다른 property 는 변환해서 복사한다.
+ *       - 숫자 타입 간 변환, String &lt;-&gt; 숫자 / Boolean / enum
+ *       - 다른 bean 타입 : 대상 타입 객체를 만들어 다시 복사 (Entity -&gt; Dto)
+ *       - Collection / Map : 원소 타입이 다르면 원소를 변환한 새 Collection / Map
+ *     변환할 수 없는 property 는 복사하지 않는다.
+ *
+ *     BeanCopier&lt;User, UserDto&gt; copier = BeanCopier.of(User.class, UserDto.class);
+ *     UserDto dto = copier.copy(user);
+ *
+ *     Mode.SHALLOW (기본) 는 같은 타입의 값을 참조 그대로 복사한다.
+ *     Mode.DEEP 은 bean, Collection, Map, 배열, Date 등 변경 가능한 값을 모두 새로 만들어 복사한다.
+ *     같은 객체를 여러 번 참조하거나 순환 참조가 있으면 복사본도 같은 구조가 된다.
+ *     (String, 숫자, enum, java.time 등 변경할 수 없는 값은 그대로 사용한다.)
+ *
+ *     복사 중 예외가 발생한 property 는 log 를 남기고 건너뛴다. ({@link ReflectionUtil#deepCopyObject(Object, Object)} 와 같다.)
+ * </pre>
+ */
+@Slf4j
+public final class BeanCopier<S, T>
+{
+    public enum Mode
+    {
+        SHALLOW, DEEP
+    }
+
+    private static final Slot SKIP = (value, copied) -> value;
+
+    private static final ClassValue<Map<Class<?>, BeanCopier<?, ?>>> SHALLOW_CACHE = new ClassValue<>()
+    {
+        @Override
+        protected Map<Class<?>, BeanCopier<?, ?>> computeValue (Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, BeanCopier<?, ?>>> DEEP_CACHE = new ClassValue<>()
+    {
+        @Override
+        protected Map<Class<?>, BeanCopier<?, ?>> computeValue (Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<>()
+    {
+        @Override
+        protected Optional<MethodHandle> computeValue (Class<?> type)
+        {
+            if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers()))
+            {
+                return Optional.empty();
+            }
+            MethodType constructorType = MethodType.methodType(void.class);
+            try
+            {
+                MethodHandles.Lookup lookup;
+                try
+                {
+                    lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                } catch (IllegalAccessException e)
+                {
+                    // 열려있지 않은 module 의 class (java.util.LinkedList 등) 는 public 생성자만 사용한다.
+                    lookup = MethodHandles.publicLookup();
+                }
+                return Optional.of(lookup.findConstructor(type, constructorType)
+                        .asType(MethodType.methodType(Object.class)));
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e)
+            {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final Mode mode;
+    private final Function<Object, Object>[] readers;
+    private final BiConsumer<Object, Object>[] writers;
+    private final Slot[] slots;
+    private final boolean[] skipNulls;
+    private final boolean needsContext;
+
+    @SuppressWarnings("unchecked")
+    private BeanCopier (Class<S> sourceType, Class<T> targetType, Mode mode)
+    {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.mode = mode;
+
+        BeanMetadata source = BeanMetadata.of(sourceType);
+        BeanMetadata target = BeanMetadata.of(targetType);
+        List<Function<Object, Object>> readerList = new ArrayList<>();
+        List<BiConsumer<Object, Object>> writerList = new ArrayList<>();
+        List<Slot> slotList = new ArrayList<>();
+        List<Boolean> skipNullList = new ArrayList<>();
+        boolean context = false;
+        for (int i = 0; i < source.size(); i++)
+        {
+            String name = source.getName(i);
+            Function<Object, Object> reader = source.getReader(i);
+            BiConsumer<Object, Object> writer = target.getWriter(name);
+            if (reader == null || writer == null)
+            {
+                continue;
+            }
+            PropertyDescriptor from = source.getPropertyDescriptors().get(i);
+            PropertyDescriptor to = target.getPropertyDescriptor(name);
+            Slot slot = compile(propertyType(from.getReadMethod().getGenericReturnType(), from),
+                    propertyType(to.getWriteMethod().getGenericParameterTypes()[0], to));
+            if (slot == SKIP)
+            {
+                log.debug("Skip property {} : {} -> {}", name, from.getPropertyType(), to.getPropertyType());
+                continue;
+            }
+            readerList.add(reader);
+            writerList.add(writer);
+            slotList.add(slot);
+            skipNullList.add(to.getPropertyType().isPrimitive());
+            context |= slot != null && !(slot instanceof ScalarSlot);
+        }
+
+        this.readers = readerList.toArray(new Function[0]);
+        this.writers = writerList.toArray(new BiConsumer[0]);
+        this.slots = slotList.toArray(new Slot[0]);
+        this.skipNulls = new boolean[skipNullList.size()];
+        for (int i = 0; i < skipNulls.length; i++)
+        {
+            skipNulls[i] = skipNullList.get(i);
+        }
+        this.needsContext = context;
+    }
+
+    /**
+     * Mode.SHALLOW copier
+     *
+     * @param sourceType 원본 class
+     * @param targetType 대상 class
+     * @return BeanCopier (class 조합 별로 cache)
+     */
+    public static <S, T> BeanCopier<S, T> of (Class<S> sourceType, Class<T> targetType)
+    {
+        return of(sourceType, targetType, Mode.SHALLOW);
+    }
+
+    /**
+     * copier
+     *
+     * @param sourceType 원본 class
+     * @param targetType 대상 class
+     * @param mode       복사 방식
+     * @return BeanCopier (class 조합, mode 별로 cache)
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> BeanCopier<S, T> of (Class<S> sourceType, Class<T> targetType, Mode mode)
+    {
+        if (sourceType == null || targetType == null || mode == null)
+        {
+            throw new IllegalArgumentException("sourceType, targetType and mode must not be null.");
+        }
+        Map<Class<?>, BeanCopier<?, ?>> copiers = (mode == Mode.DEEP ? DEEP_CACHE : SHALLOW_CACHE).get(sourceType);
+        BeanCopier<?, ?> copier = copiers.get(targetType);
+        if (copier == null)
+        {
+            // 다른 copier 를 만드는 중에 호출될 수 있으므로 computeIfAbsent 를 사용하지 않는다.
+            copier = new BeanCopier<>(sourceType, targetType, mode);
+            BeanCopier<?, ?> previous = copiers.putIfAbsent(targetType, copier);
+            if (previous != null)
+            {
+                copier = previous;
+            }
+        }
+        return (BeanCopier<S, T>) copier;
+    }
+
+    @SuppressWarnings("unchecked")
+    static BeanCopier<Object, Object> forObjects (Class<?> sourceType, Class<?> targetType, Mode mode)
+    {
+        return (BeanCopier<Object, Object>) of(sourceType, targetType, mode);
+    }
+
+    /**
+     * source 의 property 를 target 에 복사한다.
+     *
+     * @param source 원본
+     * @param target 대상
+     */
+    public void copy (S source, T target)
+    {
+        if (source == null || target == null)
+        {
+            return;
+        }
+        IdentityHashMap<Object, Object> copied = null;
+        if (needsContext)
+        {
+            copied = new IdentityHashMap<>();
+            copied.put(source, target);
+        }
+        copyProperties(source, target, copied);
+    }
+
+    /**
+     * 대상 class 의 객체를 만들어 source 의 property 를 복사한다. 대상 class 에 인자 없는 생성자가 있어야 한다.
+     *
+     * @param source 원본
+     * @return 새 대상 객체. source 가 null 이면 null
+     */
+    public T copy (S source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        T target = targetType.cast(newInstance(targetType));
+        copy(source, target);
+        return target;
+    }
+
+    public Class<S> getSourceType ()
+    {
+        return sourceType;
+    }
+
+    public Class<T> getTargetType ()
+    {
+        return targetType;
+    }
+
+    public Mode getMode ()
+    {
+        return mode;
+    }
+
+    private void copyProperties (Object source, Object target, IdentityHashMap<Object, Object> copied)
+    {
+        for (int i = 0; i < readers.length; i++)
+        {
+            try
+            {
+                Object value = readers[i].apply(source);
+                if (value == null && skipNulls[i])
+                {
+                    continue;
+                }
+                Slot slot = slots[i];
+                writers[i].accept(target, slot == null || value == null ? value : slot.convert(value, copied));
+            } catch (Exception e)
+            {
+                log.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * property 타입 조합 별 복사 방식. null 이면 값을 그대로 쓰고, SKIP 이면 복사하지 않는다.
+     * 선언 타입으로 정할 수 없으면 (Object, interface 등) 실제 값의 타입으로 변환한다.
+     */
+    private Slot compile (Type fromType, Type toType)
+    {
+        Class<?> from = wrap(rawType(fromType));
+        Class<?> to = wrap(rawType(toType));
+        if (Collection.class.isAssignableFrom(from) && Collection.class.isAssignableFrom(to))
+        {
+            Class<?> element = typeArgument(toType, 0);
+            if (mode == Mode.DEEP || !to.isAssignableFrom(from) || needsElementConversion(typeArgument(fromType, 0), element))
+            {
+                return (value, copied) -> convertCollection((Collection<?>) value, to, element, copied);
+            }
+            return null;
+        }
+        if (Map.class.isAssignableFrom(from) && Map.class.isAssignableFrom(to))
+        {
+            Class<?> element = typeArgument(toType, 1);
+            if (mode == Mode.DEEP || !to.isAssignableFrom(from) || needsElementConversion(typeArgument(fromType, 1), element))
+            {
+                return (value, copied) -> convertMap((Map<?, ?>) value, to, element, copied);
+            }
+            return null;
+        }
+        if (to.isAssignableFrom(from))
+        {
+            if (mode == Mode.SHALLOW || isImmutable(from) && Modifier.isFinal(from.getModifiers()))
+            {
+                return null;
+            }
+            return this::deepValue;
+        }
+        Slot scalar = scalarSlot(from, to);
+        if (scalar != null)
+        {
+            return scalar;
+        }
+        if (isBean(from) && isBean(to))
+        {
+            return (value, copied) -> copyBean(value, to, copied);
+        }
+        if (from.isAssignableFrom(to) || from.isInterface() || to.isInterface() && !Modifier.isFinal(from.getModifiers()))
+        {
+            return (value, copied) -> convertValue(value, to, copied);
+        }
+        return SKIP;
+    }
+
+    /**
+     * getter / setter 의 generic 타입. 상속한 generic method (BaseEntity&lt;ID&gt;.getId()) 처럼 type 변수이면
+     * Introspector 가 하위 class 기준으로 구한 property 타입을 사용한다.
+     */
+    private static Type propertyType (Type genericType, PropertyDescriptor descriptor)
+    {
+        if (genericType instanceof Class<?> || genericType instanceof ParameterizedType)
+        {
+            return genericType;
+        }
+        return descriptor.getPropertyType() != null ? descriptor.getPropertyType() : Object.class;
+    }
+
+    private static boolean needsElementConversion (Class<?> from, Class<?> to)
+    {
+        if (to == null || to == Object.class)
+        {
+            return false;
+        }
+        return from == null || !to.isAssignableFrom(from);
+    }
+
+    /**
+     * 원소 하나를 대상 타입으로 변환한다. (Collection / Map 원소)
+     */
+    private Object convertValue (Object value, Class<?> to, IdentityHashMap<Object, Object> copied)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+        if (to == null || to.isInstance(value))
+        {
+            return mode == Mode.DEEP ? deepValue(value, copied) : value;
+        }
+        Class<?> from = value.getClass();
+        if (isBean(from) && isBean(to))
+        {
+            return copyBean(value, to, copied);
+        }
+        Slot scalar = scalarSlot(from, to);
+        if (scalar == null)
+        {
+            throw new IllegalArgumentException("Cannot convert " + from.getName() + " to " + to.getName());
+        }
+        return scalar.convert(value, copied);
+    }
+
+    private Object copyBean (Object value, Class<?> to, IdentityHashMap<Object, Object> copied)
+    {
+        Object done = copied.get(value);
+        if (done != null && to.isInstance(done))
+        {
+            return done;
+        }
+        BeanCopier<Object, Object> copier = forObjects(value.getClass(), to, mode);
+        Object target = newInstance(to);
+        copied.put(value, target);
+        copier.copyProperties(value, target, copied);
+        return target;
+    }
+
+    /**
+     * 같은 타입의 복사본. 변경할 수 없는 값은 그대로 반환한다.
+     */
+    private Object deepValue (Object value, IdentityHashMap<Object, Object> copied)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        if (isImmutable(type))
+        {
+            return value;
+        }
+        Object done = copied.get(value);
+        if (done != null)
+        {
+            return done;
+        }
+        if (type.isArray())
+        {
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(type.getComponentType(), length);
+            copied.put(value, array);
+            if (type.getComponentType().isPrimitive())
+            {
+                System.arraycopy(value, 0, array, 0, length);
+            } else
+            {
+                for (int i = 0; i < length; i++)
+                {
+                    Array.set(array, i, deepValue(Array.get(value, i), copied));
+                }
+            }
+            return array;
+        }
+        if (value instanceof Collection<?> collection)
+        {
+            return convertCollection(collection, type, null, copied);
+        }
+        if (value instanceof Map<?, ?> map)
+        {
+            return convertMap(map, type, null, copied);
+        }
+        if (value instanceof Date date)
+        {
+            return date.clone();
+        }
+        if (value instanceof Calendar calendar)
+        {
+            return calendar.clone();
+        }
+        if (CONSTRUCTORS.get(type).isEmpty() || !isBean(type))
+        {
+            // 새로 만들 수 없는 객체는 참조를 그대로 사용한다.
+            return value;
+        }
+        return copyBean(value, type, copied);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> convertCollection (Collection<?> value, Class<?> to, Class<?> element,
+                                                  IdentityHashMap<Object, Object> copied)
+    {
+        Collection<Object> result;
+        if (value instanceof SortedSet<?> sorted && to.isAssignableFrom(TreeSet.class))
+        {
+            result = new TreeSet<>((Comparator<Object>) sorted.comparator());
+        } else if (to.isAssignableFrom(ArrayList.class))
+        {
+            result = new ArrayList<>(value.size());
+        } else if (to.isAssignableFrom(LinkedHashSet.class))
+        {
+            result = new LinkedHashSet<>(Math.max(16, (int) (value.size() / 0.75f) + 1));
+        } else if (to.isAssignableFrom(ArrayDeque.class))
+        {
+            result = new ArrayDeque<>(value.size());
+        } else if (CONSTRUCTORS.get(to).isPresent())
+        {
+            result = (Collection<Object>) newInstance(to);
+        } else if (Set.class.isAssignableFrom(to))
+        {
+            // List.of(), Collections.unmodifiableSet() 등 직접 만들 수 없는 구현
+            result = new LinkedHashSet<>();
+        } else
+        {
+            result = new ArrayList<>(value.size());
+        }
+        if (copied != null)
+        {
+            copied.put(value, result);
+        }
+        for (Object item : value)
+        {
+            result.add(convertValue(item, element, copied));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> convertMap (Map<?, ?> value, Class<?> to, Class<?> element,
+                                            IdentityHashMap<Object, Object> copied)
+    {
+        Map<Object, Object> result;
+        if (value instanceof SortedMap<?, ?> sorted && to.isAssignableFrom(TreeMap.class))
+        {
+            result = new TreeMap<>((Comparator<Object>) sorted.comparator());
+        } else if (to.isAssignableFrom(LinkedHashMap.class))
+        {
+            result = new LinkedHashMap<>(Math.max(16, (int) (value.size() / 0.75f) + 1));
+        } else if (CONSTRUCTORS.get(to).isPresent())
+        {
+            result = (Map<Object, Object>) newInstance(to);
+        } else
+        {
+            result = new LinkedHashMap<>();
+        }
+        if (copied != null)
+        {
+            copied.put(value, result);
+        }
+        for (Map.Entry<?, ?> entry : value.entrySet())
+        {
+            result.put(entry.getKey(), convertValue(entry.getValue(), element, copied));
+        }
+        return result;
+    }
+
+    /**
+     * 숫자, String, Boolean, enum 간 변환. 변환할 수 없으면 null
+     */
+    private static Slot scalarSlot (Class<?> from, Class<?> to)
+    {
+        if (to == String.class && (isImmutable(from) || CharSequence.class.isAssignableFrom(from)))
+        {
+            return new ScalarSlot(value -> value instanceof Enum<?> e ? e.name() : String.valueOf(value));
+        }
+        Function<Number, Object> number = numberConverter(to);
+        if (number != null && Number.class.isAssignableFrom(from))
+        {
+            return new ScalarSlot(value -> number.apply((Number) value));
+        }
+        if (from != String.class)
+        {
+            return null;
+        }
+        if (number != null)
+        {
+            return new ScalarSlot(value -> StringUtils.isBlank((String) value)
+                    ? null : number.apply(new BigDecimal(((String) value).trim())));
+        }
+        if (to == Boolean.class)
+        {
+            return new ScalarSlot(value -> Boolean.valueOf((String) value));
+        }
+        if (to.isEnum())
+        {
+            return new ScalarSlot(value -> enumValue(to, (String) value));
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue (Class<?> type, String name)
+    {
+        return StringUtils.isBlank(name) ? null : Enum.valueOf((Class<? extends Enum>) type, name.trim());
+    }
+
+    private static Function<Number, Object> numberConverter (Class<?> to)
+    {
+        if (to == Integer.class)
+        {
+            return Number::intValue;
+        } else if (to == Long.class)
+        {
+            return Number::longValue;
+        } else if (to == Double.class)
+        {
+            return Number::doubleValue;
+        } else if (to == Float.class)
+        {
+            return Number::floatValue;
+        } else if (to == Short.class)
+        {
+            return Number::shortValue;
+        } else if (to == Byte.class)
+        {
+            return Number::byteValue;
+        } else if (to == BigDecimal.class)
+        {
+            return BeanCopier::toBigDecimal;
+        } else if (to == BigInteger.class)
+        {
+            return value -> value instanceof BigInteger ? value : toBigDecimal(value).toBigInteger();
+        }
+        return null;
+    }
+
+    private static BigDecimal toBigDecimal (Number value)
+    {
+        if (value instanceof BigDecimal decimal)
+        {
+            return decimal;
+        } else if (value instanceof BigInteger integer)
+        {
+            return new BigDecimal(integer);
+        } else if (value instanceof Double || value instanceof Float)
+        {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    private static Object newInstance (Class<?> type)
+    {
+        MethodHandle constructor = CONSTRUCTORS.get(type)
+                .orElseThrow(() -> new IllegalArgumentException("No default constructor : " + type.getName()));
+        try
+        {
+            return (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e)
+        {
+            throw e;
+        } catch (Throwable e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 복사할 필요가 없는 (변경할 수 없는) 타입
+     */
+    private static boolean isImmutable (Class<?> type)
+    {
+        return ReflectionUtil.isPrimitive(type) || type.isEnum() || type == Character.class
+                || type == BigDecimal.class || type == BigInteger.class || type == UUID.class
+                || type == Class.class || type == Locale.class || type == Currency.class
+                || type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * property 를 가진 사용자 class
+     */
+    static boolean isBean (Class<?> type)
+    {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isInterface()
+                && type != Object.class && !type.getName().startsWith("java.")
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type);
+    }
+
+    private static Class<?> rawType (Type type)
+    {
+        if (type instanceof Class<?> clazz)
+        {
+            return clazz;
+        } else if (type instanceof ParameterizedType parameterized)
+        {
+            return (Class<?>) parameterized.getRawType();
+        }
+        return Object.class;
+    }
+
+    /**
+     * 타입 인자 (List&lt;X&gt; 의 X). class 가 아니면 null
+     */
+    private static Class<?> typeArgument (Type type, int index)
+    {
+        if (type instanceof ParameterizedType parameterized && parameterized.getActualTypeArguments().length > index)
+        {
+            Type argument = parameterized.getActualTypeArguments()[index];
+            return argument instanceof Class<?> clazz ? clazz : null;
+        }
+        return null;
+    }
+
+    private static Class<?> wrap (Class<?> type)
+    {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private interface Slot
+    {
+        Object convert (Object value, IdentityHashMap<Object, Object> copied);
+    }
+
+    /**
+     * 다른 객체를 참조하지 않는 변환 (IdentityHashMap 이 필요 없음)
+     */
+    private record ScalarSlot(Function<Object, Object> converter) implements Slot
+    {
+        @Override
+        public Object convert (Object value, IdentityHashMap<Object, Object> copied)
+        {
+            return converter.apply(value);
+        }
+    }
+}
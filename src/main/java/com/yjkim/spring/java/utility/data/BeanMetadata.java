@@ -0,0 +1,264 @@
+package com.yjkim.spring.java.utility.data;
+
+import com.google.common.base.CaseFormat;
+import lombok.extern.slf4j.Slf4j;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * class 별 property 정보 cache
+ * <pre>
+ *     Introspector.getBeanInfo 결과를 class 당 한번만 분석하여 이름 -&gt; PropertyDescriptor map,
+ *     getter 배열, snake_case 이름 등을 만들어 둔다.
+ *     ClassValue 에 저장하므로 class (classloader) 를 붙잡지 않으며, class 가 unload 되면 같이 사라진다.
+ *     (hot redeploy 로 같은 이름의 class 가 다시 로드되면 새 class 로 다시 분석한다.)
+ *
+ *     BeanMetadata metadata = BeanMetadata.of(User.class);
+ *     Method getter = metadata.getReadMethod("name");
+ *     Object name = metadata.getReader("name").apply(user);
+ *
+ *     getter / setter accessor ({@link MethodAccessors}) 는 처음 사용할 때 한번 만든다.
+ * </pre>
+ */
+@Slf4j
+public final class BeanMetadata
+{
+    private static final BeanMetadata EMPTY = new BeanMetadata(Collections.emptyList());
+
+    private static final ClassValue<BeanMetadata> CACHE = new ClassValue<>()
+    {
+        @Override
+        protected BeanMetadata computeValue (Class<?> type)
+        {
+            return create(type);
+        }
+    };
+
+    private final List<PropertyDescriptor> descriptors;
+    private final Map<String, PropertyDescriptor> descriptorMap;
+    private final String[] names;
+    private final String[] snakeNames;
+    private final Method[] readMethods;
+    private volatile Accessors accessors;
+
+    private BeanMetadata (List<PropertyDescriptor> descriptors)
+    {
+        int size = descriptors.size();
+        this.descriptors = Collections.unmodifiableList(descriptors);
+        this.descriptorMap = new HashMap<>(size * 2);
+        this.names = new String[size];
+        this.snakeNames = new String[size];
+        this.readMethods = new Method[size];
+        for (int i = 0; i < size; i++)
+        {
+            PropertyDescriptor descriptor = descriptors.get(i);
+            descriptorMap.put(descriptor.getName(), descriptor);
+            names[i] = descriptor.getName();
+            snakeNames[i] = CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, descriptor.getName());
+            readMethods[i] = descriptor.getReadMethod();
+        }
+    }
+
+    /**
+     * class 의 property 정보. String, primitive 등은 property 가 없는 정보를 반환한다.
+     *
+     * @param clazz 클래스
+     * @return BeanMetadata
+     */
+    public static BeanMetadata of (Class<?> clazz)
+    {
+        if (clazz == null || ReflectionUtil.isPrimitive(clazz))
+        {
+            return EMPTY;
+        }
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * class 의 cache 를 지운다. (class 를 직접 변경하는 도구를 사용할 때)
+     *
+     * @param clazz 클래스
+     */
+    public static void evict (Class<?> clazz)
+    {
+        CACHE.remove(clazz);
+    }
+
+    private static BeanMetadata create (Class<?> clazz)
+    {
+        List<PropertyDescriptor> propertyList = new ArrayList<>();
+        try
+        {
+            BeanInfo beanInfo = Introspector.getBeanInfo(clazz);
+            PropertyDescriptor[] descriptors = beanInfo == null ? null : beanInfo.getPropertyDescriptors();
+            if (descriptors != null)
+            {
+                for (PropertyDescriptor descriptor : descriptors)
+                {
+                    if (descriptor.getPropertyType() == Class.class)
+                    {
+                        continue;
+                    }
+                    propertyList.add(descriptor);
+                }
+            }
+        } catch (IntrospectionException e)
+        {
+            if (log.isWarnEnabled())
+            {
+                log.warn(e.getMessage(), e);
+            }
+        } finally
+        {
+            // 결과는 여기에 보관하므로 Introspector 의 cache 는 비운다.
+            Introspector.flushFromCaches(clazz);
+        }
+        return new BeanMetadata(propertyList);
+    }
+
+    /**
+     * 모든 property 목록 (변경할 수 없음)
+     */
+    public List<PropertyDescriptor> getPropertyDescriptors ()
+    {
+        return descriptors;
+    }
+
+    /**
+     * 이름에 해당하는 property (없으면 null)
+     */
+    public PropertyDescriptor getPropertyDescriptor (String name)
+    {
+        return descriptorMap.get(name);
+    }
+
+    /**
+     * 이름에 해당하는 getter (없으면 null)
+     */
+    public Method getReadMethod (String name)
+    {
+        PropertyDescriptor descriptor = descriptorMap.get(name);
+        return descriptor == null ? null : descriptor.getReadMethod();
+    }
+
+    /**
+     * 이름에 해당하는 setter (없으면 null)
+     */
+    public Method getWriteMethod (String name)
+    {
+        PropertyDescriptor descriptor = descriptorMap.get(name);
+        return descriptor == null ? null : descriptor.getWriteMethod();
+    }
+
+    /**
+     * 이름에 해당하는 getter accessor (없으면 null)
+     */
+    public Function<Object, Object> getReader (String name)
+    {
+        return accessors().readerMap.get(name);
+    }
+
+    /**
+     * 이름에 해당하는 setter accessor (없으면 null)
+     */
+    public BiConsumer<Object, Object> getWriter (String name)
+    {
+        return accessors().writerMap.get(name);
+    }
+
+    /**
+     * property 수
+     */
+    public int size ()
+    {
+        return names.length;
+    }
+
+    /**
+     * index 번째 property 이름
+     */
+    public String getName (int index)
+    {
+        return names[index];
+    }
+
+    /**
+     * index 번째 property 의 snake_case 이름
+     */
+    public String getSnakeName (int index)
+    {
+        return snakeNames[index];
+    }
+
+    /**
+     * index 번째 property 의 getter (없으면 null)
+     */
+    public Method getReadMethod (int index)
+    {
+        return readMethods[index];
+    }
+
+    /**
+     * index 번째 property 의 getter accessor (없으면 null)
+     */
+    public Function<Object, Object> getReader (int index)
+    {
+        return accessors().readers[index];
+    }
+
+    private Accessors accessors ()
+    {
+        Accessors current = accessors;
+        if (current == null)
+        {
+            // 동시에 만들어도 결과는 같으므로 lock 하지 않는다.
+            current = new Accessors(descriptors);
+            accessors = current;
+        }
+        return current;
+    }
+
+    /**
+     * property 별 getter / setter accessor
+     */
+    private static final class Accessors
+    {
+        private final Function<Object, Object>[] readers;
+        private final Map<String, Function<Object, Object>> readerMap;
+        private final Map<String, BiConsumer<Object, Object>> writerMap;
+
+        @SuppressWarnings("unchecked")
+        Accessors (List<PropertyDescriptor> descriptors)
+        {
+            this.readers = new Function[descriptors.size()];
+            this.readerMap = new HashMap<>(descriptors.size() * 2);
+            this.writerMap = new HashMap<>(descriptors.size() * 2);
+            for (int i = 0; i < descriptors.size(); i++)
+            {
+                PropertyDescriptor descriptor = descriptors.get(i);
+                Method readMethod = descriptor.getReadMethod();
+                Method writeMethod = descriptor.getWriteMethod();
+                if (readMethod != null)
+                {
+                    readers[i] = MethodAccessors.getter(readMethod);
+                    readerMap.put(descriptor.getName(), readers[i]);
+                }
+                if (writeMethod != null)
+                {
+                    writerMap.put(descriptor.getName(), MethodAccessors.setter(writeMethod));
+                }
+            }
+        }
+    }
+}
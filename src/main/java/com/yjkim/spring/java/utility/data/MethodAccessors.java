@@ -0,0 +1,208 @@
+package com.yjkim.spring.java.utility.data;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * getter / setter 를 Function / BiConsumer 로 만들어 Method.invoke 없이 호출한다.
+ * <pre>
+ *     LambdaMetafactory 로 만든 accessor 는 직접 호출과 거의 같은 속도로 실행된다.
+ *     만들 수 없으면 MethodHandle, 그것도 안되면 Method.invoke 를 사용한다.
+ *     만든 accessor 는 선언 class 별로 (ClassValue) cache 한다.
+ *
+ *     Function&lt;Object, Object&gt; getter = MethodAccessors.getter(readMethod);
+ *     Object value = getter.apply(bean);
+ *
+ *     accessor 는 Method 에서 발생한 RuntimeException 을 감싸지 않고 그대로 던진다.
+ * </pre>
+ */
+@Slf4j
+public class MethodAccessors
+{
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<Method, Object>> CACHE = new ClassValue<>()
+    {
+        @Override
+        protected Map<Method, Object> computeValue (Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public MethodAccessors ()
+    {
+        throw new IllegalStateException("MethodAccessors is utility class.");
+    }
+
+    /**
+     * 인자가 없는 method (getter) 를 Function 으로 만든다.
+     *
+     * @param method getter
+     * @return Function (bean -&gt; 반환 값)
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter (Method method)
+    {
+        if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers()))
+        {
+            throw new IllegalArgumentException("Not a getter method : " + method);
+        }
+        return (Function<Object, Object>) CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodAccessors::createGetter);
+    }
+
+    /**
+     * 인자가 1개인 method (setter) 를 BiConsumer 로 만든다. 반환 값은 무시한다.
+     *
+     * @param method setter
+     * @return BiConsumer (bean, 값)
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> setter (Method method)
+    {
+        if (method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers()))
+        {
+            throw new IllegalArgumentException("Not a setter method : " + method);
+        }
+        return (BiConsumer<Object, Object>) CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodAccessors::createSetter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter (Method method)
+    {
+        MethodHandle handle;
+        try
+        {
+            MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            handle = lookup.unreflect(method);
+            try
+            {
+                // 생성되는 class 는 선언 class 의 classloader 에 속한다.
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class), GETTER_TYPE.erase(), handle,
+                        MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable e)
+            {
+                log.debug("LambdaMetafactory getter is not available. {} : {}", method, e.getMessage());
+            }
+        } catch (IllegalAccessException | RuntimeException e)
+        {
+            return reflectiveGetter(method);
+        }
+
+        MethodHandle getter = handle.asType(GETTER_TYPE);
+        return bean -> {
+            try
+            {
+                return (Object) getter.invokeExact(bean);
+            } catch (RuntimeException | Error e)
+            {
+                throw e;
+            } catch (Throwable e)
+            {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> createSetter (Method method)
+    {
+        MethodHandle handle;
+        try
+        {
+            MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            handle = lookup.unreflect(method);
+            // primitive parameter 는 아래 asType 으로 unboxing + widening 한다. (Integer -&gt; long 등, Method.invoke 와 같다.)
+            if (!method.getParameterTypes()[0].isPrimitive())
+            {
+                try
+                {
+                    CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                            MethodType.methodType(BiConsumer.class), SETTER_TYPE.erase(), handle,
+                            MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]));
+                    @SuppressWarnings("unchecked")
+                    BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+                    return setter;
+                } catch (Throwable e)
+                {
+                    log.debug("LambdaMetafactory setter is not available. {} : {}", method, e.getMessage());
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e)
+        {
+            return reflectiveSetter(method);
+        }
+
+        MethodHandle setter = handle.asType(SETTER_TYPE);
+        return (bean, value) -> {
+            try
+            {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e)
+            {
+                throw e;
+            } catch (Throwable e)
+            {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static Function<Object, Object> reflectiveGetter (Method method)
+    {
+        return bean -> {
+            try
+            {
+                return method.invoke(bean);
+            } catch (InvocationTargetException e)
+            {
+                throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> reflectiveSetter (Method method)
+    {
+        return (bean, value) -> {
+            try
+            {
+                method.invoke(bean, value);
+            } catch (InvocationTargetException e)
+            {
+                throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+            } catch (IllegalAccessException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static MethodHandles.Lookup lookup (Class<?> declaringClass) throws IllegalAccessException
+    {
+        return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    }
+
+    private static Class<?> wrap (Class<?> type)
+    {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
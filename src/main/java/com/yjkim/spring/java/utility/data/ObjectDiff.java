@@ -0,0 +1,313 @@
+package com.yjkim.spring.java.utility.data;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 같은 class 의 두 객체를 property 별로 비교해서 변경 목록을 만든다.
+ * <pre>
+ *     Map 으로 바꾸거나 문자열로 바꾸지 않고, {@link BeanMetadata} 의 getter accessor 로 읽은 값을 바로 비교한다.
+ *     같은 객체 (==) 는 더 비교하지 않는다.
+ *
+ *     List&lt;ObjectDiff.Change&gt; changes = ObjectDiff.diff(before, after);
+ *     for (ObjectDiff.Change change : changes)
+ *     {
+ *         log.info("{} : {} -&gt; {}", change.path(), change.oldValue(), change.newValue());
+ *     }
+ *
+ *     값 비교 : equals. BigDecimal 은 compareTo (1.0 과 1.00 은 같다), 배열은 원소를 비교한다.
+ *     Option.DEEP : bean, List, 배열, Map 안으로 들어가 달라진 값만 변경으로 남긴다.
+ *                   (경로는 {@link ObjectPath} 문법. ex. address.city, lines[0].sku, extra.key)
+ *     Option.EMPTY_AS_NULL : 빈 문자열, 빈 Collection 등을 null 로 보고 비교한다. getter 에서 예외가 나면 로그를 남기고 null 로 본다.
+ *                          ({@link ReflectionUtil#invokeGetMethod(Object, String)} 와 같다.)
+ *     한쪽이 null 이면 다른 쪽의 모든 property 를 변경으로 남긴다. (생성 / 삭제)
+ * </pre>
+ */
+public final class ObjectDiff
+{
+    public enum Option
+    {
+        DEEP, EMPTY_AS_NULL
+    }
+
+    /**
+     * 변경 내용
+     *
+     * @param path     property 경로
+     * @param oldValue 이전 값
+     * @param newValue 새 값
+     */
+    public record Change(String path, Object oldValue, Object newValue)
+    {
+    }
+
+    private final boolean deep;
+    private final boolean emptyAsNull;
+    private List<Change> changes;
+    /**
+     * DEEP 에서 비교 중인 (이전 객체 -&gt; 새 객체). 순환 참조를 다시 비교하지 않는다.
+     */
+    private IdentityHashMap<Object, Object> visiting;
+
+    private ObjectDiff (boolean deep, boolean emptyAsNull)
+    {
+        this.deep = deep;
+        this.emptyAsNull = emptyAsNull;
+    }
+
+    /**
+     * 두 객체를 비교한다.
+     *
+     * @param oldObj  이전 객체
+     * @param newObj  새 객체 (oldObj 와 같은 class)
+     * @param options 비교 옵션
+     * @return 변경 목록 (property 순서). 변경이 없으면 빈 List
+     */
+    public static List<Change> diff (Object oldObj, Object newObj, Option... options)
+    {
+        if (oldObj == newObj)
+        {
+            return Collections.emptyList();
+        }
+        if (oldObj != null && newObj != null && oldObj.getClass() != newObj.getClass())
+        {
+            throw new IllegalArgumentException("Cannot compare different classes : "
+                    + oldObj.getClass().getName() + ", " + newObj.getClass().getName());
+        }
+
+        boolean deep = false;
+        boolean emptyAsNull = false;
+        for (Option option : options)
+        {
+            deep |= option == Option.DEEP;
+            emptyAsNull |= option == Option.EMPTY_AS_NULL;
+        }
+        ObjectDiff diff = new ObjectDiff(deep, emptyAsNull);
+        if (deep && oldObj != null && newObj != null)
+        {
+            diff.visiting = new IdentityHashMap<>();
+            diff.visiting.put(oldObj, newObj);
+        }
+        diff.compareBean(null, oldObj, newObj, BeanMetadata.of(oldObj != null ? oldObj.getClass() : newObj.getClass()));
+        return diff.changes == null ? Collections.emptyList() : diff.changes;
+    }
+
+    private void compareBean (Path parent, Object oldObj, Object newObj, BeanMetadata metadata)
+    {
+        for (int i = 0; i < metadata.size(); i++)
+        {
+            Function<Object, Object> reader = metadata.getReader(i);
+            if (reader == null)
+            {
+                continue;
+            }
+            compare(parent, metadata.getName(i), -1,
+                    read(reader, oldObj), read(reader, newObj));
+        }
+    }
+
+    /**
+     * EMPTY_AS_NULL 이면 {@link ReflectionUtil#invokeGetMethod(Object, Function)} 처럼 getter 예외를 null 로 본다.
+     */
+    private Object read (Function<Object, Object> reader, Object obj)
+    {
+        if (obj == null)
+        {
+            return null;
+        }
+        return emptyAsNull ? ReflectionUtil.invokeGetMethod(obj, reader) : reader.apply(obj);
+    }
+
+    private void compare (Path parent, String name, int index, Object oldValue, Object newValue)
+    {
+        if (emptyAsNull)
+        {
+            oldValue = isEmpty(oldValue) ? null : oldValue;
+            newValue = isEmpty(newValue) ? null : newValue;
+        }
+        if (oldValue == newValue)
+        {
+            return;
+        }
+        if (deep && oldValue != null && newValue != null && descend(parent, name, index, oldValue, newValue))
+        {
+            return;
+        }
+        if (!valueEquals(oldValue, newValue))
+        {
+            if (changes == null)
+            {
+                changes = new ArrayList<>();
+            }
+            changes.add(new Change(Path.toString(parent, name, index), oldValue, newValue));
+        }
+    }
+
+    /**
+     * 하위 값을 비교한다.
+     *
+     * @return 하위 값을 비교했으면 true, 값 자체를 비교해야 하면 false
+     */
+    private boolean descend (Path parent, String name, int index, Object oldValue, Object newValue)
+    {
+        boolean list = oldValue instanceof List<?> && newValue instanceof List<?>;
+        boolean map = oldValue instanceof Map<?, ?> && newValue instanceof Map<?, ?>;
+        boolean array = oldValue instanceof Object[] && newValue instanceof Object[];
+        boolean bean = !list && !map && !array && oldValue.getClass() == newValue.getClass()
+                && BeanCopier.isBean(oldValue.getClass());
+        if (!list && !map && !array && !bean)
+        {
+            return false;
+        }
+
+        if (visiting == null)
+        {
+            visiting = new IdentityHashMap<>();
+        }
+        if (visiting.get(oldValue) == newValue)
+        {
+            return true;
+        }
+        visiting.put(oldValue, newValue);
+
+        Path path = new Path(parent, name, index);
+        if (list)
+        {
+            List<?> oldList = (List<?>) oldValue;
+            List<?> newList = (List<?>) newValue;
+            int size = Math.max(oldList.size(), newList.size());
+            for (int i = 0; i < size; i++)
+            {
+                compare(path, null, i, i < oldList.size() ? oldList.get(i) : null, i < newList.size() ? newList.get(i) : null);
+            }
+        } else if (array)
+        {
+            Object[] oldArray = (Object[]) oldValue;
+            Object[] newArray = (Object[]) newValue;
+            int size = Math.max(oldArray.length, newArray.length);
+            for (int i = 0; i < size; i++)
+            {
+                compare(path, null, i, i < oldArray.length ? oldArray[i] : null, i < newArray.length ? newArray[i] : null);
+            }
+        } else if (map)
+        {
+            Map<?, ?> oldMap = (Map<?, ?>) oldValue;
+            Map<?, ?> newMap = (Map<?, ?>) newValue;
+            for (Map.Entry<?, ?> entry : oldMap.entrySet())
+            {
+                compare(path, String.valueOf(entry.getKey()), -1, entry.getValue(), newMap.get(entry.getKey()));
+            }
+            for (Map.Entry<?, ?> entry : newMap.entrySet())
+            {
+                if (!oldMap.containsKey(entry.getKey()))
+                {
+                    compare(path, String.valueOf(entry.getKey()), -1, null, entry.getValue());
+                }
+            }
+        } else
+        {
+            compareBean(path, oldValue, newValue, BeanMetadata.of(oldValue.getClass()));
+        }
+        visiting.remove(oldValue);
+        return true;
+    }
+
+    /**
+     * ObjectUtils.isEmpty 와 같은 기준. property 마다 호출하므로 자주 쓰는 타입을 먼저 확인한다.
+     * (interface instanceof 가 실패하는 경우가 class 비교보다 훨씬 느리다.)
+     */
+    private static boolean isEmpty (Object value)
+    {
+        if (value == null)
+        {
+            return true;
+        } else if (value instanceof String str)
+        {
+            return str.isEmpty();
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>)
+        {
+            return false;
+        } else if (value instanceof CharSequence chars)
+        {
+            return chars.length() == 0;
+        } else if (value instanceof Collection<?> collection)
+        {
+            return collection.isEmpty();
+        } else if (value instanceof Map<?, ?> map)
+        {
+            return map.isEmpty();
+        } else if (value instanceof Optional<?> optional)
+        {
+            return optional.isEmpty();
+        }
+        return value.getClass().isArray() && Array.getLength(value) == 0;
+    }
+
+    private static boolean valueEquals (Object oldValue, Object newValue)
+    {
+        if (oldValue == null || newValue == null)
+        {
+            return oldValue == newValue;
+        }
+        if (oldValue instanceof BigDecimal oldDecimal && newValue instanceof BigDecimal newDecimal)
+        {
+            return oldDecimal.compareTo(newDecimal) == 0;
+        }
+        if (oldValue.getClass().isArray())
+        {
+            return Objects.deepEquals(oldValue, newValue);
+        }
+        return oldValue.equals(newValue);
+    }
+
+    /**
+     * 비교 중인 경로. 변경이 있을 때만 문자열로 만든다.
+     */
+    private record Path(Path parent, String name, int index)
+    {
+        static String toString (Path parent, String name, int index)
+        {
+            if (parent == null)
+            {
+                return name != null ? name : "[" + index + "]";
+            }
+            StringBuilder sb = new StringBuilder();
+            parent.appendTo(sb);
+            append(sb, name, index);
+            return sb.toString();
+        }
+
+        void appendTo (StringBuilder sb)
+        {
+            if (parent != null)
+            {
+                parent.appendTo(sb);
+            }
+            append(sb, name, index);
+        }
+
+        private static void append (StringBuilder sb, String name, int index)
+        {
+            if (name != null)
+            {
+                if (sb.length() > 0)
+                {
+                    sb.append('.');
+                }
+                sb.append(name);
+            } else
+            {
+                sb.append('[').append(index).append(']');
+            }
+        }
+    }
+}
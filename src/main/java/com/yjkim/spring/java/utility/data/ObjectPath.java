@@ -0,0 +1,432 @@
+package com.yjkim.spring.java.utility.data;
+
+import com.sun.jdi.InternalException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 분석해 둔 객체 경로 ({@link ReflectionUtil#getValueByPath(Object, String)} 문법)
+ * <pre>
+ *     경로 문자열은 한번만 분석하고, 조회 시에는 단계마다 Map.get / List.get / 배열 / getter 로 내려간다.
+ *     bean 의 getter 는 단계 별로 마지막에 사용한 class 의 accessor 를 기억해 두므로 다시 찾지 않는다.
+ *
+ *     private static final ObjectPath USER_ID = ObjectPath.compile("data.users[0].id");
+ *     Object userId = USER_ID.getValue(response);
+ *
+ *     경로 문법 : 키(property) 는 '.' 로, List / 배열 index 는 [n] 으로 구분한다. (ex. key1.key2[0].key3)
+ *     경로가 존재하지 않으면 {@link InternalException} 을 던진다.
+ *     여러 경로를 한 객체에서 조회할 때는 공통 prefix 를 한번만 조회하는 {@link Batch} 를 사용한다.
+ * </pre>
+ */
+public final class ObjectPath
+{
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, ObjectPath> CACHE = new ConcurrentHashMap<>();
+    private static final Pattern LIST_INDEX = Pattern.compile("\\[[0-9]+\\]");
+
+    private final String path;
+    /**
+     * 단계 별 키 (index 단계는 null)
+     */
+    private final String[] keys;
+    /**
+     * 단계 별 index (키 단계는 -1)
+     */
+    private final int[] indexes;
+    /**
+     * 단계 별 마지막 bean getter
+     */
+    private final ReaderCache[] readers;
+
+    private ObjectPath (String path, String[] keys, int[] indexes)
+    {
+        this.path = path;
+        this.keys = keys;
+        this.indexes = indexes;
+        this.readers = new ReaderCache[keys.length];
+    }
+
+    /**
+     * 경로 문자열을 분석한다. 같은 경로는 cache 된 객체를 반환한다.
+     *
+     * @param path 경로 (ex. "key1.key2[0].key3")
+     * @return ObjectPath
+     */
+    public static ObjectPath compile (String path)
+    {
+        if (path == null)
+        {
+            throw new IllegalArgumentException("Object path is null.");
+        }
+        ObjectPath compiled = CACHE.get(path);
+        if (compiled != null)
+        {
+            return compiled;
+        }
+        compiled = parse(path);
+        if (CACHE.size() < CACHE_LIMIT)
+        {
+            CACHE.putIfAbsent(path, compiled);
+        }
+        return compiled;
+    }
+
+    private static ObjectPath parse (String path)
+    {
+        List<String> keys = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (String segment : path.split("\\."))
+        {
+            Matcher matcher = LIST_INDEX.matcher(segment);
+            if (!matcher.find())
+            {
+                keys.add(segment);
+                indexes.add(-1);
+                continue;
+            }
+
+            String key = segment.substring(0, matcher.start());
+            if (StringUtils.isNotBlank(key))
+            {
+                keys.add(key);
+                indexes.add(-1);
+            }
+            do
+            {
+                String group = matcher.group();
+                keys.add(null);
+                indexes.add(Integer.parseInt(group.substring(1, group.length() - 1)));
+            } while (matcher.find());
+        }
+
+        int[] indexArray = new int[indexes.size()];
+        for (int i = 0; i < indexArray.length; i++)
+        {
+            indexArray[i] = indexes.get(i);
+        }
+        return new ObjectPath(path, keys.toArray(new String[0]), indexArray);
+    }
+
+    /**
+     * 경로의 값을 구한다.
+     *
+     * @param obj 시작 객체 (Map, List, 배열 또는 bean)
+     * @return 값 (Map 에 키가 없거나 getter 가 null 을 반환하면 null)
+     * @throws InternalException 중간 객체가 Map / bean 이 아니거나, List / 배열이 아니거나, index 가 크기보다 큰 경우
+     */
+    public Object getValue (Object obj)
+    {
+        Object value = obj;
+        for (int i = 0; i < keys.length; i++)
+        {
+            value = step(i, value);
+        }
+        return value;
+    }
+
+    /**
+     * 경로 단계 수
+     */
+    public int depth ()
+    {
+        return keys.length;
+    }
+
+    /**
+     * 해당 단계의 키 (index 단계는 null)
+     */
+    public String key (int depth)
+    {
+        return keys[depth];
+    }
+
+    /**
+     * 해당 단계의 index (키 단계는 -1)
+     */
+    public int index (int depth)
+    {
+        return indexes[depth];
+    }
+
+    private Object step (int depth, Object value)
+    {
+        String key = keys[depth];
+        if (key == null)
+        {
+            return element(value, indexes[depth]);
+        }
+        if (value instanceof Map<?, ?> map)
+        {
+            return map.get(key);
+        }
+        if (value == null)
+        {
+            throw new InternalException("The target object is not Map.");
+        }
+
+        ReaderCache cache = readers[depth];
+        if (cache == null || cache.type != value.getClass())
+        {
+            // 단계마다 같은 class 가 반복되는 것이 보통이므로 마지막 class 만 기억한다.
+            cache = new ReaderCache(value.getClass(), BeanMetadata.of(value.getClass()).getReader(key));
+            readers[depth] = cache;
+        }
+        if (cache.reader == null)
+        {
+            throw new InternalException("The target object is not Map.");
+        }
+        return cache.reader.apply(value);
+    }
+
+    private static Object element (Object value, int index)
+    {
+        if (value instanceof List<?> list)
+        {
+            if (list.size() <= index)
+            {
+                throw new InternalException("index more then list size.");
+            }
+            return list.get(index);
+        }
+        if (value instanceof Object[] array)
+        {
+            if (array.length <= index)
+            {
+                throw new InternalException("index more then list size.");
+            }
+            return array[index];
+        }
+        if (value != null && value.getClass().isArray())
+        {
+            if (Array.getLength(value) <= index)
+            {
+                throw new InternalException("index more then list size.");
+            }
+            return Array.get(value, index);
+        }
+        throw new InternalException("The target object is not List.");
+    }
+
+    @Override
+    public boolean equals (Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ObjectPath other))
+        {
+            return false;
+        }
+        return Arrays.equals(keys, other.keys) && Arrays.equals(indexes, other.indexes);
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(indexes);
+    }
+
+    @Override
+    public String toString ()
+    {
+        return path;
+    }
+
+    private record ReaderCache(Class<?> type, Function<Object, Object> reader)
+    {
+    }
+
+    /**
+     * 여러 경로를 한 객체에서 조회한다.
+     * <pre>
+     *     경로는 prefix trie 로 합쳐 두므로 공통 prefix 는 한번만 조회한다.
+     *     생성 후에는 불변이므로 여러 thread 에서 공유해도 된다.
+     *
+     *     private static final ObjectPath.Batch COLUMNS = ObjectPath.Batch.of("user.id", "user.name", "items[0].sku");
+     *     Object[] values = COLUMNS.getValues(order);
+     *
+     *     상수로 두기 어려우면 {@link #compile(String...)} 로 cache 된 Batch 를 사용한다.
+     * </pre>
+     */
+    public static final class Batch
+    {
+        private static final Map<List<String>, Batch> CACHE = new ConcurrentHashMap<>();
+
+        private final ObjectPath[] paths;
+        private final Node root;
+
+        public Batch (List<ObjectPath> paths)
+        {
+            if (paths == null || paths.isEmpty())
+            {
+                throw new IllegalArgumentException("Object path is empty.");
+            }
+            this.paths = paths.toArray(new ObjectPath[0]);
+            Builder builder = new Builder(null, -1);
+            for (int i = 0; i < this.paths.length; i++)
+            {
+                builder.add(this.paths[i], 0, i);
+            }
+            this.root = builder.build();
+        }
+
+        /**
+         * @param paths 경로 목록 ({@link ObjectPath#compile(String)} 문법)
+         */
+        public static Batch of (String... paths)
+        {
+            List<ObjectPath> compiled = new ArrayList<>(paths.length);
+            for (String path : paths)
+            {
+                compiled.add(ObjectPath.compile(path));
+            }
+            return new Batch(compiled);
+        }
+
+        /**
+         * 경로 목록을 묶는다. 같은 경로 목록이면 cache 된 Batch 를 반환한다. (최대 {@link #CACHE_LIMIT} 개)
+         *
+         * @param paths 경로 목록 ({@link ObjectPath#compile(String)} 문법)
+         */
+        public static Batch compile (String... paths)
+        {
+            List<String> key = Arrays.asList(paths.clone());
+            Batch batch = CACHE.get(key);
+            if (batch != null)
+            {
+                return batch;
+            }
+            batch = of(paths);
+            if (CACHE.size() < CACHE_LIMIT)
+            {
+                CACHE.putIfAbsent(key, batch);
+            }
+            return batch;
+        }
+
+        /**
+         * 경로 수
+         */
+        public int size ()
+        {
+            return paths.length;
+        }
+
+        /**
+         * 모든 경로의 값을 구한다.
+         *
+         * @param obj 시작 객체
+         * @return 경로 순서의 값 배열
+         * @throws InternalException 경로가 존재하지 않는 경우 ({@link ObjectPath#getValue(Object)} 와 같다.)
+         */
+        public Object[] getValues (Object obj)
+        {
+            Object[] values = new Object[paths.length];
+            visit(root, obj, values);
+            return values;
+        }
+
+        /**
+         * 모든 경로의 값을 구한다.
+         *
+         * @param obj 시작 객체
+         * @return 경로 문자열 - 값 Map (경로 순서)
+         */
+        public Map<String, Object> getValueMap (Object obj)
+        {
+            Object[] values = getValues(obj);
+            Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (paths.length / 0.75f) + 1));
+            for (int i = 0; i < paths.length; i++)
+            {
+                map.put(paths[i].toString(), values[i]);
+            }
+            return map;
+        }
+
+        private void visit (Node node, Object value, Object[] values)
+        {
+            for (int slot : node.slots)
+            {
+                values[slot] = value;
+            }
+            for (Node child : node.children)
+            {
+                visit(child, child.path.step(child.depth, value), values);
+            }
+        }
+    }
+
+    /**
+     * 경로 prefix trie 의 노드. 단계 조회는 그 단계를 처음 추가한 경로 (path, depth) 로 한다.
+     */
+    private record Node(ObjectPath path, int depth, int[] slots, Node[] children)
+    {
+    }
+
+    private static final class Builder
+    {
+        private final ObjectPath path;
+        private final int depth;
+        private final List<Integer> slots = new ArrayList<>();
+        private final Map<String, Builder> keyChildren = new HashMap<>();
+        private final Map<Integer, Builder> indexChildren = new HashMap<>();
+        private final List<Builder> children = new ArrayList<>();
+
+        Builder (ObjectPath path, int depth)
+        {
+            this.path = path;
+            this.depth = depth;
+        }
+
+        void add (ObjectPath target, int from, int slot)
+        {
+            if (from == target.depth())
+            {
+                slots.add(slot);
+                return;
+            }
+            String key = target.key(from);
+            Builder child = key != null ? keyChildren.get(key) : indexChildren.get(target.index(from));
+            if (child == null)
+            {
+                child = new Builder(target, from);
+                children.add(child);
+                if (key != null)
+                {
+                    keyChildren.put(key, child);
+                } else
+                {
+                    indexChildren.put(target.index(from), child);
+                }
+            }
+            child.add(target, from + 1, slot);
+        }
+
+        Node build ()
+        {
+            int[] slotArray = new int[slots.size()];
+            for (int i = 0; i < slotArray.length; i++)
+            {
+                slotArray[i] = slots.get(i);
+            }
+            Node[] childArray = new Node[children.size()];
+            for (int i = 0; i < childArray.length; i++)
+            {
+                childArray[i] = children.get(i).build();
+            }
+            return new Node(path, depth, slotArray, childArray);
+        }
+    }
+}
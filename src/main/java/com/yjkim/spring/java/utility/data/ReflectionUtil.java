@@ -1,19 +1,14 @@
 package com.yjkim.spring.java.utility.data;
 
 import com.sun.jdi.InternalException;
-import com.yjkim.spring.java.utility.data.map.MapUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringUtils;
 
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static java.util.Collections.EMPTY_MAP;
 
@@ -24,8 +19,6 @@ import static java.util.Collections.EMPTY_MAP;
 public class ReflectionUtil
 {
 
-    private static final String PATTERN_LIST_INDEX = "\\[[0-9]+\\]";
-    private static final String SPLIT_CHAR_KEY = "\\.";
     private static final Class<?>[] EMPTY_CLAZZ = new Class<?>[]{};
 
     /**
@@ -94,6 +87,7 @@ public class ReflectionUtil
 
     /**
      * 클래스에 속한 Property Descriptor 목록을 구해 줍니다.
+     * 클래스 별로 한번만 분석하며 ({@link BeanMetadata}) 변경할 수 없는 목록을 반환한다.
      *
      * @param clazz 검색하는 클래스.
      * @return 클래스에 속한 모든 프로퍼티 목록 ({@link PropertyDescriptor} List)
@@ -110,35 +104,7 @@ public class ReflectionUtil
             return null;
         }
 
-        List<PropertyDescriptor> propertyList = new ArrayList<>();
-
-        try
-        {
-            BeanInfo beanInfo = Introspector.getBeanInfo(clazz);
-            if (beanInfo != null)
-            {
-                PropertyDescriptor[] descriptors = beanInfo.getPropertyDescriptors();
-                if (descriptors != null)
-                {
-                    for (PropertyDescriptor descriptor : descriptors)
-                    {
-                        if (descriptor.getPropertyType() == Class.class)
-                        {
-                            continue;
-                        }
-                        propertyList.add(descriptor);
-                    }
-                }
-            }
-        } catch (IntrospectionException e)
-        {
-            if (log.isWarnEnabled())
-            {
-                log.warn(e.getMessage(), e);
-            }
-        }
-
-        return propertyList;
+        return BeanMetadata.of(clazz).getPropertyDescriptors();
     }
 
     /**
@@ -254,6 +220,7 @@ public class ReflectionUtil
      * object에서 path의 값을 구한다.
      * path가 존재하지 않는다면 {@link InternalException} throw한다.
      * ex) path : key1.key2[0].key3
+     * Map, List, 배열 및 bean property (getter) 를 따라간다. path 는 한번만 분석해서 재사용한다. ({@link ObjectPath})
      *
      * @param obj
      * @param path
@@ -261,58 +228,20 @@ public class ReflectionUtil
      */
     public static Object getValueByPath (Object obj, String path)
     {
+        return ObjectPath.compile(path).getValue(obj);
+    }
 
-        Object value = obj;
-
-        String[] paths = path.split(SPLIT_CHAR_KEY);
-        Pattern pattern = Pattern.compile(PATTERN_LIST_INDEX);
-
-        for (String p : paths)
-        {
-            Matcher matcher = pattern.matcher(p);
-            if (matcher.find())
-            {
-                String mapKey = p.substring(0, matcher.start());
-                if (StringUtils.isNotBlank(mapKey))
-                {
-                    if (value instanceof Map)
-                    {
-                        value = ((Map<?, ?>) value).get(mapKey);
-                    } else
-                    {
-                        throw new InternalException("The target object is not Map.");
-                    }
-                }
-
-                matcher.reset();
-                while (matcher.find())
-                {
-                    String group = matcher.group();
-                    int idx = Integer.parseInt(group.substring(1, group.length() - 1));
-                    if (obj instanceof List)
-                    {
-                        if (((List<?>) value).size() <= idx)
-                        {
-                            throw new InternalException("index more then list size.");
-                        }
-                        value = ((List<?>) value).get(idx);
-                    } else
-                    {
-                        throw new InternalException("The target object is not List.");
-                    }
-                }
-            } else
-            {
-                if (value instanceof Map)
-                {
-                    value = ((Map<?, ?>) value).get(p);
-                } else
-                {
-                    throw new InternalException("The target object is not Map.");
-                }
-            }
-        }
-        return value;
+    /**
+     * object에서 여러 path의 값을 구한다. 공통 prefix 는 한번만 조회한다. ({@link ObjectPath.Batch})
+     * path가 존재하지 않는다면 {@link InternalException} throw한다.
+     *
+     * @param obj
+     * @param paths
+     * @return path - 값 Map (paths 순서)
+     */
+    public static Map<String, Object> getValuesByPath (Object obj, String... paths)
+    {
+        return ObjectPath.Batch.compile(paths).getValueMap(obj);
     }
 
     /**
@@ -328,9 +257,39 @@ public class ReflectionUtil
         {
             return null;
         }
+        if (m.getParameterCount() != 0 || Modifier.isStatic(m.getModifiers()))
+        {
+            try
+            {
+                Object obj = m.invoke(o);
+                return ObjectUtils.isEmpty(obj) ? null : obj;
+            } catch (IllegalAccessException |
+                     InvocationTargetException |
+                     IllegalArgumentException ex)
+            {
+                log.error(ex.getMessage(), ex);
+                return null;
+            }
+        }
+        return invokeGetMethod(o, MethodAccessors.getter(m));
+    }
+
+    /**
+     * Object의 Getter accessor 실행 ({@link BeanMetadata#getReader(String)} 등)
+     *
+     * @param o      객체
+     * @param getter getter accessor
+     * @return 반환 값. 빈 값이거나 예외가 발생하면 null
+     */
+    public static Object invokeGetMethod (Object o, Function<Object, Object> getter)
+    {
+        if (o == null || getter == null)
+        {
+            return null;
+        }
         try
         {
-            Object obj = m.invoke(o);
+            Object obj = getter.apply(o);
             if (ObjectUtils.isEmpty(obj))
             {
                 return null;
@@ -338,9 +297,7 @@ public class ReflectionUtil
             {
                 return obj;
             }
-        } catch (IllegalAccessException |
-                 InvocationTargetException |
-                 IllegalArgumentException ex)
+        } catch (Exception ex)
         {
             log.error(ex.getMessage(), ex);
             return null;
@@ -356,8 +313,7 @@ public class ReflectionUtil
      */
     public static Object invokeGetMethod (Object obj, String field)
     {
-        List<PropertyDescriptor> pdList = ReflectionUtil.getPropertyDescriptors(obj.getClass());
-        return invokeGetMethod(obj, field, pdList);
+        return invokeGetMethod(obj, BeanMetadata.of(obj.getClass()).getReader(field));
     }
 
     /**
@@ -393,12 +349,39 @@ public class ReflectionUtil
         {
             return;
         }
+        if (m.getParameterCount() != 1 || Modifier.isStatic(m.getModifiers()))
+        {
+            try
+            {
+                m.invoke(obj, val);
+            } catch (IllegalAccessException |
+                     InvocationTargetException |
+                     IllegalArgumentException ex)
+            {
+                log.error(ex.getMessage(), ex);
+            }
+            return;
+        }
+        invokeSetMethod(obj, MethodAccessors.setter(m), val);
+    }
+
+    /**
+     * Object의 Setter accessor 실행 ({@link BeanMetadata#getWriter(String)} 등). 예외는 log 만 남긴다.
+     *
+     * @param obj    객체
+     * @param setter setter accessor
+     * @param val    파라미터 값
+     */
+    public static void invokeSetMethod (Object obj, BiConsumer<Object, Object> setter, Object val)
+    {
+        if (obj == null || setter == null)
+        {
+            return;
+        }
         try
         {
-            m.invoke(obj, val);
-        } catch (IllegalAccessException |
-                 InvocationTargetException |
-                 IllegalArgumentException ex)
+            setter.accept(obj, val);
+        } catch (Exception ex)
         {
             log.error(ex.getMessage(), ex);
         }
@@ -413,8 +396,7 @@ public class ReflectionUtil
      */
     public static void invokeSetMethod (Object obj, String field, Object value)
     {
-        List<PropertyDescriptor> pdList = ReflectionUtil.getPropertyDescriptors(obj.getClass());
-        invokeSetMethod(obj, field, value, pdList);
+        invokeSetMethod(obj, BeanMetadata.of(obj.getClass()).getWriter(field), value);
     }
 
     /**
@@ -438,6 +420,10 @@ public class ReflectionUtil
     }
 
     /**
+     * 같은 이름의 property 를 복사한다. (shallow copy)
+     * (원본 class, 대상 class) 조합 별로 한번만 분석한 {@link BeanCopier} 를 사용하며, 타입이 다른 property 는 변환해서 복사한다.
+     * 깊은 복사는 {@link BeanCopier.Mode#DEEP} 을 사용한다.
+     *
      * @param src
      * @param target
      */
@@ -447,11 +433,7 @@ public class ReflectionUtil
         {
             return;
         }
-
-        List<PropertyDescriptor> srcPropertyDescriptors = ReflectionUtil.getPropertyDescriptors(src.getClass());
-        List<PropertyDescriptor> targetPropertydescriptors = ReflectionUtil.getPropertyDescriptors(target.getClass());
-
-        deepCopyObject(srcPropertyDescriptors, src, targetPropertydescriptors, target);
+        BeanCopier.forObjects(src.getClass(), target.getClass(), BeanCopier.Mode.SHALLOW).copy(src, target);
     }
 
     /**
@@ -481,13 +463,16 @@ public class ReflectionUtil
                 continue;
             }
 
-            PropertyDescriptor propertyDescriptor = tPdMap.get(sPd.getName());
+            Method writeMethod = tPdMap.get(sPd.getName()).getWriteMethod();
+            if (writeMethod == null)
+            {
+                continue;
+            }
             try
             {
-                Object value = sPd.getReadMethod().invoke(src);
-                propertyDescriptor.getWriteMethod().invoke(target, value);
-            } catch (IllegalAccessException |
-                     InvocationTargetException e)
+                Object value = MethodAccessors.getter(sPd.getReadMethod()).apply(src);
+                MethodAccessors.setter(writeMethod).accept(target, value);
+            } catch (Exception e)
             {
                 log.error(e.getMessage(), e);
             }
@@ -496,6 +481,7 @@ public class ReflectionUtil
 
     /**
      * 두개의 Object를 비교해서 다른 new값을 리턴한다.
+     * 빈 값은 null 로 보고 비교한다. 변경 목록이 필요하면 {@link ObjectDiff#diff(Object, Object, ObjectDiff.Option...)} 를 사용한다.
      *
      * @param obj1 (old)
      * @param obj2 (new)
@@ -507,6 +493,12 @@ public class ReflectionUtil
         {
             return EMPTY_MAP;
         }
-        return MapUtil.compareMapObject(MapUtil.converObjectToMap(obj1), MapUtil.converObjectToMap(obj2));
+        List<ObjectDiff.Change> changes = ObjectDiff.diff(obj1, obj2, ObjectDiff.Option.EMPTY_AS_NULL);
+        Map<String, Object> result = new HashMap<>();
+        for (ObjectDiff.Change change : changes)
+        {
+            result.put(change.path(), change.newValue());
+        }
+        return result;
     }
 }
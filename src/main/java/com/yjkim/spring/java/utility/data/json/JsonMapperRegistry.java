@@ -0,0 +1,483 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.yjkim.spring.java.utility.config.JacksonConfig;
+import com.yjkim.spring.java.utility.config.JsonMapperInitializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 공유 ObjectMapper / ObjectReader / ObjectWriter 저장소
+ * <pre>
+ *     ObjectMapper 는 만들 때마다 serializer/deserializer cache 를 새로 채워야 하므로,
+ *     옵션 조합 별로 한번만 만들고 ObjectReader / ObjectWriter 는 옵션 + 타입 별로 재사용한다.
+ *     모두 thread-safe 하다.
+ *
+ *     JsonMapperRegistry.reader(User.class, Option.IGNORE_UNKNOWN).readValue(json);
+ *     JsonMapperRegistry.writer(Option.PRETTY_PRINT).writeValueAsString(obj);
+ *
+ *     Class 로 변환하는 convert 는 {@link ObjectConverter} 의 복사 계획을 사용한다.
+ *
+ *     {@link #install(ObjectMapper, ObjectMapper)} 로 기본 mapper 를 교체하면 cache 는 새로 만든다.
+ *     (Spring 에서는 {@link JsonMapperInitializer} 가 JacksonConfig 의 mapper 를 그대로 등록하여
+ *     Spring MVC 와 serializer / deserializer cache 를 공유한다.)
+ *     옵션을 지정하지 않은 설정은 기본 mapper 의 설정을 따른다.
+ *     단, 읽기는 기본 mapper 설정과 관계없이 엄격하게 한다. (알 수 없는 속성은 오류, 제어 문자 허용 안함)
+ *     읽기 설정은 mapper 를 복사하지 않고 ObjectReader 단위로 적용하므로 cache 를 공유한다.
+ * </pre>
+ */
+@Slf4j
+public class JsonMapperRegistry
+{
+    /**
+     * mapper 옵션
+     */
+    public enum Option
+    {
+        /**
+         * null 을 빈 문자열로 쓴다.
+         */
+        NULL_AS_EMPTY,
+        /**
+         * 알 수 없는 속성을 무시한다. (reader / convert 에 적용하며, 기본 mapper 를 그대로 쓴다.)
+         */
+        IGNORE_UNKNOWN,
+        /**
+         * 들여쓰기 하여 쓴다.
+         */
+        PRETTY_PRINT,
+        /**
+         * snake_case 속성명을 사용한다.
+         */
+        SNAKE_CASE,
+        /**
+         * 속성이 없는 객체도 쓴다. ({} 로 출력)
+         */
+        ALLOW_EMPTY_BEANS;
+
+        final int bit = 1 << ordinal();
+    }
+
+    static final int DEFAULT = 0;
+    /**
+     * ObjectReader 단위로 적용하는 옵션 (mapper 를 따로 만들지 않는다.)
+     */
+    private static final int READ_OPTIONS = Option.IGNORE_UNKNOWN.bit;
+    private static final int MASK_COUNT = 1 << Option.values().length;
+
+    private static volatile State state = new State(defaultMapper(), null);
+
+    public JsonMapperRegistry ()
+    {
+        throw new IllegalStateException("JsonMapperRegistry is utility class.");
+    }
+
+    /**
+     * 기본 mapper 를 교체한다. base / snakeBase 는 그대로 사용하고, 그 외 옵션 별 mapper 는 복사하여 만든다.
+     *
+     * @param base      기본 mapper
+     * @param snakeBase SNAKE_CASE 옵션의 기본 mapper (null 이면 base 에 snake_case 를 적용)
+     */
+    public static void install (ObjectMapper base, ObjectMapper snakeBase)
+    {
+        state = new State(base, snakeBase);
+        log.debug("json mapper installed. base : {}, snake : {}", base.getClass().getName(),
+                snakeBase == null ? null : snakeBase.getClass().getName());
+    }
+
+    /**
+     * 현재 기본 mapper (와 snake mapper) 의 복사본에 module 을 등록하여 교체한다.
+     * 이후 {@link #install(ObjectMapper, ObjectMapper)} / {@link #reset()} 하면 등록한 module 은 사라진다.
+     *
+     * <pre>
+     *     JsonMapperRegistry.registerModule(new BlackbirdModule());
+     * </pre>
+     *
+     * @param module 등록할 module
+     */
+    public static void registerModule (Module module)
+    {
+        State s = state;
+        ObjectMapper base = s.base.copy().registerModule(module);
+        ObjectMapper snakeBase = s.snakeBase == null ? null : s.snakeBase.copy().registerModule(module);
+        state = new State(base, snakeBase);
+        log.debug("json mapper module registered : {}", module.getModuleName());
+    }
+
+    /**
+     * 기본 mapper 를 Spring 없이 사용할 때의 mapper 로 되돌린다.
+     */
+    public static void reset ()
+    {
+        state = new State(defaultMapper(), null);
+    }
+
+    /**
+     * Spring 없이 사용할 때의 기본 mapper. 날짜 형식은 {@link JacksonConfig#javaTimeModule()} 을 따르고,
+     * 시스템 속성 {@link JacksonConfig#PROP_BLACKBIRD} 가 true 이면 Blackbird 모듈을 등록한다.
+     */
+    static ObjectMapper defaultMapper ()
+    {
+        ObjectMapper mapper = new ObjectMapper().registerModule(JacksonConfig.javaTimeModule());
+        if (Boolean.getBoolean(JacksonConfig.PROP_BLACKBIRD))
+        {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
+    }
+
+    /**
+     * 옵션 별 mapper 의 복사본. JsonUtil / Spring 이 쓰는 mapper 가 아니므로 설정을 바꿔도 영향이 없다.
+     * 읽기 설정은 reader 와 같다. (엄격하게 읽고, IGNORE_UNKNOWN 이면 알 수 없는 속성을 무시한다.)
+     * 옵션 조합 별로 한번 만들어 공유하므로, 변환만 할 때는 reader / writer / convert 를 사용한다.
+     */
+    public static ObjectMapper mapper (Option... options)
+    {
+        return state.exported(mask(options));
+    }
+
+    public static ObjectReader reader (Type type, Option... options)
+    {
+        return reader(type, mask(options));
+    }
+
+    public static ObjectReader reader (TypeReference<?> typeRef, Option... options)
+    {
+        return reader(typeRef.getType(), mask(options));
+    }
+
+    /**
+     * 타입을 지정하지 않은 writer
+     */
+    public static ObjectWriter writer (Option... options)
+    {
+        return writer(mask(options));
+    }
+
+    /**
+     * 선언 타입 기준 writer (generic collection 등)
+     */
+    public static ObjectWriter writer (Type type, Option... options)
+    {
+        return writer(type, mask(options));
+    }
+
+    public static <T> T convert (Object obj, Class<T> classType, Option... options)
+    {
+        return convert(obj, (Type) classType, mask(options));
+    }
+
+    public static <T> T convert (Object obj, TypeReference<T> typeRef, Option... options)
+    {
+        return convert(obj, typeRef.getType(), mask(options));
+    }
+
+    /**
+     * 옵션 별 mapper 의 Object 변환기 (복사 계획 cache 통계 조회 등)
+     */
+    public static ObjectConverter converter (Option... options)
+    {
+        return state.converter(mask(options));
+    }
+
+    public static TypeFactory typeFactory ()
+    {
+        return state.base.getTypeFactory();
+    }
+
+    public static JavaType constructType (Type type)
+    {
+        return typeFactory().constructType(type);
+    }
+
+    static int mask (Option... options)
+    {
+        int mask = 0;
+        for (Option option : options)
+        {
+            mask |= option.bit;
+        }
+        return mask;
+    }
+
+    static ObjectMapper mapper (int mask)
+    {
+        return state.mapper(mask);
+    }
+
+    static ObjectReader reader (Type type, int mask)
+    {
+        State s = state;
+        ObjectReader reader = s.readers[mask].get(type);
+        if (reader == null)
+        {
+            ObjectReader base = s.reader(mask);
+            reader = s.readers[mask].computeIfAbsent(type, t -> base.forType(base.getTypeFactory().constructType(t)));
+        }
+        return reader;
+    }
+
+    /**
+     * 타입을 지정하지 않은 reader (createParser, readTree 등)
+     */
+    static ObjectReader reader (int mask)
+    {
+        return state.reader(mask);
+    }
+
+    static ObjectWriter writer (int mask)
+    {
+        State s = state;
+        ObjectWriter writer = s.writers.get(mask);
+        if (writer == null)
+        {
+            writer = s.mapper(mask).writer();
+            if (!s.writers.compareAndSet(mask, null, writer))
+            {
+                writer = s.writers.get(mask);
+            }
+        }
+        return writer;
+    }
+
+    static ObjectWriter writer (Type type, int mask)
+    {
+        State s = state;
+        ObjectWriter writer = s.typedWriters[mask].get(type);
+        if (writer == null)
+        {
+            ObjectMapper mapper = s.mapper(mask);
+            writer = s.typedWriters[mask].computeIfAbsent(type, t -> mapper.writerFor(mapper.constructType(t)));
+        }
+        return writer;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T convert (Object obj, Type type, int mask)
+    {
+        if (type instanceof Class<?> classType)
+        {
+            return (T) state.converter(mask).convert(obj, classType);
+        }
+        State s = state;
+        return (T) s.converter(mask).convertValue(obj, s.mapper(mask).constructType(type));
+    }
+
+    /**
+     * 기본 mapper 의 설정 (module, 날짜 형식 등) 을 그대로 쓰는 Smile (binary json) mapper
+     * 알 수 없는 속성은 무시한다.
+     */
+    static ObjectMapper smileMapper ()
+    {
+        return state.smile();
+    }
+
+    static ObjectReader smileReader (Type type)
+    {
+        State s = state;
+        ObjectReader reader = s.smileReaders.get(type);
+        if (reader == null)
+        {
+            ObjectMapper mapper = s.smile();
+            reader = s.smileReaders.computeIfAbsent(type, t -> mapper.readerFor(mapper.constructType(t)));
+        }
+        return reader;
+    }
+
+    static ObjectWriter smileWriter ()
+    {
+        return state.smileWriter();
+    }
+
+    /**
+     * 기본 mapper 와 옵션 별 mapper, reader, writer cache
+     */
+    private static class State
+    {
+        private final ObjectMapper base;
+        private final ObjectMapper snakeBase;
+        private final AtomicReferenceArray<ObjectMapper> mappers = new AtomicReferenceArray<>(MASK_COUNT);
+        private final AtomicReferenceArray<ObjectMapper> exported = new AtomicReferenceArray<>(MASK_COUNT);
+        private final AtomicReferenceArray<ObjectReader> baseReaders = new AtomicReferenceArray<>(MASK_COUNT);
+        private final AtomicReferenceArray<ObjectWriter> writers = new AtomicReferenceArray<>(MASK_COUNT);
+        private final AtomicReferenceArray<ObjectConverter> converters = new AtomicReferenceArray<>(MASK_COUNT);
+        private final ConcurrentHashMap<Type, ObjectReader>[] readers;
+        private final ConcurrentHashMap<Type, ObjectWriter>[] typedWriters;
+        private final ConcurrentHashMap<Type, ObjectReader> smileReaders = new ConcurrentHashMap<>();
+        private volatile ObjectMapper smile;
+        private volatile ObjectWriter smileWriter;
+
+        @SuppressWarnings("unchecked")
+        State (ObjectMapper base, ObjectMapper snakeBase)
+        {
+            this.base = base;
+            this.snakeBase = snakeBase;
+            this.readers = new ConcurrentHashMap[MASK_COUNT];
+            this.typedWriters = new ConcurrentHashMap[MASK_COUNT];
+            for (int i = 0; i < MASK_COUNT; i++)
+            {
+                readers[i] = new ConcurrentHashMap<>();
+                typedWriters[i] = new ConcurrentHashMap<>();
+            }
+            this.mappers.set(DEFAULT, base);
+            if (snakeBase != null)
+            {
+                this.mappers.set(Option.SNAKE_CASE.bit, snakeBase);
+            }
+        }
+
+        ObjectMapper mapper (int mask)
+        {
+            mask &= ~READ_OPTIONS;
+            ObjectMapper mapper = mappers.get(mask);
+            if (mapper == null)
+            {
+                mapper = create(mask);
+                if (!mappers.compareAndSet(mask, null, mapper))
+                {
+                    mapper = mappers.get(mask);
+                }
+            }
+            return mapper;
+        }
+
+        /**
+         * 옵션 별 mapper 에 읽기 설정을 적용한 reader
+         */
+        ObjectReader reader (int mask)
+        {
+            ObjectReader reader = baseReaders.get(mask);
+            if (reader == null)
+            {
+                reader = mapper(mask).reader()
+                        .without(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS);
+                reader = (mask & Option.IGNORE_UNKNOWN.bit) != 0
+                        ? reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        : reader.with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+                if (!baseReaders.compareAndSet(mask, null, reader))
+                {
+                    reader = baseReaders.get(mask);
+                }
+            }
+            return reader;
+        }
+
+        ObjectMapper exported (int mask)
+        {
+            ObjectMapper mapper = exported.get(mask);
+            if (mapper == null)
+            {
+                mapper = mapper(mask).copy();
+                mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, (mask & Option.IGNORE_UNKNOWN.bit) == 0);
+                mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), false);
+                if (!exported.compareAndSet(mask, null, mapper))
+                {
+                    mapper = exported.get(mask);
+                }
+            }
+            return mapper;
+        }
+
+        ObjectConverter converter (int mask)
+        {
+            ObjectConverter converter = converters.get(mask);
+            if (converter == null)
+            {
+                converter = new ObjectConverter(mapper(mask), reader(mask));
+                if (!converters.compareAndSet(mask, null, converter))
+                {
+                    converter = converters.get(mask);
+                }
+            }
+            return converter;
+        }
+
+        ObjectMapper smile ()
+        {
+            ObjectMapper mapper = smile;
+            if (mapper == null)
+            {
+                synchronized (this)
+                {
+                    mapper = smile;
+                    if (mapper == null)
+                    {
+                        mapper = base.copyWith(new SmileFactory());
+                        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                        smile = mapper;
+                    }
+                }
+            }
+            return mapper;
+        }
+
+        ObjectWriter smileWriter ()
+        {
+            ObjectWriter writer = smileWriter;
+            if (writer == null)
+            {
+                writer = smile().writer();
+                smileWriter = writer;
+            }
+            return writer;
+        }
+
+        private ObjectMapper create (int mask)
+        {
+            boolean snake = (mask & Option.SNAKE_CASE.bit) != 0;
+            ObjectMapper mapper = snake && snakeBase != null ? snakeBase.copy() : base.copy();
+            if (snake && snakeBase == null)
+            {
+                mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+            }
+            if ((mask & Option.NULL_AS_EMPTY.bit) != 0)
+            {
+                DefaultSerializerProvider sp = new DefaultSerializerProvider.Impl();
+                sp.setNullValueSerializer(new NullSerializer());
+                mapper.setSerializerProvider(sp);
+            }
+            if ((mask & Option.PRETTY_PRINT.bit) != 0)
+            {
+                mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+            }
+            if ((mask & Option.ALLOW_EMPTY_BEANS.bit) != 0)
+            {
+                mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+            }
+            return mapper;
+        }
+    }
+
+    /**
+     * NullSerializer 클래스
+     * Json 변환 시 null일경우 빈 문자열로 치환
+     */
+    private static class NullSerializer extends JsonSerializer<Object>
+    {
+        public void serialize (Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException
+        {
+            jgen.writeString(StringUtils.EMPTY);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 분석해 둔 JsonNode 경로
+ * <pre>
+ *     경로 문자열은 한번만 분석하고, 조회 시에는 단계마다 get 1번으로 내려간다.
+ *     중간 경로가 없으면 null 을 반환한다. (부모 노드에 머무르지 않는다.)
+ *
+ *     private static final JsonNodePath USER_ID = JsonNodePath.compile("data.users[0].id");
+ *     Long userId = USER_ID.asLong(node);
+ *
+ *     경로 문법 : 필드는 '.' 로, 배열 index 는 [n] 으로 구분한다. (맨 앞의 "$" / "$." 는 무시)
+ *     '.' 이나 '[' 가 포함된 필드명은 {@link #of(String...)} 로 만든다.
+ * </pre>
+ */
+public final class JsonNodePath
+{
+    private static final int CACHE_LIMIT = 1024;
+    private static final Map<String, JsonNodePath> CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+    /**
+     * 단계 별 필드명 (배열 index 단계는 null)
+     */
+    private final String[] fields;
+    /**
+     * 단계 별 배열 index (필드 단계는 -1)
+     */
+    private final int[] indexes;
+
+    private JsonNodePath (String path, String[] fields, int[] indexes)
+    {
+        this.path = path;
+        this.fields = fields;
+        this.indexes = indexes;
+    }
+
+    /**
+     * 경로 문자열을 분석한다. 같은 경로는 cache 된 객체를 반환한다.
+     *
+     * @param path 경로 (ex. "data.items[0].name")
+     * @return JsonNodePath
+     */
+    public static JsonNodePath compile (String path)
+    {
+        if (path == null || path.isBlank())
+        {
+            throw new IllegalArgumentException("Json path is empty.");
+        }
+        JsonNodePath compiled = CACHE.get(path);
+        if (compiled != null)
+        {
+            return compiled;
+        }
+        compiled = parse(path);
+        if (CACHE.size() < CACHE_LIMIT)
+        {
+            CACHE.putIfAbsent(path, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 필드명 목록으로 경로를 만든다. 필드명은 분석하지 않고 그대로 사용한다.
+     *
+     * @param fieldPaths 필드명 목록
+     * @return JsonNodePath
+     */
+    public static JsonNodePath of (String... fieldPaths)
+    {
+        if (fieldPaths == null || fieldPaths.length == 0)
+        {
+            throw new IllegalArgumentException("Json path is empty.");
+        }
+        int[] indexes = new int[fieldPaths.length];
+        Arrays.fill(indexes, -1);
+        return new JsonNodePath(String.join(".", fieldPaths), fieldPaths.clone(), indexes);
+    }
+
+    private static JsonNodePath parse (String path)
+    {
+        List<String> fields = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int len = path.length();
+        int i = path.startsWith("$") ? 1 : 0;
+        boolean expectName = i == 0;
+        while (i < len)
+        {
+            char c = path.charAt(i);
+            if (c == '[')
+            {
+                int end = path.indexOf(']', i);
+                if (end < 0)
+                {
+                    throw new IllegalArgumentException("Invalid json path : " + path);
+                }
+                fields.add(null);
+                indexes.add(parseIndex(path, i + 1, end));
+                i = end + 1;
+                expectName = false;
+            } else if (c == '.')
+            {
+                if (expectName)
+                {
+                    throw new IllegalArgumentException("Invalid json path : " + path);
+                }
+                i++;
+                expectName = true;
+            } else
+            {
+                int end = i;
+                while (end < len && path.charAt(end) != '.' && path.charAt(end) != '[')
+                {
+                    end++;
+                }
+                if (!expectName)
+                {
+                    throw new IllegalArgumentException("Invalid json path : " + path);
+                }
+                fields.add(path.substring(i, end));
+                indexes.add(-1);
+                i = end;
+                expectName = false;
+            }
+        }
+        if (expectName || fields.isEmpty())
+        {
+            throw new IllegalArgumentException("Invalid json path : " + path);
+        }
+
+        int[] indexArray = new int[indexes.size()];
+        for (int k = 0; k < indexArray.length; k++)
+        {
+            indexArray[k] = indexes.get(k);
+        }
+        return new JsonNodePath(path, fields.toArray(new String[0]), indexArray);
+    }
+
+    private static int parseIndex (String path, int start, int end)
+    {
+        try
+        {
+            int index = Integer.parseInt(path.substring(start, end).trim());
+            if (index >= 0)
+            {
+                return index;
+            }
+        } catch (NumberFormatException e)
+        {
+            // fall through
+        }
+        throw new IllegalArgumentException("Invalid json path index : " + path);
+    }
+
+    /**
+     * 경로의 노드를 찾는다.
+     *
+     * @param node 시작 노드
+     * @return 노드. 경로가 없으면 null (값이 json null 이면 NullNode)
+     */
+    public JsonNode find (JsonNode node)
+    {
+        JsonNode current = node;
+        for (int i = 0; i < fields.length && current != null; i++)
+        {
+            current = fields[i] != null ? current.get(fields[i]) : current.get(indexes[i]);
+        }
+        return current;
+    }
+
+    /**
+     * 경로의 String 값 (JsonNode.asText)
+     */
+    public String asText (JsonNode node)
+    {
+        JsonNode found = find(node);
+        return found != null ? found.asText() : null;
+    }
+
+    /**
+     * 경로의 Boolean 값 (JsonNode.asBoolean)
+     */
+    public Boolean asBoolean (JsonNode node)
+    {
+        JsonNode found = find(node);
+        return found != null ? found.asBoolean() : null;
+    }
+
+    /**
+     * 경로의 Long 값 (JsonNode.asLong)
+     */
+    public Long asLong (JsonNode node)
+    {
+        JsonNode found = find(node);
+        return found != null ? found.asLong() : null;
+    }
+
+    /**
+     * 경로의 Integer 값 (JsonNode.asInt)
+     */
+    public Integer asInt (JsonNode node)
+    {
+        JsonNode found = find(node);
+        return found != null ? found.asInt() : null;
+    }
+
+    /**
+     * 경로의 Double 값 (JsonNode.asDouble)
+     */
+    public Double asDouble (JsonNode node)
+    {
+        JsonNode found = find(node);
+        return found != null ? found.asDouble() : null;
+    }
+
+    /**
+     * 경로 단계 수
+     */
+    public int depth ()
+    {
+        return fields.length;
+    }
+
+    /**
+     * 해당 단계의 필드명 (배열 index 단계는 null)
+     */
+    public String field (int depth)
+    {
+        return fields[depth];
+    }
+
+    /**
+     * 해당 단계의 배열 index (필드 단계는 -1)
+     */
+    public int index (int depth)
+    {
+        return indexes[depth];
+    }
+
+    /**
+     * from 단계부터의 하위 경로
+     */
+    JsonNodePath subPath (int from)
+    {
+        return new JsonNodePath(path, Arrays.copyOfRange(fields, from, fields.length),
+                Arrays.copyOfRange(indexes, from, indexes.length));
+    }
+
+    @Override
+    public boolean equals (Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof JsonNodePath other))
+        {
+            return false;
+        }
+        return Arrays.equals(fields, other.fields) && Arrays.equals(indexes, other.indexes);
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return 31 * Arrays.hashCode(fields) + Arrays.hashCode(indexes);
+    }
+
+    @Override
+    public String toString ()
+    {
+        return path;
+    }
+}
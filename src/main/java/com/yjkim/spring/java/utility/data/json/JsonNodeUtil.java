@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * JsonNode 타입 관련 유틸리티
+ * <pre>
+ *     반복 조회하는 경로는 {@link JsonNodePath#compile(String)} 로 만들어 두고 재사용한다.
+ * </pre>
  */
 public class JsonNodeUtil
 {
@@ -12,7 +15,7 @@ public class JsonNodeUtil
      *
      * @param node
      * @param fieldPaths 경로
-     * @return 문자 값
+     * @return 문자 값. 경로가 없으면 null
      */
     public static String jsonNodeToString (JsonNode node, String... fieldPaths)
     {
@@ -20,31 +23,33 @@ public class JsonNodeUtil
         {
             return null;
         }
+        JsonNode found = find(node, fieldPaths);
+        return found != null ? found.asText() : null;
+    }
 
-        if (fieldPaths.length == 1)
-        {
-            return node.has(fieldPaths[0]) ? node.get(fieldPaths[0]).asText() : null;
-        } else if (node.has(fieldPaths[0]))
+    /**
+     * 필드 이름을 차례로 따라간 노드 (경로 객체를 만들지 않는다.)
+     */
+    private static JsonNode find (JsonNode node, String... fieldPaths)
+    {
+        JsonNode current = node;
+        for (int i = 0; i < fieldPaths.length && current != null; i++)
         {
-            JsonNode tmp = node.get(fieldPaths[0]);
-
-            for (int i = 1; i < fieldPaths.length; i++)
-            {
-                if (tmp == null)
-                {
-                    return null;
-                }
-
-                if (tmp.has(fieldPaths[i]))
-                {
-                    tmp = tmp.get(fieldPaths[i]);
-                }
-            }
-
-            return tmp != null ? tmp.asText() : null;
+            current = current.get(fieldPaths[i]);
         }
+        return current;
+    }
 
-        return null;
+    /**
+     * JsonNode 해당 경로의 String 값 반환
+     *
+     * @param node 노드
+     * @param path 경로
+     * @return 문자 값. 경로가 없으면 null
+     */
+    public static String jsonNodeToString (JsonNode node, JsonNodePath path)
+    {
+        return node == null ? null : path.asText(node);
     }
 
     /**
@@ -52,7 +57,7 @@ public class JsonNodeUtil
      *
      * @param node       노드
      * @param fieldPaths 경로
-     * @return Boolean 값
+     * @return Boolean 값. 경로가 없으면 null
      */
     public static Boolean jsonNodeToBoolean (JsonNode node, String... fieldPaths)
     {
@@ -60,31 +65,20 @@ public class JsonNodeUtil
         {
             return null;
         }
+        JsonNode found = find(node, fieldPaths);
+        return found != null ? found.asBoolean() : null;
+    }
 
-        if (fieldPaths.length == 1)
-        {
-            return node.has(fieldPaths[0]) ? node.get(fieldPaths[0]).asBoolean() : null;
-        } else if (node.has(fieldPaths[0]))
-        {
-            JsonNode tmp = node.get(fieldPaths[0]);
-
-            for (int i = 1; i < fieldPaths.length; i++)
-            {
-                if (tmp == null)
-                {
-                    return null;
-                }
-
-                if (tmp.has(fieldPaths[i]))
-                {
-                    tmp = tmp.get(fieldPaths[i]);
-                }
-            }
-
-            return tmp != null ? tmp.asBoolean() : null;
-        }
-
-        return null;
+    /**
+     * JsonNode 해당 경로의 Boolean 값 반환
+     *
+     * @param node 노드
+     * @param path 경로
+     * @return Boolean 값. 경로가 없으면 null
+     */
+    public static Boolean jsonNodeToBoolean (JsonNode node, JsonNodePath path)
+    {
+        return node == null ? null : path.asBoolean(node);
     }
 
     /**
@@ -100,6 +94,19 @@ public class JsonNodeUtil
         {
             return null;
         }
-        return node.has(fieldPath) ? node.get(fieldPath).asLong() : null;
+        JsonNode found = node.get(fieldPath);
+        return found != null ? found.asLong() : null;
+    }
+
+    /**
+     * JsonNode 해당 경로의 Long 값 반환
+     *
+     * @param node 노드
+     * @param path 경로
+     * @return Long 값. 경로가 없으면 null
+     */
+    public static Long jsonNodeToLong (JsonNode node, JsonNodePath path)
+    {
+        return node == null ? null : path.asLong(node);
     }
 }
@@ -0,0 +1,651 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 경로의 값을 JsonParser 한번의 순회로 추출한다.
+ * <pre>
+ *     JsonNode 트리를 만들지 않고 token 을 읽으며, 경로에 포함되지 않은 하위 구조는 skipChildren 으로 건너뛴다.
+ *     경로는 prefix trie 로 합쳐 두므로 경로 수와 관계없이 문서를 한번만 읽고,
+ *     모든 경로를 찾으면 나머지 문서는 읽지 않는다.
+ *     생성 후에는 불변이므로 여러 thread 에서 공유해도 된다.
+ *
+ *     private static final JsonPathExtractor EXTRACTOR = JsonPathExtractor.of("id", "type", "meta.createdAt");
+ *     JsonPathExtractor.Result result = EXTRACTOR.extract(messageBytes);
+ *     String id = result.getString(0);
+ *     long createdAt = result.getLong(2, 0L);
+ *
+ *     값 : 문자열은 String, 정수는 Long (범위 밖이면 BigInteger), 실수는 Double, true/false 는 Boolean,
+ *          json null 은 null, 객체 / 배열은 JsonNode
+ *          정수 / 실수 / boolean 은 primitive 로 저장하므로 getLong(i, default) 등으로 읽으면 boxing 이 없다.
+ * </pre>
+ */
+public class JsonPathExtractor
+{
+    private final JsonNodePath[] paths;
+    private final Node root = new Node();
+
+    public JsonPathExtractor (List<JsonNodePath> paths)
+    {
+        if (paths == null || paths.isEmpty())
+        {
+            throw new IllegalArgumentException("Json path is empty.");
+        }
+        this.paths = paths.toArray(new JsonNodePath[0]);
+        for (int i = 0; i < this.paths.length; i++)
+        {
+            root.add(this.paths[i], 0, i);
+        }
+        root.prepare();
+    }
+
+    /**
+     * @param paths 경로 목록 ({@link JsonNodePath#compile(String)} 문법)
+     */
+    public static JsonPathExtractor of (String... paths)
+    {
+        List<JsonNodePath> compiled = new ArrayList<>(paths.length);
+        for (String path : paths)
+        {
+            compiled.add(JsonNodePath.compile(path));
+        }
+        return new JsonPathExtractor(compiled);
+    }
+
+    /**
+     * 경로 수
+     */
+    public int size ()
+    {
+        return paths.length;
+    }
+
+    /**
+     * Json 문자열에서 값을 추출한다.
+     *
+     * @param json Json 문자열
+     * @return 추출 결과
+     */
+    public Result extract (String json) throws IOException
+    {
+        try (JsonParser parser = reader().createParser(json))
+        {
+            return extract(parser, false);
+        }
+    }
+
+    /**
+     * UTF-8 (또는 자동 감지되는 인코딩) Json byte 배열에서 값을 추출한다.
+     *
+     * @param json Json bytes
+     * @return 추출 결과
+     */
+    public Result extract (byte[] json) throws IOException
+    {
+        return extract(json, 0, json.length);
+    }
+
+    /**
+     * Json byte 배열의 일부에서 값을 추출한다.
+     *
+     * @param json   Json bytes
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 추출 결과
+     */
+    public Result extract (byte[] json, int offset, int length) throws IOException
+    {
+        try (JsonParser parser = reader().createParser(json, offset, length))
+        {
+            return extract(parser, false);
+        }
+    }
+
+    /**
+     * ByteBuffer 의 position ~ limit 에서 값을 추출한다. buffer 의 position 은 바꾸지 않는다.
+     *
+     * @param json Json ByteBuffer
+     * @return 추출 결과
+     */
+    public Result extract (ByteBuffer json) throws IOException
+    {
+        if (json.hasArray())
+        {
+            return extract(json.array(), json.arrayOffset() + json.position(), json.remaining());
+        }
+        try (JsonParser parser = reader().createParser(new ByteBufferBackedInputStream(json.duplicate())))
+        {
+            return extract(parser, false);
+        }
+    }
+
+    /**
+     * InputStream 에서 값을 추출한다. 모든 경로를 찾으면 나머지는 읽지 않으며, 추출 후 in 을 닫는다.
+     *
+     * @param in Json InputStream
+     * @return 추출 결과
+     */
+    public Result extract (InputStream in) throws IOException
+    {
+        try (JsonParser parser = reader().createParser(in))
+        {
+            return extract(parser, false);
+        }
+    }
+
+    /**
+     * parser 의 다음 값에서 추출한다. parser 는 해당 값의 끝에 위치하며, 닫지 않는다.
+     *
+     * @param parser JsonParser (현재 token 이 없으면 다음 token 부터 읽는다.)
+     * @return 추출 결과
+     */
+    public Result extract (JsonParser parser) throws IOException
+    {
+        return extract(parser, true);
+    }
+
+    /**
+     * @param finishValue 모든 경로를 일찍 찾은 경우에도 parser 를 값의 끝까지 이동할지
+     */
+    private Result extract (JsonParser parser, boolean finishValue) throws IOException
+    {
+        Result result = new Result(paths);
+        if (!parser.hasCurrentToken() && parser.nextToken() == null)
+        {
+            return result;
+        }
+
+        int depth = parser.getParsingContext().getNestingDepth() - (parser.isExpectedStartArrayToken()
+                || parser.isExpectedStartObjectToken() ? 1 : 0);
+        visit(parser, root, result);
+        if (finishValue)
+        {
+            while (parser.getParsingContext().getNestingDepth() > depth && parser.nextToken() != null)
+            {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * parser 가 node 에 해당하는 값의 첫 token 에 있을 때 호출한다.
+     */
+    private void visit (JsonParser parser, Node node, Result result) throws IOException
+    {
+        if (node.slot >= 0)
+        {
+            // leaf : 값을 읽는다. 하위 경로도 있으면 트리로 읽어 나머지를 찾는다.
+            if (node.descendants == null)
+            {
+                readValue(parser, result, node.slot);
+                return;
+            }
+            JsonNode tree = readTree(parser);
+            result.setNode(node.slot, tree);
+            for (Descendant descendant : node.descendants)
+            {
+                JsonNode found = descendant.path == null ? tree : descendant.path.find(tree);
+                if (found != null)
+                {
+                    result.setNode(descendant.slot, found);
+                }
+            }
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && node.fields != null)
+        {
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                Node child = node.fields.get(parser.currentName());
+                parser.nextToken();
+                if (child == null)
+                {
+                    parser.skipChildren();
+                } else
+                {
+                    visit(parser, child, result);
+                    if (result.remaining == 0)
+                    {
+                        return;
+                    }
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && node.indexes != null)
+        {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY)
+            {
+                Node child = index < node.indexes.length ? node.indexes[index] : null;
+                index++;
+                if (child == null)
+                {
+                    parser.skipChildren();
+                } else
+                {
+                    visit(parser, child, result);
+                    if (result.remaining == 0)
+                    {
+                        return;
+                    }
+                }
+            }
+        } else
+        {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * JsonUtil 과 같은 읽기 설정의 reader
+     */
+    private static ObjectReader reader ()
+    {
+        return JsonMapperRegistry.reader(JsonMapperRegistry.DEFAULT);
+    }
+
+    private static JsonNode readTree (JsonParser parser) throws IOException
+    {
+        return reader().readTree(parser);
+    }
+
+    /**
+     * 현재 token 의 값을 slot 에 저장한다. 객체 / 배열만 트리로 읽는다.
+     */
+    private static void readValue (JsonParser parser, Result result, int slot) throws IOException
+    {
+        switch (parser.currentToken())
+        {
+            case VALUE_STRING:
+                result.setObject(slot, parser.getText());
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER)
+                {
+                    result.setObject(slot, parser.getBigIntegerValue());
+                } else
+                {
+                    result.setLong(slot, parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                result.setDouble(slot, parser.getDoubleValue());
+                break;
+            case VALUE_TRUE:
+                result.setBoolean(slot, true);
+                break;
+            case VALUE_FALSE:
+                result.setBoolean(slot, false);
+                break;
+            case VALUE_NULL:
+                result.setObject(slot, null);
+                break;
+            case VALUE_EMBEDDED_OBJECT:
+                result.setObject(slot, parser.getEmbeddedObject());
+                break;
+            default:
+                result.setObject(slot, readTree(parser));
+        }
+    }
+
+    /**
+     * 경로 prefix trie 의 노드
+     */
+    private static class Node
+    {
+        private Map<String, Node> fields;
+        private Node[] indexes;
+        private int slot = -1;
+        private List<Descendant> descendants;
+        private final List<Descendant> pending = new ArrayList<>();
+
+        void add (JsonNodePath path, int depth, int slot)
+        {
+            if (depth == path.depth())
+            {
+                if (this.slot < 0)
+                {
+                    this.slot = slot;
+                } else
+                {
+                    // 같은 경로가 중복된 경우
+                    pending.add(new Descendant(null, slot));
+                }
+                return;
+            }
+            pending.add(new Descendant(path.subPath(depth), slot));
+
+            Node child;
+            String field = path.field(depth);
+            if (field != null)
+            {
+                if (fields == null)
+                {
+                    fields = new HashMap<>();
+                }
+                child = fields.computeIfAbsent(field, k -> new Node());
+            } else
+            {
+                int index = path.index(depth);
+                if (indexes == null || indexes.length <= index)
+                {
+                    indexes = indexes == null ? new Node[index + 1] : Arrays.copyOf(indexes, index + 1);
+                }
+                if (indexes[index] == null)
+                {
+                    indexes[index] = new Node();
+                }
+                child = indexes[index];
+            }
+            child.add(path, depth + 1, slot);
+        }
+
+        /**
+         * leaf 이면서 하위 경로가 있는 노드에 하위 경로 목록을 남긴다.
+         */
+        void prepare ()
+        {
+            if (slot >= 0 && !pending.isEmpty())
+            {
+                descendants = new ArrayList<>(pending);
+            }
+            pending.clear();
+            if (fields != null)
+            {
+                fields.values().forEach(Node::prepare);
+            }
+            if (indexes != null)
+            {
+                for (Node child : indexes)
+                {
+                    if (child != null)
+                    {
+                        child.prepare();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * leaf 노드 아래의 경로 (path 가 null 이면 leaf 자신)
+     */
+    private record Descendant(JsonNodePath path, int slot)
+    {
+    }
+
+    /**
+     * 추출 결과. 경로 순서의 index 또는 경로 문자열로 조회한다.
+     */
+    public static class Result
+    {
+        private static final byte MISSING = 0;
+        private static final byte OBJECT = 1;
+        private static final byte LONG = 2;
+        private static final byte DOUBLE = 3;
+        private static final byte BOOLEAN = 4;
+
+        private final JsonNodePath[] paths;
+        private final byte[] kinds;
+        private final long[] longs;
+        private final double[] doubles;
+        private final Object[] values;
+        private int remaining;
+
+        Result (JsonNodePath[] paths)
+        {
+            this.paths = paths;
+            this.kinds = new byte[paths.length];
+            this.longs = new long[paths.length];
+            this.doubles = new double[paths.length];
+            this.values = new Object[paths.length];
+            this.remaining = paths.length;
+        }
+
+        private void mark (int slot, byte kind)
+        {
+            if (kinds[slot] == MISSING)
+            {
+                remaining--;
+            }
+            kinds[slot] = kind;
+        }
+
+        void setObject (int slot, Object value)
+        {
+            mark(slot, OBJECT);
+            values[slot] = value;
+        }
+
+        void setLong (int slot, long value)
+        {
+            mark(slot, LONG);
+            longs[slot] = value;
+        }
+
+        void setDouble (int slot, double value)
+        {
+            mark(slot, DOUBLE);
+            doubles[slot] = value;
+        }
+
+        void setBoolean (int slot, boolean value)
+        {
+            mark(slot, BOOLEAN);
+            longs[slot] = value ? 1 : 0;
+        }
+
+        void setNode (int slot, JsonNode node)
+        {
+            if (node.isTextual())
+            {
+                setObject(slot, node.textValue());
+            } else if (node.isBigInteger())
+            {
+                setObject(slot, node.bigIntegerValue());
+            } else if (node.isIntegralNumber())
+            {
+                setLong(slot, node.longValue());
+            } else if (node.isNumber())
+            {
+                setDouble(slot, node.doubleValue());
+            } else if (node.isBoolean())
+            {
+                setBoolean(slot, node.booleanValue());
+            } else if (node.isNull() || node.isMissingNode())
+            {
+                setObject(slot, null);
+            } else
+            {
+                setObject(slot, node);
+            }
+        }
+
+        /**
+         * 경로가 존재하는지 (값이 json null 이어도 true)
+         */
+        public boolean isPresent (int index)
+        {
+            return kinds[index] != MISSING;
+        }
+
+        /**
+         * 찾은 경로 수
+         */
+        public int getFoundCount ()
+        {
+            return paths.length - remaining;
+        }
+
+        public Object get (int index)
+        {
+            switch (kinds[index])
+            {
+                case LONG:
+                    return longs[index];
+                case DOUBLE:
+                    return doubles[index];
+                case BOOLEAN:
+                    return longs[index] != 0;
+                default:
+                    return values[index];
+            }
+        }
+
+        public Object get (String path)
+        {
+            int index = indexOf(path);
+            return index < 0 ? null : get(index);
+        }
+
+        public String getString (int index)
+        {
+            switch (kinds[index])
+            {
+                case LONG:
+                    return Long.toString(longs[index]);
+                case DOUBLE:
+                    return Double.toString(doubles[index]);
+                case BOOLEAN:
+                    return longs[index] != 0 ? "true" : "false";
+                default:
+                    Object value = values[index];
+                    return value == null ? null : value.toString();
+            }
+        }
+
+        public Long getLong (int index)
+        {
+            Number number = toNumber(index);
+            return number != null ? number.longValue() : null;
+        }
+
+        /**
+         * @return long 값. 없거나 숫자가 아니면 defaultValue
+         */
+        public long getLong (int index, long defaultValue)
+        {
+            switch (kinds[index])
+            {
+                case LONG:
+                    return longs[index];
+                case DOUBLE:
+                    return (long) doubles[index];
+                default:
+                    Number number = toNumber(index);
+                    return number != null ? number.longValue() : defaultValue;
+            }
+        }
+
+        public Double getDouble (int index)
+        {
+            Number number = toNumber(index);
+            return number != null ? number.doubleValue() : null;
+        }
+
+        /**
+         * @return double 값. 없거나 숫자가 아니면 defaultValue
+         */
+        public double getDouble (int index, double defaultValue)
+        {
+            switch (kinds[index])
+            {
+                case LONG:
+                    return longs[index];
+                case DOUBLE:
+                    return doubles[index];
+                default:
+                    Number number = toNumber(index);
+                    return number != null ? number.doubleValue() : defaultValue;
+            }
+        }
+
+        public Boolean getBoolean (int index)
+        {
+            if (kinds[index] == BOOLEAN)
+            {
+                return longs[index] != 0;
+            }
+            return kinds[index] == OBJECT && values[index] instanceof String str ? Boolean.valueOf(str) : null;
+        }
+
+        /**
+         * @return boolean 값. 없거나 boolean 이 아니면 defaultValue
+         */
+        public boolean getBoolean (int index, boolean defaultValue)
+        {
+            Boolean value = getBoolean(index);
+            return value != null ? value : defaultValue;
+        }
+
+        /**
+         * 경로 문자열 - 값 Map (존재하는 경로만)
+         */
+        public Map<String, Object> toMap ()
+        {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < paths.length; i++)
+            {
+                if (isPresent(i))
+                {
+                    map.put(paths[i].toString(), get(i));
+                }
+            }
+            return map;
+        }
+
+        /**
+         * 숫자 또는 숫자 문자열 값 (그 외에는 null)
+         */
+        private Number toNumber (int index)
+        {
+            switch (kinds[index])
+            {
+                case LONG:
+                    return longs[index];
+                case DOUBLE:
+                    return doubles[index];
+                case OBJECT:
+                    Object value = values[index];
+                    if (value instanceof Number number)
+                    {
+                        return number;
+                    }
+                    return value instanceof String str && NumberUtils.isCreatable(str)
+                            ? NumberUtils.createNumber(str)
+                            : null;
+                default:
+                    return null;
+            }
+        }
+
+        private int indexOf (String path)
+        {
+            for (int i = 0; i < paths.length; i++)
+            {
+                if (paths[i].toString().equals(path))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Json 샘플로 Java Domain Class 를 추론한다.
+ * <pre>
+ *     샘플을 하나씩 병합하고 source 는 마지막에 한번만 만든다.
+ *     - 필드 : 모든 샘플의 필드 합집합 (처음 나온 순서)
+ *     - 타입 : null 은 타입에 영향을 주지 않고, 숫자는 Integer &lt; Long &lt; BigInteger / Double 로 넓힌다.
+ *              서로 다른 타입이 섞이면 Object
+ *     - 배열 : 원소를 모두 병합한 타입의 List
+ *     - 객체 : 구조가 같은 객체는 같은 class 하나로 만든다.
+ *     추론 결과의 크기는 샘플 수가 아니라 서로 다른 필드 수에 비례한다.
+ *     한 객체의 필드가 {@link #MAX_FIELDS} 개를 넘으면 이후 새 필드는 {@code @JsonAnySetter} Map 필드 하나로 모은다.
+ *
+ *     JsonSchemaInferrer inferrer = new JsonSchemaInferrer();
+ *     inferrer.addAll(samplesInputStream);
+ *     String source = inferrer.toJavaSource("Order", "com.example.dto");
+ *
+ *     thread-safe 하지 않다.
+ * </pre>
+ */
+public class JsonSchemaInferrer
+{
+    public static final int MAX_FIELDS = 512;
+
+    private static final int NULL = 1;
+    private static final int BOOLEAN = 1 << 1;
+    private static final int INT = 1 << 2;
+    private static final int LONG = 1 << 3;
+    private static final int BIG_INTEGER = 1 << 4;
+    private static final int DOUBLE = 1 << 5;
+    private static final int STRING = 1 << 6;
+    private static final int OBJECT = 1 << 7;
+    private static final int ARRAY = 1 << 8;
+    private static final int NUMBER = INT | LONG | BIG_INTEGER | DOUBLE;
+
+    private final ObjectShape root = new ObjectShape();
+    private long sampleCount = 0;
+
+    /**
+     * 샘플을 병합한다. 최상위가 배열이면 각 원소를 샘플로 병합한다.
+     *
+     * @param sample Json 샘플 (객체)
+     * @return this
+     */
+    public JsonSchemaInferrer add (JsonNode sample)
+    {
+        if (sample == null)
+        {
+            return this;
+        }
+        if (sample.isArray())
+        {
+            for (JsonNode element : sample)
+            {
+                add(element);
+            }
+        } else if (sample.isObject())
+        {
+            root.merge(sample);
+            sampleCount++;
+        }
+        return this;
+    }
+
+    /**
+     * Json 배열 (또는 연속된 Json 값) 의 샘플을 하나씩 읽어 병합한다. 다 읽으면 in 을 닫는다.
+     *
+     * @param in 샘플 InputStream
+     * @return this
+     */
+    public JsonSchemaInferrer addAll (InputStream in) throws IOException
+    {
+        try (MappingIterator<JsonNode> it = JsonUtil.iterateArray(in, JsonNode.class))
+        {
+            while (it.hasNextValue())
+            {
+                add(it.nextValue());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 병합한 샘플 (객체) 수
+     */
+    public long getSampleCount ()
+    {
+        return sampleCount;
+    }
+
+    /**
+     * 추론한 Java Domain Class source
+     *
+     * @param className   Java Domain Class 명
+     * @param packageName Java Domain Package 명 (없으면 package 선언 생략)
+     * @return Java Domain Class String
+     */
+    public String toJavaSource (String className, String packageName)
+    {
+        return new Renderer(className).render(packageName);
+    }
+
+    /**
+     * 필드 / 배열 원소 1개의 타입
+     */
+    private static class TypeInfo
+    {
+        private int kinds;
+        private ObjectShape object;
+        private TypeInfo element;
+
+        void merge (JsonNode node)
+        {
+            if (node.isNull() || node.isMissingNode())
+            {
+                kinds |= NULL;
+            } else if (node.isBoolean())
+            {
+                kinds |= BOOLEAN;
+            } else if (node.isInt() || node.isShort())
+            {
+                kinds |= INT;
+            } else if (node.isLong())
+            {
+                kinds |= LONG;
+            } else if (node.isBigInteger())
+            {
+                kinds |= BIG_INTEGER;
+            } else if (node.isNumber())
+            {
+                kinds |= DOUBLE;
+            } else if (node.isTextual())
+            {
+                kinds |= STRING;
+            } else if (node.isObject())
+            {
+                kinds |= OBJECT;
+                if (object == null)
+                {
+                    object = new ObjectShape();
+                }
+                object.merge(node);
+            } else if (node.isArray())
+            {
+                kinds |= ARRAY;
+                for (JsonNode child : node)
+                {
+                    if (element == null)
+                    {
+                        element = new TypeInfo();
+                    }
+                    element.merge(child);
+                }
+            } else
+            {
+                // binary, pojo 등
+                kinds |= STRING;
+            }
+        }
+    }
+
+    /**
+     * 객체의 필드 구성
+     */
+    private static class ObjectShape
+    {
+        private final Map<String, TypeInfo> fields = new LinkedHashMap<>();
+        /**
+         * 필드 수가 MAX_FIELDS 에 도달한 뒤 나온 새 필드의 값을 모두 병합한다. (기존 필드는 계속 각자 병합)
+         */
+        private TypeInfo mapValue;
+
+        void merge (JsonNode node)
+        {
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext())
+            {
+                Map.Entry<String, JsonNode> entry = it.next();
+                TypeInfo type = fields.get(entry.getKey());
+                if (type == null)
+                {
+                    if (fields.size() >= MAX_FIELDS)
+                    {
+                        if (mapValue == null)
+                        {
+                            mapValue = new TypeInfo();
+                        }
+                        mapValue.merge(entry.getValue());
+                        continue;
+                    }
+                    type = new TypeInfo();
+                    fields.put(entry.getKey(), type);
+                }
+                type.merge(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 추론 결과를 source 로 만든다. 구조가 같은 객체는 같은 class 명을 사용한다.
+     */
+    private class Renderer
+    {
+        private final String className;
+        private final Set<String> usedNames = new HashSet<>();
+        private final Map<String, String> namesBySignature = new HashMap<>();
+        private final Map<ObjectShape, String> signatures = new IdentityHashMap<>();
+        private final List<String> nestedNames = new ArrayList<>();
+        private final List<ObjectShape> nestedShapes = new ArrayList<>();
+
+        Renderer (String className)
+        {
+            this.className = className;
+            this.usedNames.add(className);
+        }
+
+        String render (String packageName)
+        {
+            StringBuilder sb = new StringBuilder();
+            if (StringUtils.isNotEmpty(packageName))
+            {
+                sb.append("package ").append(packageName).append(";\n");
+                sb.append("\n");
+            }
+
+            sb.append("@Data\n");
+            sb.append("public class ").append(className).append(" {\n");
+            appendFields(sb, root, "\t");
+
+            // 중첩 class 는 필드를 쓰면서 추가되므로 index 로 순회한다.
+            for (int i = 0; i < nestedShapes.size(); i++)
+            {
+                sb.append("\n");
+                sb.append("\t@Data\n");
+                sb.append("\tpublic static class ").append(nestedNames.get(i)).append(" {\n");
+                appendFields(sb, nestedShapes.get(i), "\t\t");
+                sb.append("\t}\n");
+            }
+
+            sb.append("}");
+            return sb.toString();
+        }
+
+        private void appendFields (StringBuilder sb, ObjectShape shape, String indent)
+        {
+            Set<String> fieldNames = new HashSet<>();
+            for (Map.Entry<String, TypeInfo> entry : shape.fields.entrySet())
+            {
+                String key = entry.getKey();
+                String name = uniqueName(fieldNames, toIdentifier(key));
+                if (!name.equals(key))
+                {
+                    sb.append(indent).append("@JsonProperty(\"").append(escape(key)).append("\")\n");
+                }
+                sb.append(indent).append(javaType(entry.getValue(), name)).append(" ").append(name).append(";\n");
+            }
+            if (shape.mapValue != null)
+            {
+                // MAX_FIELDS 를 넘어 나온 필드
+                String name = uniqueName(fieldNames, "additionalProperties");
+                sb.append(indent).append("@JsonAnySetter\n");
+                sb.append(indent).append("Map<String, ").append(javaType(shape.mapValue, name)).append("> ")
+                        .append(name).append(" = new LinkedHashMap<>();\n");
+            }
+        }
+
+        private String uniqueName (Set<String> fieldNames, String base)
+        {
+            String name = base;
+            for (int i = 2; !fieldNames.add(name); i++)
+            {
+                name = base + i;
+            }
+            return name;
+        }
+
+        private String javaType (TypeInfo type, String name)
+        {
+            if (type == null)
+            {
+                return "Object";
+            }
+
+            int kinds = type.kinds & ~NULL;
+            if (kinds == BOOLEAN)
+            {
+                return "Boolean";
+            } else if (kinds == STRING)
+            {
+                return "String";
+            } else if (kinds != 0 && (kinds & ~NUMBER) == 0)
+            {
+                if ((kinds & DOUBLE) != 0)
+                {
+                    return "Double";
+                } else if ((kinds & BIG_INTEGER) != 0)
+                {
+                    return "BigInteger";
+                }
+                return (kinds & LONG) != 0 ? "Long" : "Integer";
+            } else if (kinds == OBJECT)
+            {
+                return classNameOf(type.object, name);
+            } else if (kinds == ARRAY)
+            {
+                return "List<" + javaType(type.element, name) + ">";
+            }
+            return "Object";
+        }
+
+        private String classNameOf (ObjectShape shape, String fieldName)
+        {
+            String signature = signature(shape);
+            String name = namesBySignature.get(signature);
+            if (name != null)
+            {
+                return name;
+            }
+
+            String base = StringUtils.capitalize(fieldName);
+            name = base;
+            for (int i = 2; !usedNames.add(name); i++)
+            {
+                name = base + i;
+            }
+            namesBySignature.put(signature, name);
+            nestedNames.add(name);
+            nestedShapes.add(shape);
+            return name;
+        }
+
+        /**
+         * 필드명과 타입으로 만든 구조 문자열
+         */
+        private String signature (ObjectShape shape)
+        {
+            String signature = signatures.get(shape);
+            if (signature == null)
+            {
+                StringBuilder sb = new StringBuilder("{");
+                for (Map.Entry<String, TypeInfo> entry : shape.fields.entrySet())
+                {
+                    sb.append(entry.getKey()).append(':');
+                    appendSignature(sb, entry.getValue());
+                    sb.append(',');
+                }
+                if (shape.mapValue != null)
+                {
+                    sb.append("*:");
+                    appendSignature(sb, shape.mapValue);
+                }
+                signature = sb.append('}').toString();
+                signatures.put(shape, signature);
+            }
+            return signature;
+        }
+
+        private void appendSignature (StringBuilder sb, TypeInfo type)
+        {
+            if (type == null)
+            {
+                sb.append('-');
+                return;
+            }
+            sb.append(type.kinds & ~NULL);
+            if (type.object != null)
+            {
+                sb.append(signature(type.object));
+            }
+            if (type.element != null)
+            {
+                sb.append('[');
+                appendSignature(sb, type.element);
+                sb.append(']');
+            }
+        }
+    }
+
+    /**
+     * Json 필드명을 Java 필드명으로 바꾼다. (사용할 수 없는 문자는 '_', 예약어는 뒤에 '_')
+     */
+    static String toIdentifier (String key)
+    {
+        if (key.isEmpty())
+        {
+            return "_";
+        }
+        StringBuilder sb = new StringBuilder(key.length() + 1);
+        if (!Character.isJavaIdentifierStart(key.charAt(0)))
+        {
+            sb.append('_');
+        }
+        for (int i = 0; i < key.length(); i++)
+        {
+            char c = key.charAt(i);
+            sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return SourceVersion.isKeyword(sb) ? sb.append('_').toString() : sb.toString();
+    }
+
+    private static String escape (String key)
+    {
+        return key.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
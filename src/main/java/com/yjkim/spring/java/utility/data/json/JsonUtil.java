@@ -1,23 +1,33 @@
 package com.yjkim.spring.java.utility.data.json;
 
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.sun.jdi.InternalException;
+import com.yjkim.spring.java.utility.data.list.ListUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JsonUtil 클래스
@@ -26,6 +36,17 @@ import java.util.Map;
 @Slf4j
 public class JsonUtil
 {
+    private static final int NULL_AS_EMPTY = JsonMapperRegistry.mask(JsonMapperRegistry.Option.NULL_AS_EMPTY);
+    private static final int NULL_AS_EMPTY_PRETTY = JsonMapperRegistry.mask(JsonMapperRegistry.Option.NULL_AS_EMPTY,
+            JsonMapperRegistry.Option.PRETTY_PRINT);
+    private static final int ALLOW_EMPTY_BEANS = JsonMapperRegistry.mask(JsonMapperRegistry.Option.ALLOW_EMPTY_BEANS);
+    private static final int IGNORE_UNKNOWN = JsonMapperRegistry.mask(JsonMapperRegistry.Option.IGNORE_UNKNOWN);
+
+    private static final Type LIST_OF_MAP = new TypeReference<List<Map<String, Object>>>() {}.getType();
+    private static final Type MAP_OF_STRING = new TypeReference<Map<String, String>>() {}.getType();
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
     /**
      * Object를 Json String으로 변경한다.
      *
@@ -34,11 +55,7 @@ public class JsonUtil
      */
     public static String parseJsonObject (Object obj) throws JsonProcessingException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        DefaultSerializerProvider sp = new DefaultSerializerProvider.Impl();
-        sp.setNullValueSerializer(new NullSerializer());
-        mapper.setSerializerProvider(sp);
-        return mapper.writeValueAsString(obj);
+        return JsonMapperRegistry.writer(NULL_AS_EMPTY).writeValueAsString(obj);
     }
 
     /**
@@ -49,10 +66,7 @@ public class JsonUtil
      */
     public static String parseJsonObjectNull (Object obj) throws JsonProcessingException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.setSerializerProvider(new DefaultSerializerProvider.Impl());
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        return mapper.writeValueAsString(obj);
+        return JsonMapperRegistry.writer(ALLOW_EMPTY_BEANS).writeValueAsString(obj);
     }
 
     /**
@@ -63,11 +77,7 @@ public class JsonUtil
      */
     public static String parseJsonObjectPrettyPrinter (Object obj) throws JsonProcessingException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        DefaultSerializerProvider sp = new DefaultSerializerProvider.Impl();
-        sp.setNullValueSerializer(new NullSerializer());
-        mapper.setSerializerProvider(sp);
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+        return JsonMapperRegistry.writer(NULL_AS_EMPTY_PRETTY).writeValueAsString(obj);
     }
 
     /**
@@ -79,8 +89,7 @@ public class JsonUtil
     public static List<Map<String, Object>> parseStringAsList (String str)
             throws IOException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(str, new TypeReference<>() {});
+        return JsonMapperRegistry.reader(LIST_OF_MAP, JsonMapperRegistry.DEFAULT).readValue(str);
     }
 
     /**
@@ -93,8 +102,7 @@ public class JsonUtil
     public static <T> List<T> parseStringAsList (String str, Class<T> classType)
             throws IOException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(str, mapper.getTypeFactory().constructCollectionType(List.class, classType));
+        return JsonMapperRegistry.reader(listType(classType), JsonMapperRegistry.DEFAULT).readValue(str);
     }
 
     /**
@@ -115,8 +123,7 @@ public class JsonUtil
 
         try
         {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(str, mapper.getTypeFactory().constructCollectionType(List.class, classType));
+            return JsonMapperRegistry.reader(listType(classType), JsonMapperRegistry.DEFAULT).readValue(str);
         } catch (IllegalArgumentException |
                  IOException e)
         {
@@ -125,6 +132,143 @@ public class JsonUtil
         }
     }
 
+    /**
+     * Json 배열을 원소 단위로 읽는 Iterator 를 반환한다.
+     * <pre>
+     *     전체 배열을 메모리에 올리지 않고 next 호출 시마다 원소 1개를 읽는다.
+     *     최상위가 배열이 아니면 값 1개를 읽는다.
+     *     사용 후 반드시 close 해야 하며, close 하면 in 도 닫힌다.
+     *     읽기 오류는 hasNext / next 에서 RuntimeJsonMappingException 으로,
+     *     hasNextValue / nextValue 에서는 IOException 으로 발생한다.
+     * </pre>
+     *
+     * @param in        Json 배열 InputStream
+     * @param classType 원소 Type
+     * @return MappingIterator
+     */
+    public static <T> MappingIterator<T> iterateArray (InputStream in, Class<T> classType) throws IOException
+    {
+        return JsonMapperRegistry.reader(classType, JsonMapperRegistry.DEFAULT).readValues(in);
+    }
+
+    /**
+     * Json 배열을 원소 단위로 읽는 Iterator 를 반환한다.
+     *
+     * @param reader    Json 배열 Reader
+     * @param classType 원소 Type
+     * @return MappingIterator
+     * @see #iterateArray(InputStream, Class)
+     */
+    public static <T> MappingIterator<T> iterateArray (Reader reader, Class<T> classType) throws IOException
+    {
+        return JsonMapperRegistry.reader(classType, JsonMapperRegistry.DEFAULT).readValues(reader);
+    }
+
+    /**
+     * Json 배열을 원소 단위로 읽는 lazy Stream 을 반환한다.
+     * <pre>
+     *     try (Stream&lt;User&gt; users = JsonUtil.streamArray(in, User.class))
+     *     {
+     *         users.filter(...).forEach(...);
+     *     }
+     *     Stream 을 닫으면 in 도 닫힌다. 읽기 오류는 RuntimeJsonMappingException 으로 발생한다.
+     * </pre>
+     *
+     * @param in        Json 배열 InputStream
+     * @param classType 원소 Type
+     * @return Stream
+     */
+    public static <T> Stream<T> streamArray (InputStream in, Class<T> classType) throws IOException
+    {
+        return toStream(iterateArray(in, classType));
+    }
+
+    /**
+     * Json 배열을 원소 단위로 읽는 lazy Stream 을 반환한다.
+     *
+     * @param reader    Json 배열 Reader
+     * @param classType 원소 Type
+     * @return Stream
+     * @see #streamArray(InputStream, Class)
+     */
+    public static <T> Stream<T> streamArray (Reader reader, Class<T> classType) throws IOException
+    {
+        return toStream(iterateArray(reader, classType));
+    }
+
+    /**
+     * Json 배열 파일을 원소 단위로 읽는 lazy Stream 을 반환한다. (인코딩은 자동 감지)
+     *
+     * @param path      Json 배열 파일
+     * @param classType 원소 Type
+     * @return Stream
+     * @see #streamArray(InputStream, Class)
+     */
+    public static <T> Stream<T> streamArray (Path path, Class<T> classType) throws IOException
+    {
+        InputStream in = Files.newInputStream(path);
+        try
+        {
+            return streamArray(in, classType);
+        } catch (IOException | RuntimeException e)
+        {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Json 배열을 원소 단위로 읽어 batchSize 개씩 BaseProcessor 를 실행한다.
+     * 메모리에는 batch 1개 분량의 원소만 유지된다. 처리가 끝나면 in 을 닫는다.
+     *
+     * @param in        Json 배열 InputStream
+     * @param classType 원소 Type
+     * @param batchSize batch 크기 (1 미만이면 100)
+     * @param processor batch 처리 프로세서
+     * @return 읽은 원소 수
+     */
+    public static <T> long processArray (InputStream in, Class<T> classType, int batchSize,
+                                         ListUtil.BaseProcessor<T> processor) throws IOException
+    {
+        int size = batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+        long count = 0;
+        try (MappingIterator<T> it = iterateArray(in, classType))
+        {
+            List<T> batch = new ArrayList<>(size);
+            while (it.hasNextValue())
+            {
+                batch.add(it.nextValue());
+                count++;
+
+                if (batch.size() >= size)
+                {
+                    processor.process(batch);
+                    batch = new ArrayList<>(size);
+                }
+            }
+
+            if (!batch.isEmpty())
+            {
+                processor.process(batch);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Json 배열 파일을 원소 단위로 읽어 batchSize 개씩 BaseProcessor 를 실행한다.
+     *
+     * @see #processArray(InputStream, Class, int, ListUtil.BaseProcessor)
+     */
+    public static <T> long processArray (Path path, Class<T> classType, int batchSize,
+                                         ListUtil.BaseProcessor<T> processor) throws IOException
+    {
+        try (InputStream in = Files.newInputStream(path))
+        {
+            return processArray(in, classType, batchSize, processor);
+        }
+    }
+
     /**
      * Json string을 JsonNode 객체로 변경한다.
      *
@@ -134,8 +278,7 @@ public class JsonUtil
     public static Map<String, String> parseStringToMap (String str)
             throws IOException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(str, Map.class);
+        return JsonMapperRegistry.reader(Map.class, JsonMapperRegistry.DEFAULT).readValue(str);
     }
 
     /**
@@ -146,8 +289,7 @@ public class JsonUtil
      */
     public static JsonNode parseString (String str) throws JsonProcessingException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(str, JsonNode.class);
+        return JsonMapperRegistry.reader(JsonNode.class, JsonMapperRegistry.DEFAULT).readValue(str);
     }
 
     /**
@@ -158,16 +300,13 @@ public class JsonUtil
      */
     public static JsonNode parseObject (Object obj)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.valueToTree(obj);
+        return JsonMapperRegistry.mapper(JsonMapperRegistry.DEFAULT).valueToTree(obj);
     }
 
     public static String convertObjectToString(Object obj)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         try {
-            return mapper.writeValueAsString(obj);
+            return JsonMapperRegistry.writer(JsonMapperRegistry.DEFAULT).writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error(e.getMessage(), e);
             return null;
@@ -183,8 +322,7 @@ public class JsonUtil
      */
     public static <T> T convertObject (Object obj, Class<T> classType)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.convertValue(obj, classType);
+        return JsonMapperRegistry.convert(obj, classType, JsonMapperRegistry.DEFAULT);
     }
 
     /**
@@ -196,9 +334,7 @@ public class JsonUtil
      */
     public static <T> T convertObjectWithUnkown (Object obj, Class<T> classType)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return mapper.convertValue(obj, classType);
+        return JsonMapperRegistry.convert(obj, classType, IGNORE_UNKNOWN);
     }
 
     /**
@@ -210,8 +346,7 @@ public class JsonUtil
      */
     public static <T> T convertObject (Object obj, TypeReference<T> typeRef)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.convertValue(obj, typeRef);
+        return JsonMapperRegistry.convert(obj, typeRef.getType(), JsonMapperRegistry.DEFAULT);
     }
 
     /**
@@ -223,9 +358,7 @@ public class JsonUtil
      */
     public static <T> T convertObjectWithUnkown (Object obj, TypeReference<T> typeRef)
     {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return mapper.convertValue(obj, typeRef);
+        return JsonMapperRegistry.convert(obj, typeRef.getType(), IGNORE_UNKNOWN);
     }
 
     /**
@@ -237,8 +370,7 @@ public class JsonUtil
     public static MultiValueMap<String, String> convertObjectMultiValueMap (Object obj)
     {
         MultiValueMap<String, String> multiValueMaps = new LinkedMultiValueMap<>();
-        ObjectMapper mapper = new ObjectMapper();
-        Map<String, String> maps = mapper.convertValue(obj, new TypeReference<>() {});
+        Map<String, String> maps = JsonMapperRegistry.convert(obj, MAP_OF_STRING, JsonMapperRegistry.DEFAULT);
         multiValueMaps.setAll(maps);
         return multiValueMaps;
     }
@@ -253,9 +385,7 @@ public class JsonUtil
     public static <T> T parseString (String str, Class<T> classType)
             throws IOException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return mapper.readValue(str, classType);
+        return JsonMapperRegistry.reader(classType, IGNORE_UNKNOWN).readValue(str);
     }
 
     /**
@@ -288,8 +418,7 @@ public class JsonUtil
         }
         try
         {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(str, classType);
+            return JsonMapperRegistry.reader(classType, JsonMapperRegistry.DEFAULT).readValue(str);
         } catch (IllegalArgumentException |
                  IOException e)
         {
@@ -322,8 +451,7 @@ public class JsonUtil
     public static String parseToJavaObject (String jsonStr, String className, String packageName)
             throws IOException
     {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode rootNode = mapper.readValue(jsonStr, JsonNode.class);
+        JsonNode rootNode = JsonMapperRegistry.reader(JsonNode.class, JsonMapperRegistry.DEFAULT).readValue(jsonStr);
 
         return parseToJavaObject(rootNode, className, packageName);
     }
@@ -362,198 +490,49 @@ public class JsonUtil
      * @param className   Java Domain Class 명
      * @param packageName Java Domain Package 명
      * @return Java Domain Class String
+     * @see JsonSchemaInferrer
      */
     public static String parseToJavaObject (JsonNode rootNode, String className, String packageName)
             throws IOException
     {
-        StringBuilder sb = new StringBuilder();
-        StringBuilder subSb = new StringBuilder();
-
-        if (packageName != null && !packageName.equals(StringUtils.EMPTY))
-        {
-            sb.append("package ").append(packageName).append(";\n");
-            sb.append("\n");
-        }
-
-        sb.append("@Data\n");
-        sb.append("public class ");
-        sb.append(className);
-        sb.append(" {\n");
-
-        Iterator<String> iter = rootNode.fieldNames();
-
-        Integer indent = 1;
-        while (iter.hasNext())
-        {
-            String key = iter.next();
-            if (rootNode.get(key).isBoolean())
-            {
-                sb.append("\tBoolean ").append(key).append(";\n");
-            } else if (rootNode.get(key).isDouble())
-            {
-                sb.append("\tDouble ").append(key).append(";\n");
-            } else if (rootNode.get(key).isInt())
-            {
-                sb.append("\tInteger ").append(key).append(";\n");
-            } else if (rootNode.get(key).isTextual())
-            {
-                sb.append("\tString ").append(key).append(";\n");
-            } else if (rootNode.get(key).isLong())
-            {
-                sb.append("\tLong ").append(key).append(";\n");
-            } else if (rootNode.get(key).isObject())
-            {
-                String innerClassName = key.substring(0, 1).toUpperCase() + key.substring(1, key.length());
-                sb.append("\t").append(innerClassName).append(" ").append(key).append(";\n");
-                subSb.append("\n");
-                subSb.append("\t@Data\n");
-                subSb.append("\tpublic static class ").append(innerClassName).append(" {\n");
-
-                objectTypeMapping(rootNode.get(key), subSb, indent++);
-                indent--;
-                subSb.append("\t}\n");
-            } else if (rootNode.get(key).isArray())
-            {
-                String innerClassName = key.substring(0, 1).toUpperCase() + key.substring(1, key.length());
-                sb.append("\t").append(innerClassName).append(" ").append(key).append(";\n");
-                subSb.append("\n");
-                subSb.append("\t@Data\n");
-                subSb.append("\tpublic static class ").append(innerClassName).append(" {\n");
-
-                objectTypeMapping(rootNode.get(key).get(0), subSb, indent++);
-                indent--;
-                subSb.append("\t}\n");
-            }
-        }
-
-        if (subSb.length() > 0)
-        {
-            sb.append(subSb);
-        }
-
-        sb.append("}");
-
-        return sb.toString();
+        return new JsonSchemaInferrer().add(rootNode).toJavaSource(className, packageName);
     }
 
-    private static void objectTypeMapping (JsonNode cellNode, StringBuilder sb, Integer indent)
+    /**
+     * 여러 Json 샘플 (배열 또는 연속된 Json 객체) 을 병합하여 Java Domain Class 로 변경한다.
+     * 샘플은 하나씩 읽으므로 샘플 수와 관계없이 메모리 사용량이 일정하다. 다 읽으면 in 을 닫는다.
+     *
+     * @param samples     Json 샘플 InputStream
+     * @param className   Java Domain Class 명
+     * @param packageName Java Domain Package 명
+     * @return Java Domain Class String
+     * @see JsonSchemaInferrer
+     */
+    public static String parseToJavaObject (InputStream samples, String className, String packageName)
+            throws IOException
     {
-        Iterator<String> iter = cellNode.fieldNames();
-        StringBuilder subSb = new StringBuilder();
-
-        Integer cIndent = indent;
-        while (iter.hasNext())
-        {
-            String key = iter.next();
-
-            addIntent(sb, cIndent);
-
-            if (cellNode.get(key).isBoolean())
-            {
-                sb.append("Boolean ").append(key).append(";\n");
-            } else if (cellNode.get(key).isDouble())
-            {
-                sb.append("Double ").append(key).append(";\n");
-            } else if (cellNode.get(key).isInt())
-            {
-                sb.append("Integer ").append(key).append(";\n");
-            } else if (cellNode.get(key).isTextual())
-            {
-                sb.append("String ").append(key).append(";\n");
-            } else if (cellNode.get(key).isLong())
-            {
-                sb.append("Long ").append(key).append(";\n");
-            } else if (cellNode.get(key).isObject())
-            {
-                String className = key.substring(0, 1).toUpperCase() + key.substring(1, key.length());
-
-                sb.append(className).append(" ").append(key).append(";\n");
-                subSb.append("\n");
-
-                addIntent(subSb, cIndent);
-                subSb.append("@Data\n");
-                addIntent(subSb, cIndent);
-                subSb.append("public static class ").append(className).append(" {\n");
-
-                objectTypeMapping(cellNode.get(key), subSb, ++cIndent);
-
-                addIntent(subSb, cIndent - 1);
-
-                subSb.append("}\n");
-
-                --cIndent;
-            } else if (cellNode.get(key).isArray())
-            {
-                String className = key.substring(0, 1).toUpperCase() + key.substring(1, key.length());
-
-                if (cellNode.get(key).size() > 0 && cellNode.get(key).get(0).isObject())
-                {
-                    addIntent(subSb, cIndent);
-                    sb.append("List<").append(className).append("> ").append(key).append(";\n");
-
-                    subSb.append("\n");
-                    addIntent(subSb, cIndent);
-                    subSb.append("@Data\n");
-                    addIntent(subSb, cIndent);
-                    subSb.append("public static class ").append(className).append(" {\n");
-
-                    objectTypeMapping(cellNode.get(key).get(0), subSb, ++cIndent);
-                    addIntent(subSb, cIndent - 1);
-                    subSb.append("}\n");
-                } else
-                {
-                    JsonNode arrayChildNode = cellNode.get(key).get(0);
-
-                    if (arrayChildNode != null)
-                    {
-                        if (arrayChildNode.isBoolean())
-                        {
-                            sb.append("List<Boolean> ").append(key).append(";\n");
-                        } else if (arrayChildNode.isDouble())
-                        {
-                            sb.append("List<Double> ").append(key).append(";\n");
-                        } else if (arrayChildNode.isInt())
-                        {
-                            sb.append("List<Integer> ").append(key).append(";\n");
-                        } else if (arrayChildNode.isTextual())
-                        {
-                            sb.append("List<String> ").append(key).append(";\n");
-                        } else if (arrayChildNode.isLong())
-                        {
-                            sb.append("List<Long> ").append(key).append(";\n");
-                        }
-                    }
-                }
-
-                --cIndent;
-            }
-        }
-
-        if (subSb.length() > 0)
-        {
-            sb.append(subSb.toString());
-        }
-
-        --cIndent;
+        return new JsonSchemaInferrer().addAll(samples).toJavaSource(className, packageName);
     }
 
-    private static void addIntent (StringBuilder sb, Integer indent)
+    /**
+     * MappingIterator 를 닫으면 원본도 닫히는 Stream 으로 바꾼다.
+     */
+    static <T> Stream<T> toStream (MappingIterator<T> it)
     {
-        for (int i = 0; i <= indent; i++)
-        {
-            sb.append("\t");
-        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try
+                    {
+                        it.close();
+                    } catch (IOException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
     }
 
-    /**
-     * NullSerializer 클래스
-     * Json 변환 시 null일경우 빈 문자열로 치환
-     */
-    private static class NullSerializer extends JsonSerializer<Object>
+    private static Type listType (Class<?> classType)
     {
-        public void serialize (Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException
-        {
-            jgen.writeString(StringUtils.EMPTY);
-        }
+        return JsonMapperRegistry.typeFactory().constructCollectionType(List.class, classType);
     }
 }
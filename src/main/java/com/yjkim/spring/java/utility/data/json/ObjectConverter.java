@@ -0,0 +1,615 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.NullValueProvider;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.NullSerializer;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ObjectMapper.convertValue 와 같은 결과를 내는 Object -&gt; Object 변환기
+ * <pre>
+ *     convertValue 는 매번 TokenBuffer 로 직렬화 후 다시 역직렬화한다.
+ *     ObjectConverter 는 (원본 class, 대상 class) 마다 Jackson 의 serializer / deserializer 가 보는 속성으로
+ *     복사 계획 (getter -&gt; setter MethodHandle 목록) 을 한번 만들고, 이후에는 속성을 직접 복사한다.
+ *     - String, 숫자, boolean, enum 등 같은 타입의 값 : 그대로 복사
+ *     - 중첩 bean : 같은 방식으로 재귀 변환
+ *     - 그 외 (컬렉션, 날짜, 타입이 다른 값) : 해당 값만 convertValue
+ *     custom serializer (속성 단위 @JsonSerialize / @JsonDeserialize 포함), @JsonCreator, @JsonTypeInfo, @JsonUnwrapped, any getter/setter, Map 등
+ *     계획을 만들 수 없는 조합은 기존처럼 객체 전체를 convertValue 로 변환한다.
+ *
+ *     ObjectConverter converter = JsonMapperRegistry.converter();
+ *     UserDto dto = converter.convert(user, UserDto.class);
+ *     ObjectConverter.Stats stats = converter.getStats();
+ *
+ *     thread-safe 하다.
+ * </pre>
+ */
+@Slf4j
+public class ObjectConverter
+{
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class,
+            boolean.class, char.class, byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /**
+     * 객체 전체를 convertValue 로 변환하는 조합
+     */
+    private static final Plan FALLBACK = new Plan(null, null);
+
+    private final ObjectMapper mapper;
+    /**
+     * mapper 와 역직렬화 설정이 다를 때의 reader (같으면 null)
+     */
+    private final ObjectReader reader;
+    private final DeserializationConfig deserConfig;
+    private final boolean supported;
+    private final ClassValue<Map<Class<?>, Plan>> plans = new ClassValue<>()
+    {
+        @Override
+        protected Map<Class<?>, Plan> computeValue (Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ObjectConverter (ObjectMapper mapper)
+    {
+        this(mapper, mapper.reader());
+    }
+
+    /**
+     * 역직렬화 설정만 reader 단위로 바꾼다. (mapper 를 복사하지 않으므로 serializer / deserializer cache 를 공유한다.)
+     *
+     * @param mapper 변환에 사용할 mapper
+     * @param reader mapper 에서 만든 reader (FAIL_ON_UNKNOWN_PROPERTIES 등)
+     */
+    public ObjectConverter (ObjectMapper mapper, ObjectReader reader)
+    {
+        this.mapper = mapper;
+        this.reader = reader.getConfig() == mapper.getDeserializationConfig() ? null : reader;
+        this.deserConfig = reader.getConfig();
+        this.supported = isSupported(mapper, deserConfig);
+    }
+
+    /**
+     * Object를 선언된 Type으로 변경한다. (ObjectMapper.convertValue 와 같은 결과)
+     *
+     * @param obj       변경할 Object
+     * @param classType 변경할 Type
+     * @return <T>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert (Object obj, Class<T> classType)
+    {
+        if (obj == null)
+        {
+            return null;
+        }
+        Plan plan = plan(obj.getClass(), classType);
+        if (plan == FALLBACK)
+        {
+            fallbacks.increment();
+            return (T) convertValue(obj, mapper.constructType(classType));
+        }
+        return (T) plan.apply(this, obj, classType);
+    }
+
+    /**
+     * 복사 계획 cache 통계
+     */
+    public Stats getStats ()
+    {
+        return new Stats(hits.sum(), misses.sum(), fallbacks.sum());
+    }
+
+    /**
+     * 복사 계획 cache 통계
+     *
+     * @param hits      cache 된 계획을 사용한 횟수
+     * @param misses    계획을 새로 만든 횟수
+     * @param fallbacks 계획을 만들 수 없어 객체 전체를 convertValue 로 변환한 횟수
+     */
+    public record Stats(long hits, long misses, long fallbacks)
+    {
+    }
+
+    private Plan plan (Class<?> sourceType, Class<?> targetType)
+    {
+        Map<Class<?>, Plan> byTarget = plans.get(sourceType);
+        Plan plan = byTarget.get(targetType);
+        if (plan != null)
+        {
+            hits.increment();
+            return plan;
+        }
+        misses.increment();
+        // 중첩 bean 의 계획은 변환 시점에 만들므로 computeIfAbsent 안에서 재귀하지 않는다.
+        plan = createPlan(sourceType, targetType);
+        Plan prev = byTarget.putIfAbsent(targetType, plan);
+        return prev != null ? prev : plan;
+    }
+
+    private Plan createPlan (Class<?> sourceType, Class<?> targetType)
+    {
+        if (!supported || targetType.isInterface() || targetType.isPrimitive() || targetType.isArray()
+                || targetType.isEnum() || Modifier.isAbstract(targetType.getModifiers()))
+        {
+            return FALLBACK;
+        }
+        try
+        {
+            Plan plan = buildPlan(sourceType, targetType);
+            return plan != null ? plan : FALLBACK;
+        } catch (Exception | LinkageError e)
+        {
+            log.debug("convert plan is not available. {} -> {} : {}", sourceType.getName(), targetType.getName(),
+                    e.getMessage());
+            return FALLBACK;
+        }
+    }
+
+    private Plan buildPlan (Class<?> sourceType, Class<?> targetType) throws Exception
+    {
+        SerializationConfig serConfig = mapper.getSerializationConfig();
+        AnnotationIntrospector ai = serConfig.getAnnotationIntrospector();
+
+        // 원본 : 일반 bean serializer
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        JsonSerializer<Object> ser = provider.findTypedValueSerializer(sourceType, true, null);
+        if (!(ser instanceof BeanSerializerBase beanSer) || ser.isUnwrappingSerializer() || beanSer.usesObjectId())
+        {
+            return null;
+        }
+        BeanDescription sourceDesc = serConfig.introspect(mapper.constructType(sourceType));
+        if (sourceDesc.findAnyGetter() != null
+                || (ai != null && ai.findFilterId(sourceDesc.getClassInfo()) != null))
+        {
+            return null;
+        }
+
+        // 대상 : 기본 생성자 + setter / field 로 만드는 bean deserializer
+        JavaType targetJavaType = mapper.constructType(targetType);
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(deserConfig, null, null);
+        JsonDeserializer<Object> deser = ctxt.findRootValueDeserializer(targetJavaType);
+        if (!(deser instanceof BeanDeserializerBase beanDeser) || beanDeser.getObjectIdReader() != null
+                || beanDeser.isCaseInsensitive())
+        {
+            return null;
+        }
+        ValueInstantiator instantiator = beanDeser.getValueInstantiator();
+        AnnotatedWithParams defaultCreator = instantiator.getDefaultCreator();
+        if (!instantiator.canCreateUsingDefault() || instantiator.canCreateFromObjectWith()
+                || !(defaultCreator instanceof AnnotatedConstructor constructor))
+        {
+            return null;
+        }
+        BeanDescription targetDesc = deserConfig.introspect(targetJavaType);
+        if (targetDesc.findAnySetterAccessor() != null || !isEmpty(targetDesc.findInjectables())
+                || hasUnwrapped(ai, targetDesc))
+        {
+            return null;
+        }
+        Set<String> ignored = ignoredNames(deserConfig, targetType, targetDesc);
+        boolean ignoreUnknown = ignoreUnknown(deserConfig, targetType, targetDesc);
+        JsonInclude.Value inclusion = sourceDesc.findPropertyInclusion(serConfig.getDefaultPropertyInclusion(sourceType));
+
+        List<Slot> slots = new ArrayList<>();
+        Iterator<PropertyWriter> writers = beanSer.properties();
+        while (writers.hasNext())
+        {
+            PropertyWriter writer = writers.next();
+            SettableBeanProperty property = beanDeser.findProperty(writer.getName());
+            if (property == null)
+            {
+                if (ignored.contains(writer.getName()) || ignoreUnknown)
+                {
+                    continue;
+                }
+                // 알 수 없는 속성의 처리 (예외 등) 는 Jackson 에 맡긴다.
+                return null;
+            }
+            Slot slot = createSlot(ai, serConfig, sourceType, inclusion, writer, property, ctxt);
+            if (slot == null)
+            {
+                return null;
+            }
+            slots.add(slot);
+        }
+
+        MethodHandle create = lookup(constructor.getAnnotated());
+        return new Plan(create.asType(CONSTRUCTOR_TYPE), slots.toArray(new Slot[0]));
+    }
+
+    private Slot createSlot (AnnotationIntrospector ai, SerializationConfig serConfig, Class<?> sourceType,
+            JsonInclude.Value beanInclusion, PropertyWriter propertyWriter, SettableBeanProperty property, DefaultDeserializationContext ctxt) throws Exception
+    {
+        if (!(propertyWriter instanceof BeanPropertyWriter writer) || writer instanceof UnwrappingBeanPropertyWriter
+                || writer.getTypeSerializer() != null || (ai != null && ai.findNullSerializer(writer.getMember()) != null)
+                || property.hasValueTypeDeserializer() || property.getManagedReferenceName() != null
+                || property.getObjectIdInfo() != null || property.getInjectableValueId() != null
+                || hasFormat(ai, writer.getMember()) || hasFormat(ai, property.getMember())
+                || hasCustomSerializer(ai, writer.getMember()) || hasCustomDeserializer(ai, property.getMember()))
+        {
+            return null;
+        }
+
+        // 쓰기 생략 : null 생략 (NON_NULL 등) 만 직접 처리한다.
+        // 원소 생략 (content) 은 값만 convertValue 할 때 적용되는 기본값과 같을 때만 직접 처리한다.
+        JsonInclude.Value inclusion = beanInclusion.withOverrides(writer.findPropertyInclusion(serConfig, sourceType));
+        JsonInclude.Include content = inclusion.getContentInclusion();
+        if (!writesNonNull(inclusion.getValueInclusion(), writer.getType())
+                || (content != null && content != JsonInclude.Include.ALWAYS && content != JsonInclude.Include.USE_DEFAULTS
+                && content != serConfig.getDefaultPropertyInclusion(writer.getType().getRawClass()).getContentInclusion()))
+        {
+            return null;
+        }
+        boolean skipNull = writer.willSuppressNulls();
+
+        // null 읽기 : 대상 속성의 null 값 (primitive 는 0 등)
+        Object nullValue = null;
+        NullValueProvider nullProvider = property.getNullValueProvider();
+        if (NullsConstantProvider.isSkipper(nullProvider))
+        {
+            skipNull = true;
+        } else if (nullProvider != null)
+        {
+            AccessPattern pattern = nullProvider.getNullAccessPattern();
+            Class<?> targetRaw = property.getType().getRawClass();
+            if (pattern == AccessPattern.CONSTANT)
+            {
+                nullValue = nullProvider.getNullValue(ctxt);
+            } else if (pattern == AccessPattern.DYNAMIC && targetRaw.isPrimitive()
+                    && !ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES))
+            {
+                nullValue = ClassUtil.defaultValue(targetRaw);
+            } else if (pattern != AccessPattern.ALWAYS_NULL && !writer.getType().isPrimitive())
+            {
+                return null;
+            }
+        }
+
+        MethodHandle getter = getter(writer.getMember());
+        MethodHandle setter = setter(property.getMember());
+        if (getter == null || setter == null)
+        {
+            return null;
+        }
+
+        JavaType type = property.getType();
+        Class<?> raw = type.getRawClass();
+        JsonDeserializer<Object> valueDeser = property.getValueDeserializer();
+        int kind;
+        if (raw == writer.getType().getRawClass() && (VALUE_TYPES.contains(raw) || raw.isEnum())
+                && ClassUtil.isJacksonStdImpl(valueDeser) && ClassUtil.isJacksonStdImpl(valueSerializer(writer, raw)))
+        {
+            kind = Slot.COPY;
+        } else if (valueDeser instanceof BeanDeserializerBase && type.getBindings().isEmpty()
+                && !Modifier.isAbstract(raw.getModifiers()))
+        {
+            kind = Slot.BEAN;
+        } else
+        {
+            kind = Slot.CONVERT;
+        }
+        return new Slot(getter, setter, kind, type, skipNull, nullValue);
+    }
+
+    private JsonSerializer<Object> valueSerializer (BeanPropertyWriter writer, Class<?> raw) throws Exception
+    {
+        JsonSerializer<Object> ser = writer.getSerializer();
+        return ser != null ? ser : mapper.getSerializerProviderInstance().findValueSerializer(raw);
+    }
+
+    private static MethodHandle getter (AnnotatedMember member) throws IllegalAccessException
+    {
+        if (member instanceof AnnotatedMethod method && method.getParameterCount() == 0)
+        {
+            return lookup(method.getAnnotated()).asType(GETTER_TYPE);
+        } else if (member instanceof AnnotatedField field)
+        {
+            Field f = field.getAnnotated();
+            f.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(f).asType(GETTER_TYPE);
+        }
+        return null;
+    }
+
+    private static MethodHandle setter (AnnotatedMember member) throws IllegalAccessException
+    {
+        if (member instanceof AnnotatedMethod method && method.getParameterCount() == 1)
+        {
+            return lookup(method.getAnnotated()).asType(SETTER_TYPE);
+        } else if (member instanceof AnnotatedField field && !Modifier.isFinal(field.getModifiers()))
+        {
+            Field f = field.getAnnotated();
+            f.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(f).asType(SETTER_TYPE);
+        }
+        return null;
+    }
+
+    private static MethodHandle lookup (Method method) throws IllegalAccessException
+    {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    private static MethodHandle lookup (Constructor<?> constructor) throws IllegalAccessException
+    {
+        constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
+    /**
+     * null 을 빈 문자열로 쓰는 등 기본 null serializer 가 아니면 직접 복사하지 않는다.
+     */
+    private static boolean isSupported (ObjectMapper mapper, DeserializationConfig deserConfig)
+    {
+        return mapper.getSerializerProviderInstance().getDefaultNullValueSerializer() instanceof NullSerializer
+                && deserConfig.getProblemHandlers() == null
+                && !deserConfig.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+    }
+
+    /**
+     * ObjectMapper.convertValue 와 같은 변환. reader 가 있으면 그 역직렬화 설정으로 읽는다.
+     */
+    Object convertValue (Object value, JavaType type)
+    {
+        if (reader == null)
+        {
+            return mapper.convertValue(value, type);
+        }
+        try
+        {
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            if (deserConfig.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS))
+            {
+                buffer = buffer.forceUseOfBigDecimal(true);
+            }
+            mapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE).writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParser())
+            {
+                return reader.forType(type).readValue(parser);
+            }
+        } catch (IOException e)
+        {
+            // convertValue 와 같이 IllegalArgumentException 으로 던진다.
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * null 이 아닌 값은 항상 쓰는지 (NON_EMPTY, NON_DEFAULT 등은 값에 따라 생략한다.)
+     */
+    private static boolean writesNonNull (JsonInclude.Include include, JavaType type)
+    {
+        return include == null || include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS
+                || include == JsonInclude.Include.NON_NULL
+                || (include == JsonInclude.Include.NON_ABSENT && (type == null || !type.isReferenceType()));
+    }
+
+    private static boolean hasFormat (AnnotationIntrospector ai, AnnotatedMember member)
+    {
+        if (ai == null || member == null)
+        {
+            return false;
+        }
+        JsonFormat.Value format = ai.findFormat(member);
+        return format != null && !format.equals(JsonFormat.Value.empty());
+    }
+
+    /**
+     * 속성에 지정한 serializer (@JsonSerialize using, contentUsing, keyUsing, converter 등) 가 있는지
+     */
+    private static boolean hasCustomSerializer (AnnotationIntrospector ai, AnnotatedMember member)
+    {
+        if (ai == null || member == null)
+        {
+            return false;
+        }
+        return ai.findSerializer(member) != null || ai.findContentSerializer(member) != null
+                || ai.findKeySerializer(member) != null || ai.findSerializationConverter(member) != null
+                || ai.findSerializationContentConverter(member) != null;
+    }
+
+    /**
+     * 속성에 지정한 deserializer (@JsonDeserialize using, contentUsing, keyUsing, converter 등) 가 있는지
+     */
+    private static boolean hasCustomDeserializer (AnnotationIntrospector ai, AnnotatedMember member)
+    {
+        if (ai == null || member == null)
+        {
+            return false;
+        }
+        return ai.findDeserializer(member) != null || ai.findContentDeserializer(member) != null
+                || ai.findKeyDeserializer(member) != null || ai.findDeserializationConverter(member) != null
+                || ai.findDeserializationContentConverter(member) != null;
+    }
+
+    private static boolean hasUnwrapped (AnnotationIntrospector ai, BeanDescription desc)
+    {
+        if (ai == null)
+        {
+            return false;
+        }
+        for (BeanPropertyDefinition definition : desc.findProperties())
+        {
+            AnnotatedMember member = definition.getPrimaryMember();
+            if (member != null && ai.findUnwrappingNameTransformer(member) != null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> ignoredNames (DeserializationConfig config, Class<?> targetType, BeanDescription desc)
+    {
+        if (config.isEnabled(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES))
+        {
+            return Set.of();
+        }
+        Set<String> ignored = new HashSet<>(desc.getIgnoredPropertyNames());
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(targetType, desc.getClassInfo());
+        if (ignorals != null)
+        {
+            ignored.addAll(ignorals.findIgnoredForDeserialization());
+        }
+        return ignored;
+    }
+
+    private static boolean ignoreUnknown (DeserializationConfig config, Class<?> targetType, BeanDescription desc)
+    {
+        if (!config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES))
+        {
+            return true;
+        }
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(targetType, desc.getClassInfo());
+        return ignorals != null && ignorals.getIgnoreUnknown();
+    }
+
+    private static boolean isEmpty (Map<?, ?> map)
+    {
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * (원본 class, 대상 class) 의 복사 계획
+     */
+    private static final class Plan
+    {
+        private final MethodHandle constructor;
+        private final Slot[] slots;
+
+        Plan (MethodHandle constructor, Slot[] slots)
+        {
+            this.constructor = constructor;
+            this.slots = slots;
+        }
+
+        Object apply (ObjectConverter converter, Object source, Class<?> classType)
+        {
+            try
+            {
+                Object target = (Object) constructor.invokeExact();
+                for (Slot slot : slots)
+                {
+                    Object value = (Object) slot.getter.invokeExact(source);
+                    if (value == null)
+                    {
+                        if (slot.skipNull)
+                        {
+                            continue;
+                        }
+                        value = slot.nullValue;
+                    } else if (slot.kind == Slot.BEAN)
+                    {
+                        value = converter.convert(value, slot.type.getRawClass());
+                    } else if (slot.kind == Slot.CONVERT)
+                    {
+                        value = converter.convertValue(value, slot.type);
+                    }
+                    slot.setter.invokeExact(target, value);
+                }
+                return target;
+            } catch (IllegalArgumentException | Error e)
+            {
+                throw e;
+            } catch (Throwable e)
+            {
+                throw new IllegalArgumentException("Failed to convert " + source.getClass().getName() + " to "
+                        + classType.getName() + " : " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 속성 1개의 복사 방법
+     */
+    private static final class Slot
+    {
+        static final int COPY = 0;
+        static final int BEAN = 1;
+        static final int CONVERT = 2;
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final int kind;
+        private final JavaType type;
+        private final boolean skipNull;
+        private final Object nullValue;
+
+        Slot (MethodHandle getter, MethodHandle setter, int kind, JavaType type, boolean skipNull, Object nullValue)
+        {
+            this.getter = getter;
+            this.setter = setter;
+            this.kind = kind;
+            this.type = type;
+            this.skipNull = skipNull;
+            this.nullValue = nullValue;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SmileUtil 클래스
+ * Smile (binary json) 변환에 관련된 유틸리티
+ * <pre>
+ *     서비스 간 통신, 디스크 cache 등 사람이 읽지 않는 데이터를 JsonUtil 보다 작고 빠르게 변환한다.
+ *     JsonMapperRegistry 의 기본 mapper 설정을 그대로 사용하므로 날짜 형식 등은 JsonUtil 과 같다.
+ *     (Spring 에서는 JacksonConfig 의 ObjectMapper 설정)
+ *
+ *     byte[] bytes = SmileUtil.toBytes(user);
+ *     User user = SmileUtil.fromBytes(bytes, User.class);
+ * </pre>
+ */
+public class SmileUtil
+{
+    public SmileUtil ()
+    {
+        throw new IllegalStateException("SmileUtil is utility class.");
+    }
+
+    /**
+     * Object를 Smile bytes로 변경한다.
+     *
+     * @param obj 변경할 Object
+     * @return Smile bytes
+     */
+    public static byte[] toBytes (Object obj) throws JsonProcessingException
+    {
+        return JsonMapperRegistry.smileWriter().writeValueAsBytes(obj);
+    }
+
+    /**
+     * Object를 Smile 로 OutputStream 에 쓴다. os 는 닫지 않는다.
+     *
+     * @param obj 변경할 Object
+     * @param os  출력 stream
+     */
+    public static void write (Object obj, OutputStream os) throws IOException
+    {
+        JsonMapperRegistry.smileWriter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(os, obj);
+    }
+
+    /**
+     * Smile bytes를 선언된 Type으로 변경한다. 알 수 없는 속성은 무시한다.
+     *
+     * @param bytes     Smile bytes
+     * @param classType 변경할 Type
+     * @return <T>
+     */
+    public static <T> T fromBytes (byte[] bytes, Class<T> classType) throws IOException
+    {
+        return JsonMapperRegistry.smileReader(classType).readValue(bytes);
+    }
+
+    /**
+     * Smile bytes를 선언된 Type으로 변경한다. 알 수 없는 속성은 무시한다.
+     *
+     * @param bytes   Smile bytes
+     * @param typeRef 변경할 Type
+     * @return <T>
+     */
+    public static <T> T fromBytes (byte[] bytes, TypeReference<T> typeRef) throws IOException
+    {
+        return JsonMapperRegistry.smileReader(typeRef.getType()).readValue(bytes);
+    }
+
+    /**
+     * Smile InputStream 을 선언된 Type으로 변경한다.
+     *
+     * @param in        Smile InputStream
+     * @param classType 변경할 Type
+     * @return <T>
+     */
+    public static <T> T read (InputStream in, Class<T> classType) throws IOException
+    {
+        return JsonMapperRegistry.smileReader(classType).readValue(in);
+    }
+
+    /**
+     * Smile bytes를 List<T> 객체로 변경한다.
+     *
+     * @param bytes     Smile bytes
+     * @param classType 원소 Type
+     * @return List<T>
+     */
+    public static <T> List<T> fromBytesAsList (byte[] bytes, Class<T> classType) throws IOException
+    {
+        Type listType = JsonMapperRegistry.typeFactory().constructCollectionType(List.class, classType);
+        return JsonMapperRegistry.smileReader(listType).readValue(bytes);
+    }
+
+    /**
+     * 원소를 하나씩 Smile 배열로 쓴다. 전체 목록을 메모리에 만들지 않는다. os 는 닫지 않는다.
+     *
+     * @param items 원소 Iterator
+     * @param os    출력 stream
+     * @return 쓴 원소 수
+     */
+    public static long writeArray (Iterator<?> items, OutputStream os) throws IOException
+    {
+        long count = 0;
+        try (SequenceWriter writer = JsonMapperRegistry.smileWriter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValuesAsArray(os))
+        {
+            while (items.hasNext())
+            {
+                writer.write(items.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Smile 배열을 원소 단위로 읽는 Iterator 를 반환한다. 사용 후 close 해야 하며, close 하면 in 도 닫힌다.
+     *
+     * @param in        Smile 배열 InputStream
+     * @param classType 원소 Type
+     * @return MappingIterator
+     * @see JsonUtil#iterateArray(InputStream, Class)
+     */
+    public static <T> MappingIterator<T> iterateArray (InputStream in, Class<T> classType) throws IOException
+    {
+        return JsonMapperRegistry.smileReader(classType).readValues(in);
+    }
+
+    /**
+     * Smile 배열을 원소 단위로 읽는 lazy Stream 을 반환한다. Stream 을 닫으면 in 도 닫힌다.
+     *
+     * @param in        Smile 배열 InputStream
+     * @param classType 원소 Type
+     * @return Stream
+     */
+    public static <T> Stream<T> streamArray (InputStream in, Class<T> classType) throws IOException
+    {
+        return JsonUtil.toStream(iterateArray(in, classType));
+    }
+}
@@ -1,10 +1,9 @@
 package com.yjkim.spring.java.utility.data.map;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.google.common.base.CaseFormat;
+import com.yjkim.spring.java.utility.data.BeanMetadata;
 import com.yjkim.spring.java.utility.data.ReflectionUtil;
+import com.yjkim.spring.java.utility.data.json.JsonMapperRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 
@@ -25,10 +24,7 @@ public class MapUtil
 
     public static <T> T convertMapToObject(Map<String, String> map, Class<T> clazz)
     {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setSerializerProvider(new DefaultSerializerProvider.Impl());
-        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        return objectMapper.convertValue(map, clazz);
+        return JsonMapperRegistry.convert(map, clazz, JsonMapperRegistry.Option.ALLOW_EMPTY_BEANS);
     }
     
     /**
@@ -39,12 +35,31 @@ public class MapUtil
      */
     public static Map<String, Object> converObjectToMap (Object obj)
     {
-        return converObjectToMap(obj, ReflectionUtil.getPropertyDescriptors(obj.getClass()), false);
+        return converObjectToMap(obj, false);
     }
     
     public static Map<String, Object> converObjectToSnakeCaseMap (Object obj)
     {
-        return converObjectToMap(obj, ReflectionUtil.getPropertyDescriptors(obj.getClass()), true);
+        return converObjectToMap(obj, true);
+    }
+    
+    /**
+     * 클래스 별로 cache 된 property 정보 ({@link BeanMetadata}) 로 Object를 Map으로 변환한다.
+     */
+    private static Map<String, Object> converObjectToMap (Object obj, boolean isConvertSnake)
+    {
+        if (obj == null)
+        {
+            return new HashMap<>();
+        }
+        BeanMetadata metadata = BeanMetadata.of(obj.getClass());
+        Map<String, Object> resultMap = new HashMap<>(Math.max(16, (int) (metadata.size() / 0.75f) + 1));
+        for (int i = 0; i < metadata.size(); i++)
+        {
+            Object value = ReflectionUtil.invokeGetMethod(obj, metadata.getReader(i));
+            resultMap.put(isConvertSnake ? metadata.getSnakeName(i) : metadata.getName(i), value);
+        }
+        return resultMap;
     }
     
     public static Map<String, Object> converObjectToMap (Object obj, List<PropertyDescriptor> propertyDescriptors, boolean isConvertSnake)
@@ -0,0 +1,38 @@
+package com.yjkim.spring.java.utility.file;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link ExcelExporter} 출력 컬럼
+ * <pre>
+ *     &#64;ExcelColumn(header = "금액", order = 2, format = "#,##0")
+ *     private BigDecimal amount;
+ * </pre>
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExcelColumn
+{
+    /**
+     * 헤더명
+     */
+    String header();
+
+    /**
+     * 컬럼 순서 (같으면 필드 선언 순서)
+     */
+    int order() default Integer.MAX_VALUE;
+
+    /**
+     * 컬럼 너비 (글자 수). 0 이하면 헤더 길이로 정한다.
+     */
+    int width() default 0;
+
+    /**
+     * 셀 data format (ex. "#,##0", "yyyy-mm-dd"). 비어있으면 타입별 기본 format
+     */
+    String format() default "";
+}
@@ -0,0 +1,120 @@
+package com.yjkim.spring.java.utility.file;
+
+import com.yjkim.spring.java.utility.data.ReflectionUtil;
+import lombok.Data;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link ExcelExporter} 컬럼 정의
+ * <pre>
+ *     List&lt;ExcelColumnDefinition&lt;User&gt;&gt; columns = ExcelColumnDefinition.&lt;User&gt;builder()
+ *             .column("이름", User::getName)
+ *             .column("금액", User::getAmount, "#,##0")
+ *             .build();
+ * </pre>
+ *
+ * @param <T> 행 타입
+ */
+@Data
+public class ExcelColumnDefinition<T>
+{
+    private final String header;
+    private final Function<T, Object> getter;
+    /**
+     * 컬럼 너비 (글자 수). 0 이하면 헤더 길이로 정한다.
+     */
+    private final int width;
+    /**
+     * 셀 data format. null 이면 타입별 기본 format
+     */
+    private final String format;
+
+    public ExcelColumnDefinition (String header, Function<T, Object> getter, int width, String format)
+    {
+        this.header = header;
+        this.getter = getter;
+        this.width = width;
+        this.format = format == null || format.isEmpty() ? null : format;
+    }
+
+    public static <T> Builder<T> builder ()
+    {
+        return new Builder<>();
+    }
+
+    /**
+     * 클래스의 {@link ExcelColumn} 필드로 컬럼 정의를 만든다.
+     *
+     * @param clazz 행 타입
+     * @return order 순으로 정렬된 컬럼 정의
+     */
+    public static <T> List<ExcelColumnDefinition<T>> fromAnnotation (Class<T> clazz)
+    {
+        List<Field> fields = new ArrayList<>();
+        for (Field f : ReflectionUtil.findNonStaticFields(clazz))
+        {
+            if (f.isAnnotationPresent(ExcelColumn.class))
+            {
+                fields.add(f);
+            }
+        }
+        if (fields.isEmpty())
+        {
+            throw new IllegalArgumentException("@ExcelColumn field not found. class : " + clazz.getName());
+        }
+        fields.sort(Comparator.comparingInt(f -> f.getAnnotation(ExcelColumn.class).order()));
+
+        List<ExcelColumnDefinition<T>> columns = new ArrayList<>(fields.size());
+        for (Field f : fields)
+        {
+            ExcelColumn column = f.getAnnotation(ExcelColumn.class);
+            f.setAccessible(true);
+            columns.add(new ExcelColumnDefinition<>(column.header(), t -> getFieldValue(f, t), column.width(),
+                    column.format()));
+        }
+        return Collections.unmodifiableList(columns);
+    }
+
+    private static Object getFieldValue (Field f, Object obj)
+    {
+        try
+        {
+            return f.get(obj);
+        } catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException("Cannot access field. " + f.getName(), e);
+        }
+    }
+
+    public static class Builder<T>
+    {
+        private final List<ExcelColumnDefinition<T>> columns = new ArrayList<>();
+
+        public Builder<T> column (String header, Function<T, Object> getter)
+        {
+            return column(header, getter, null, 0);
+        }
+
+        public Builder<T> column (String header, Function<T, Object> getter, String format)
+        {
+            return column(header, getter, format, 0);
+        }
+
+        public Builder<T> column (String header, Function<T, Object> getter, String format, int width)
+        {
+            columns.add(new ExcelColumnDefinition<>(header, getter, width, format));
+            return this;
+        }
+
+        public List<ExcelColumnDefinition<T>> build ()
+        {
+            return Collections.unmodifiableList(new ArrayList<>(columns));
+        }
+    }
+}
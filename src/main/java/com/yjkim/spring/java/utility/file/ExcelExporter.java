@@ -0,0 +1,312 @@
+package com.yjkim.spring.java.utility.file;
+
+import com.yjkim.spring.java.utility.http.RestUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 공통 규격 Excel Exporter
+ * <pre>
+ *     SXSSFWorkbook 으로 windowSize 개의 행만 메모리에 유지하며 쓰므로, 행 수와 관계없이 heap 사용량이 일정하다.
+ *     - 컬럼 : {@link ExcelColumn} 또는 {@link ExcelColumnDefinition#builder()}
+ *     - 헤더 / data format 별 cell style 은 workbook 당 한번만 만들어 공유한다.
+ *     - 시트 최대 행 수 (1,048,576) 를 넘으면 다음 시트로 이어서 쓴다.
+ *
+ *     ExcelExporter.of(UserExcel.class).export(userStream, response, "users.xlsx");
+ * </pre>
+ *
+ * @param <T> 행 타입
+ */
+@Slf4j
+public class ExcelExporter<T>
+{
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+    public static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private static final String DEFAULT_DATE_FORMAT = "yyyy-mm-dd";
+    private static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
+
+    private final List<ExcelColumnDefinition<T>> columns;
+
+    /**
+     * 메모리에 유지할 행 수
+     */
+    @Setter
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+
+    /**
+     * 시트명 (두번째 시트부터 " (n)" 이 붙는다.)
+     */
+    @Setter
+    private String sheetName = "Sheet";
+
+    /**
+     * 시트당 최대 행 수 (헤더 포함)
+     */
+    @Setter
+    private int maxRowsPerSheet = MAX_ROWS;
+
+    public ExcelExporter (List<ExcelColumnDefinition<T>> columns)
+    {
+        if (columns == null || columns.isEmpty())
+        {
+            throw new IllegalArgumentException("Excel columns is empty.");
+        }
+        this.columns = columns;
+    }
+
+    /**
+     * {@link ExcelColumn} 필드로 컬럼을 정한다.
+     */
+    public static <T> ExcelExporter<T> of (Class<T> clazz)
+    {
+        return new ExcelExporter<>(ExcelColumnDefinition.fromAnnotation(clazz));
+    }
+
+    public static <T> ExcelExporter<T> of (List<ExcelColumnDefinition<T>> columns)
+    {
+        return new ExcelExporter<>(columns);
+    }
+
+    /**
+     * 행 조회 함수 (page 는 0부터). null 또는 빈 목록을 반환하면 종료한다.
+     */
+    @FunctionalInterface
+    public interface PageSupplier<T>
+    {
+        List<T> get (int page);
+    }
+
+    /**
+     * Stream 의 행을 엑셀로 쓴다. Stream 은 닫지 않는다.
+     *
+     * @param rows 행 Stream
+     * @param os   출력 stream
+     * @return 쓴 행 수 (헤더 제외)
+     */
+    public long export (Stream<T> rows, OutputStream os) throws IOException
+    {
+        try (Session session = new Session())
+        {
+            Iterator<T> it = rows.iterator();
+            while (it.hasNext())
+            {
+                session.write(it.next());
+            }
+            return session.finish(os);
+        }
+    }
+
+    /**
+     * 페이지 단위로 조회한 행을 엑셀로 쓴다.
+     *
+     * @param supplier 행 조회 함수
+     * @param os       출력 stream
+     * @return 쓴 행 수 (헤더 제외)
+     */
+    public long export (PageSupplier<T> supplier, OutputStream os) throws IOException
+    {
+        try (Session session = new Session())
+        {
+            int page = 0;
+            List<T> list;
+            while ((list = supplier.get(page++)) != null && !list.isEmpty())
+            {
+                for (T t : list)
+                {
+                    session.write(t);
+                }
+            }
+            return session.finish(os);
+        }
+    }
+
+    /**
+     * Stream 의 행을 엑셀 파일로 response 에 쓴다.
+     */
+    public long export (Stream<T> rows, HttpServletResponse response, String fileName) throws IOException
+    {
+        RestUtil.setExcelFileHeader(response, fileName);
+        return export(rows, response.getOutputStream());
+    }
+
+    /**
+     * 페이지 단위로 조회한 행을 엑셀 파일로 response 에 쓴다.
+     */
+    public long export (PageSupplier<T> supplier, HttpServletResponse response, String fileName) throws IOException
+    {
+        RestUtil.setExcelFileHeader(response, fileName);
+        return export(supplier, response.getOutputStream());
+    }
+
+    /**
+     * workbook 1개를 쓰는 동안의 상태
+     */
+    private class Session implements Closeable
+    {
+        private final SXSSFWorkbook workbook;
+        private final DataFormat dataFormat;
+        private final CellStyle headerStyle;
+        private final Map<String, CellStyle> styles = new HashMap<>();
+        private final CellStyle[] columnStyles;
+
+        private Sheet sheet;
+        private int sheetCount = 0;
+        private int rowIx = 0;
+        private long count = 0;
+
+        Session ()
+        {
+            this.workbook = new SXSSFWorkbook(Math.max(1, windowSize));
+            this.workbook.setCompressTempFiles(true);
+            this.dataFormat = workbook.createDataFormat();
+            this.headerStyle = createHeaderStyle();
+            this.columnStyles = new CellStyle[columns.size()];
+            for (int i = 0; i < columns.size(); i++)
+            {
+                String format = columns.get(i).getFormat();
+                columnStyles[i] = format == null ? null : style(format);
+            }
+        }
+
+        void write (T item)
+        {
+            if (sheet == null || rowIx >= maxRowsPerSheet)
+            {
+                newSheet();
+            }
+
+            Row row = sheet.createRow(rowIx++);
+            for (int i = 0; i < columns.size(); i++)
+            {
+                Object value = columns.get(i).getGetter().apply(item);
+                if (value != null)
+                {
+                    setCellValue(row.createCell(i), value, columnStyles[i]);
+                }
+            }
+            count++;
+        }
+
+        long finish (OutputStream os) throws IOException
+        {
+            if (sheet == null)
+            {
+                newSheet();
+            }
+            workbook.write(os);
+            os.flush();
+            log.debug("excel export : {} rows, {} sheets", count, sheetCount);
+            return count;
+        }
+
+        @Override
+        public void close () throws IOException
+        {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+
+        private void newSheet ()
+        {
+            sheetCount++;
+            sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + " (" + sheetCount + ")");
+            rowIx = 0;
+
+            Row header = sheet.createRow(rowIx++);
+            for (int i = 0; i < columns.size(); i++)
+            {
+                ExcelColumnDefinition<T> column = columns.get(i);
+                Cell cell = header.createCell(i);
+                cell.setCellValue(column.getHeader());
+                cell.setCellStyle(headerStyle);
+
+                int width = column.getWidth() > 0 ? column.getWidth() : Math.max(10, column.getHeader().length() * 2 + 2);
+                sheet.setColumnWidth(i, Math.min(255, width) * 256);
+            }
+            sheet.createFreezePane(0, 1);
+        }
+
+        private void setCellValue (Cell cell, Object value, CellStyle style)
+        {
+            CellStyle cellStyle = style;
+            if (value instanceof Number number)
+            {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool)
+            {
+                cell.setCellValue(bool);
+            } else if (value instanceof LocalDateTime dateTime)
+            {
+                cell.setCellValue(dateTime);
+                cellStyle = style != null ? style : style(DEFAULT_DATE_TIME_FORMAT);
+            } else if (value instanceof LocalDate date)
+            {
+                cell.setCellValue(date);
+                cellStyle = style != null ? style : style(DEFAULT_DATE_FORMAT);
+            } else if (value instanceof Date date)
+            {
+                cell.setCellValue(date);
+                cellStyle = style != null ? style : style(DEFAULT_DATE_TIME_FORMAT);
+            } else if (value instanceof Calendar calendar)
+            {
+                cell.setCellValue(calendar);
+                cellStyle = style != null ? style : style(DEFAULT_DATE_TIME_FORMAT);
+            } else
+            {
+                cell.setCellValue(value.toString());
+            }
+
+            if (cellStyle != null)
+            {
+                cell.setCellStyle(cellStyle);
+            }
+        }
+
+        private CellStyle style (String format)
+        {
+            return styles.computeIfAbsent(format, f -> {
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat(dataFormat.getFormat(f));
+                return style;
+            });
+        }
+
+        private CellStyle createHeaderStyle ()
+        {
+            Font font = workbook.createFont();
+            font.setBold(true);
+
+            CellStyle style = workbook.createCellStyle();
+            style.setFont(font);
+            style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            return style;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * NIO {@link FileChannel} 기반 파일 복사 유틸리티
+ * <pre>
+ *     FileChannel.transferTo / transferFrom 을 사용해 커널 영역에서 바로 복사한다. (zero-copy)
+ *     transfer 가 진행되지 않는 파일 시스템에서는 direct buffer 복사로 대체한다.
+ * </pre>
+ */
+@Slf4j
+public class FileCopyUtil
+{
+    /**
+     * transferTo 1회 호출당 최대 전송 크기 (64MB)
+     */
+    private static final long TRANSFER_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * fallback 복사 시 사용하는 buffer 크기 (64KB)
+     */
+    private static final int FALLBACK_BUFFER_SIZE = 64 * 1024;
+
+    public FileCopyUtil ()
+    {
+        throw new IllegalStateException("FileCopyUtil is utility class.");
+    }
+
+    /**
+     * 복사 진행 상황 callback
+     */
+    @FunctionalInterface
+    public interface CopyProgressListener
+    {
+        /**
+         * @param copiedBytes  현재까지 복사된 byte 수
+         * @param totalBytes   전체 byte 수 (알 수 없는 경우 -1)
+         * @param elapsedNanos 복사 시작 후 경과 시간 (nano seconds)
+         */
+        void onProgress (long copiedBytes, long totalBytes, long elapsedNanos);
+
+        /**
+         * 초당 처리량(bytes/sec)을 계산한다.
+         *
+         * @param copiedBytes  복사된 byte 수
+         * @param elapsedNanos 경과 시간 (nano seconds)
+         * @return bytes/sec
+         */
+        static double throughput (long copiedBytes, long elapsedNanos)
+        {
+            return elapsedNanos <= 0 ? 0 : copiedBytes * 1_000_000_000d / elapsedNanos;
+        }
+    }
+
+    /**
+     * 파일을 복사한다. 대상 파일이 존재하면 덮어쓴다.
+     *
+     * @param src  원본 파일
+     * @param dest 복사 대상 파일
+     * @return 복사된 byte 수
+     */
+    public static long copy (Path src, Path dest) throws IOException
+    {
+        return copy(src, dest, null);
+    }
+
+    /**
+     * 파일을 복사한다. 대상 파일이 존재하면 덮어쓴다.
+     *
+     * @param src      원본 파일
+     * @param dest     복사 대상 파일
+     * @param listener 진행 상황 callback (nullable)
+     * @return 복사된 byte 수
+     */
+    public static long copy (Path src, Path dest, CopyProgressListener listener) throws IOException
+    {
+        try (FileChannel source = FileChannel.open(src, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(dest, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            return transfer(source, target, listener);
+        }
+    }
+
+    /**
+     * InputStream 의 내용을 파일로 저장한다. 대상 파일이 존재하면 덮어쓴다.
+     * <pre>
+     *     InputStream 은 닫지 않는다.
+     * </pre>
+     *
+     * @param in       원본 InputStream
+     * @param dest     저장할 파일
+     * @param listener 진행 상황 callback (nullable)
+     * @return 복사된 byte 수
+     */
+    public static long copy (InputStream in, Path dest, CopyProgressListener listener) throws IOException
+    {
+        try (FileChannel target = FileChannel.open(dest, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            if (in instanceof FileInputStream fis)
+            {
+                return transfer(fis.getChannel(), target, listener);
+            }
+            return transferFrom(Channels.newChannel(in), target, listener);
+        }
+    }
+
+    /**
+     * 파일을 이동한다.
+     * <pre>
+     *     같은 파일 시스템이면 rename 으로 처리하고,
+     *     다른 파일 시스템(volume)이면 복사 후 원본을 삭제한다.
+     *     대상 파일이 이미 존재하면 {@link FileAlreadyExistsException} 이 발생한다.
+     * </pre>
+     *
+     * @param src      원본 파일
+     * @param dest     이동 대상 파일
+     * @param listener 진행 상황 callback (nullable)
+     */
+    public static void move (Path src, Path dest, CopyProgressListener listener) throws IOException
+    {
+        if (Files.exists(dest))
+        {
+            throw new FileAlreadyExistsException(dest.toString());
+        }
+
+        try
+        {
+            Files.move(src, dest, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e)
+        {
+            log.debug("rename is not supported. copy and delete > {}", src);
+        }
+
+        if (Files.isDirectory(src))
+        {
+            // 디렉토리는 JDK 구현에 맡긴다. (다른 volume 이면 비어있는 경우만 가능)
+            Files.move(src, dest);
+            return;
+        }
+
+        try
+        {
+            copy(src, dest, listener);
+        } catch (IOException e)
+        {
+            Files.deleteIfExists(dest);
+            throw e;
+        }
+        Files.delete(src);
+    }
+
+    /**
+     * FileChannel 간 복사
+     * <pre>
+     *     transferTo 가 더이상 진행되지 않으면 (일부 파일 시스템, size 를 알 수 없는 파일)
+     *     남은 내용은 buffer 복사로 처리한다.
+     * </pre>
+     */
+    private static long transfer (FileChannel source, FileChannel target, CopyProgressListener listener)
+            throws IOException
+    {
+        long start = System.nanoTime();
+        long position = source.position();
+        long size = source.size();
+        long copied = 0;
+
+        while (position < size)
+        {
+            long transferred = source.transferTo(position, Math.min(TRANSFER_CHUNK_SIZE, size - position), target);
+            if (transferred <= 0)
+            {
+                break;
+            }
+            position += transferred;
+            copied += transferred;
+            if (listener != null)
+            {
+                listener.onProgress(copied, size, System.nanoTime() - start);
+            }
+        }
+
+        source.position(position);
+        return copied + copyByBuffer(source, target, copied, size, start, listener);
+    }
+
+    /**
+     * 일반 Channel 에서 FileChannel 로 복사
+     */
+    private static long transferFrom (ReadableByteChannel source, FileChannel target, CopyProgressListener listener)
+            throws IOException
+    {
+        long start = System.nanoTime();
+        long position = target.position();
+        long copied = 0;
+
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0)
+        {
+            position += transferred;
+            copied += transferred;
+            if (listener != null)
+            {
+                listener.onProgress(copied, -1, System.nanoTime() - start);
+            }
+        }
+
+        target.position(position);
+        return copied;
+    }
+
+    /**
+     * fallback 복사 (direct buffer)
+     */
+    private static long copyByBuffer (ReadableByteChannel source, WritableByteChannel target, long copiedBefore,
+                                      long size, long start, CopyProgressListener listener) throws IOException
+    {
+        ByteBuffer buffer = null;
+        long copied = 0;
+
+        while (true)
+        {
+            if (buffer == null)
+            {
+                // 정상적으로 transfer 가 끝난 경우 1byte 로 EOF 만 확인한다.
+                ByteBuffer probe = ByteBuffer.allocate(1);
+                if (source.read(probe) < 0)
+                {
+                    return copied;
+                }
+                buffer = ByteBuffer.allocateDirect(FALLBACK_BUFFER_SIZE);
+                probe.flip();
+                buffer.put(probe);
+            } else if (source.read(buffer) < 0)
+            {
+                break;
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                copied += target.write(buffer);
+            }
+            buffer.clear();
+
+            if (listener != null)
+            {
+                listener.onProgress(copiedBefore + copied, size, System.nanoTime() - start);
+            }
+        }
+        return copied;
+    }
+}
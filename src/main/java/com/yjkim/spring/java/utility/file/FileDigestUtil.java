@@ -0,0 +1,329 @@
+package com.yjkim.spring.java.utility.file;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.yjkim.spring.java.utility.data.string.HexUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * 파일 checksum(digest) 유틸리티
+ * <pre>
+ *     큰 파일은 MappedByteBuffer window 단위로, 작은 파일은 thread 별로 재사용하는 direct buffer 로 읽는다.
+ *     여러 알고리즘을 한번의 read 로 동시에 계산할 수 있다.
+ * </pre>
+ */
+@Slf4j
+public class FileDigestUtil
+{
+    /**
+     * 이 크기 이상의 파일은 memory-mapped 로 읽는다. (4MB)
+     */
+    private static final long MAP_THRESHOLD = 4L * 1024 * 1024;
+
+    /**
+     * mapping window 크기 (64MB)
+     */
+    private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * direct buffer 크기 (256KB)
+     */
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    public FileDigestUtil ()
+    {
+        throw new IllegalStateException("FileDigestUtil is utility class.");
+    }
+
+    /**
+     * 지원하는 digest 알고리즘
+     * <pre>
+     *     MURMUR3_128 : 암호화 용도가 아닌 빠른 hash (Guava)
+     * </pre>
+     */
+    public enum DigestAlgorithm
+    {
+        MD5, SHA_1, SHA_256, SHA_512, CRC32, CRC32C, MURMUR3_128
+    }
+
+    /**
+     * 파일의 digest 를 계산한다.
+     *
+     * @param path      파일
+     * @param algorithm 알고리즘
+     * @return digest byte
+     */
+    public static byte[] digest (Path path, DigestAlgorithm algorithm) throws IOException
+    {
+        return digest(path, new DigestAlgorithm[]{algorithm}).get(algorithm);
+    }
+
+    /**
+     * 파일의 digest 를 hexString 으로 반환한다.
+     *
+     * @param path      파일
+     * @param algorithm 알고리즘
+     * @return digest hexString
+     */
+    public static String digestHex (Path path, DigestAlgorithm algorithm) throws IOException
+    {
+        return HexUtil.toHex(digest(path, algorithm));
+    }
+
+    /**
+     * 파일을 한번만 읽어서 여러 알고리즘의 digest 를 계산한다.
+     *
+     * @param path       파일
+     * @param algorithms 알고리즘 목록
+     * @return 알고리즘별 digest byte
+     */
+    public static Map<DigestAlgorithm, byte[]> digest (Path path, DigestAlgorithm... algorithms) throws IOException
+    {
+        if (algorithms == null || algorithms.length == 0)
+        {
+            throw new IllegalArgumentException("digest algorithm is empty.");
+        }
+
+        Accumulator[] accumulators = new Accumulator[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++)
+        {
+            accumulators[i] = newAccumulator(algorithms[i]);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD)
+            {
+                readMapped(channel, size, accumulators);
+            } else
+            {
+                readBuffered(channel, accumulators);
+            }
+        }
+
+        Map<DigestAlgorithm, byte[]> result = new EnumMap<>(DigestAlgorithm.class);
+        for (int i = 0; i < algorithms.length; i++)
+        {
+            result.put(algorithms[i], accumulators[i].finish());
+        }
+        return result;
+    }
+
+    /**
+     * 여러 파일의 digest 를 병렬로 계산한다.
+     * <pre>
+     *     parallelism 개의 thread pool 에서 처리하며, 결과는 입력 순서를 유지한다.
+     *     digest 계산에 실패한 파일은 빈 배열을 반환한다.
+     * </pre>
+     *
+     * @param paths       파일 목록
+     * @param algorithm   알고리즘
+     * @param parallelism thread 수
+     * @return 파일별 digest byte
+     */
+    public static Map<Path, byte[]> digestAll (List<Path> paths, DigestAlgorithm algorithm, int parallelism)
+            throws InterruptedException
+    {
+        Map<Path, byte[]> result = new LinkedHashMap<>();
+        if (paths == null || paths.isEmpty())
+        {
+            return result;
+        }
+
+        int threads = Math.max(1, Math.min(parallelism, paths.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<byte[]>> futures = new ArrayList<>(paths.size());
+            for (Path path : paths)
+            {
+                futures.add(executor.submit(() -> digest(path, algorithm)));
+            }
+
+            for (int i = 0; i < paths.size(); i++)
+            {
+                byte[] digest;
+                try
+                {
+                    digest = futures.get(i).get();
+                } catch (ExecutionException e)
+                {
+                    log.error("digest failed > {}", paths.get(i), e.getCause());
+                    digest = new byte[0];
+                }
+                result.put(paths.get(i), digest);
+            }
+        } finally
+        {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private static void readMapped (FileChannel channel, long size, Accumulator[] accumulators) throws IOException
+    {
+        long position = 0;
+        while (position < size)
+        {
+            long length = Math.min(MAP_WINDOW_SIZE, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            update(accumulators, window);
+            position += length;
+        }
+    }
+
+    private static void readBuffered (FileChannel channel, Accumulator[] accumulators) throws IOException
+    {
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+        while (channel.read(buffer) >= 0)
+        {
+            buffer.flip();
+            update(accumulators, buffer);
+            buffer.clear();
+        }
+    }
+
+    private static void update (Accumulator[] accumulators, ByteBuffer buffer)
+    {
+        int position = buffer.position();
+        for (Accumulator accumulator : accumulators)
+        {
+            buffer.position(position);
+            accumulator.update(buffer);
+        }
+    }
+
+    private static Accumulator newAccumulator (DigestAlgorithm algorithm)
+    {
+        switch (algorithm)
+        {
+            case MD5:
+                return new MessageDigestAccumulator("MD5");
+            case SHA_1:
+                return new MessageDigestAccumulator("SHA-1");
+            case SHA_256:
+                return new MessageDigestAccumulator("SHA-256");
+            case SHA_512:
+                return new MessageDigestAccumulator("SHA-512");
+            case CRC32:
+                return new ChecksumAccumulator(new CRC32());
+            case CRC32C:
+                return new ChecksumAccumulator(new CRC32C());
+            case MURMUR3_128:
+                return new HasherAccumulator(Hashing.murmur3_128().newHasher());
+            default:
+                throw new IllegalArgumentException("Not supported digest algorithm > " + algorithm);
+        }
+    }
+
+    /**
+     * digest 계산기
+     */
+    private interface Accumulator
+    {
+        /**
+         * buffer 의 position ~ limit 을 반영한다.
+         */
+        void update (ByteBuffer buffer);
+
+        byte[] finish ();
+    }
+
+    private static class MessageDigestAccumulator implements Accumulator
+    {
+        private final MessageDigest md;
+
+        MessageDigestAccumulator (String algorithm)
+        {
+            try
+            {
+                md = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void update (ByteBuffer buffer)
+        {
+            md.update(buffer);
+        }
+
+        @Override
+        public byte[] finish ()
+        {
+            return md.digest();
+        }
+    }
+
+    private static class ChecksumAccumulator implements Accumulator
+    {
+        private final Checksum checksum;
+
+        ChecksumAccumulator (Checksum checksum)
+        {
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void update (ByteBuffer buffer)
+        {
+            checksum.update(buffer);
+        }
+
+        @Override
+        public byte[] finish ()
+        {
+            return ByteBuffer.allocate(Integer.BYTES).putInt((int) checksum.getValue()).array();
+        }
+    }
+
+    private static class HasherAccumulator implements Accumulator
+    {
+        private final Hasher hasher;
+
+        HasherAccumulator (Hasher hasher)
+        {
+            this.hasher = hasher;
+        }
+
+        @Override
+        public void update (ByteBuffer buffer)
+        {
+            hasher.putBytes(buffer);
+        }
+
+        @Override
+        public byte[] finish ()
+        {
+            return hasher.hash().asBytes();
+        }
+    }
+}
@@ -2,15 +2,17 @@ package com.yjkim.spring.java.utility.file;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.yjkim.spring.java.utility.data.list.ListUtil;
 import com.yjkim.spring.java.utility.os.SystemUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
@@ -21,6 +23,11 @@ import org.apache.commons.lang3.StringUtils;
  */
 @Slf4j
 public class FileUtil {
+    /**
+     * 배열로 읽을 수 있는 최대 크기
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     public FileUtil() {
         throw new IllegalStateException("FileUtil is utility class.");
     }
@@ -111,22 +118,23 @@ public class FileUtil {
      * @return 성공여부 (boolean)
      */
     public static boolean copy(File src_fp, File dest_fp) {
-        FileInputStream in = null;
-        FileOutputStream out = null;
-        BufferedInputStream inBuffer = null;
-        BufferedOutputStream outBuffer = null;
+        return copy(src_fp, dest_fp, null);
+    }
+
+    /**
+     * 파일을 복사 한다.
+     * <pre>
+     *     FileChannel.transferTo 를 사용한다. ({@link FileCopyUtil})
+     * </pre>
+     *
+     * @param src_fp   원본 파일
+     * @param dest_fp  복사 대상 파일
+     * @param listener 복사 진행 상황 callback (nullable)
+     * @return 성공여부 (boolean)
+     */
+    public static boolean copy(File src_fp, File dest_fp, FileCopyUtil.CopyProgressListener listener) {
         try {
-            in = new FileInputStream(src_fp);
-            out = new FileOutputStream(dest_fp);
-            inBuffer = new BufferedInputStream(in);
-            outBuffer = new BufferedOutputStream(out);
-
-            int numofbytes = 0;
-            byte[] buffer = new byte[8192];
-            while ((numofbytes = inBuffer.read(buffer, 0, buffer.length)) > -1) {
-                outBuffer.write(buffer, 0, numofbytes);
-            }
-            outBuffer.flush();
+            FileCopyUtil.copy(src_fp.toPath(), dest_fp.toPath(), listener);
             // cleanupif files are not the same length
             if (src_fp.length() != dest_fp.length()) {
                 dest_fp.delete();
@@ -135,41 +143,9 @@ public class FileUtil {
 
             return true;
         } catch (Exception e) {
+            log.error(e.getMessage(), e);
             dest_fp.delete();
             return false;
-        } finally {
-            if (outBuffer != null) {
-                try {
-                    outBuffer.close();
-                } catch (Exception ex) {
-                } finally {
-                    outBuffer = null;
-                }
-            }
-            if (inBuffer != null) {
-                try {
-                    inBuffer.close();
-                } catch (Exception ex) {
-                } finally {
-                    inBuffer = null;
-                }
-            }
-            if (out != null) {
-                try {
-                    out.close();
-                } catch (Exception ex) {
-                } finally {
-                    out = null;
-                }
-            }
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (Exception ex) {
-                } finally {
-                    in = null;
-                }
-            }
         }
     }
 
@@ -207,23 +183,7 @@ public class FileUtil {
      * @return 성공여부 (boolean)
      */
     public static boolean move(File fp, String path) {
-        File new_fp = new File(path);
-        if (fp.renameTo(new_fp)) {
-            return true;
-        }
-
-        try {
-            if (new_fp.createNewFile()) {
-                // delete if copy was successful, otherwise move will fail
-                if (copy(fp, new_fp)) {
-                    return fp.delete();
-                }
-            }
-        } catch (IOException ex) {
-            return false;
-        }
-
-        return false;
+        return move(fp, new File(path));
     }
 
     /**
@@ -362,66 +322,35 @@ public class FileUtil {
      * @return 체크섬 byte
      */
     public static byte[] getMd5(File fp) {
-        MessageDigest md = null;
-        BufferedInputStream in = null;
-        byte[] buffer = null;
-        try {
-            md = MessageDigest.getInstance("MD5");
-            in = new BufferedInputStream(new FileInputStream(fp));
-            int numofbytes = 0;
-            buffer = new byte[8192];
-            while ((numofbytes = in.read(buffer, 0, buffer.length)) > -1) {
-                md.update(buffer, 0, numofbytes);
-            }
-            return md.digest();
-        } catch (Exception ex) {
-            return new byte[0];
-        } finally {
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (Exception ex) {
-                } finally {
-                    in = null;
-                }
-            }
-            md = null;
-            buffer = null;
-        }
+        return getDigest(fp, FileDigestUtil.DigestAlgorithm.MD5);
     }
 
     /**
      * MD5 체크섬을 확인한다.
      *
      * @param filePath 확인할 파일 Path
-     * @return 체크섬 byte
+     * @return 체크섬 byte (실패시 빈 배열)
      */
     public static byte[] getMd5(String filePath) {
-        MessageDigest md = null;
-        BufferedInputStream in = null;
-        byte[] buffer = null;
+        if (StringUtils.isBlank(filePath)) {
+            return new byte[0];
+        }
+        return getMd5(new File(filePath));
+    }
+
+    /**
+     * 체크섬을 확인한다. ({@link FileDigestUtil})
+     *
+     * @param fp        확인할 파일
+     * @param algorithm 알고리즘
+     * @return 체크섬 byte (실패시 빈 배열)
+     */
+    public static byte[] getDigest(File fp, FileDigestUtil.DigestAlgorithm algorithm) {
         try {
-            md = MessageDigest.getInstance("MD5");
-            in = new BufferedInputStream(new FileInputStream(new File(filePath)));
-            int numofbytes = 0;
-            buffer = new byte[8192];
-            while ((numofbytes = in.read(buffer, 0, buffer.length)) > -1) {
-                md.update(buffer, 0, numofbytes);
-            }
-            return md.digest();
+            return FileDigestUtil.digest(fp.toPath(), algorithm);
         } catch (Exception ex) {
+            log.error(ex.getMessage());
             return new byte[0];
-        } finally {
-            if (in != null) {
-                try {
-                    in.close();
-                } catch (Exception ex) {
-                } finally {
-                    in = null;
-                }
-            }
-            md = null;
-            buffer = null;
         }
     }
 
@@ -432,32 +361,24 @@ public class FileUtil {
      * @return 파일 내용 byte
      */
     public static byte[] toBytes(String path) throws Exception {
+        return toBytes(path, Long.MAX_VALUE);
+    }
+
+    /**
+     * 파일의 내용을 byte로 리턴한다.
+     * <pre>
+     *     파일 크기가 maxBytes 를 넘으면 읽지 않고 IOException 을 던진다.
+     * </pre>
+     *
+     * @param path     확인할 파일 Path
+     * @param maxBytes 최대 파일 크기
+     * @return 파일 내용 byte
+     */
+    public static byte[] toBytes(String path, long maxBytes) throws IOException {
         if (path == null) {
             return new byte[0];
         }
-        ByteArrayOutputStream bao = null;
-        byte[] buffer = new byte[8192];
-        int numOfBytes = -1;
-        BufferedInputStream bsi = null;
-        try {
-            bao = new ByteArrayOutputStream();
-            bsi = new BufferedInputStream(new FileInputStream(path));
-            while ((numOfBytes = bsi.read(buffer, 0, buffer.length)) != -1) {
-                bao.write(buffer, 0, numOfBytes);
-            }
-            return bao.toByteArray();
-        } catch (Exception ex) {
-            throw ex;
-        } finally {
-            if (bao != null) {
-                bao.close();
-            }
-            bao = null;
-            if (bsi != null) {
-                bsi.close();
-            }
-            bsi = null;
-        }
+        return readAllBytes(Paths.get(path), maxBytes);
     }
 
     /**
@@ -467,28 +388,34 @@ public class FileUtil {
      * @return 파일 내용 byte
      */
     public static byte[] streamToBytes(InputStream in) throws IOException {
-        ByteArrayOutputStream bao = null;
-        byte[] buffer = new byte[8192];
-        int numOfBytes = -1;
-        BufferedInputStream bsi = null;
         try {
-            bao = new ByteArrayOutputStream();
-            bsi = new BufferedInputStream(in);
-            while ((numOfBytes = bsi.read(buffer, 0, buffer.length)) != -1) {
-                bao.write(buffer, 0, numOfBytes);
-            }
-            return bao.toByteArray();
+            return streamToBytes(in, Long.MAX_VALUE);
         } catch (Exception ex) {
             return new byte[0];
-        } finally {
-            if (bao != null) {
-                bao.close();
+        }
+    }
+
+    /**
+     * 파일의 내용을 byte로 리턴한다.
+     * <pre>
+     *     maxBytes 를 넘게 읽히면 IOException 을 던진다.
+     *     InputStream 은 닫는다.
+     * </pre>
+     *
+     * @param in       확인할 파일의 InputStream
+     * @param maxBytes 최대 크기
+     * @return 파일 내용 byte
+     */
+    public static byte[] streamToBytes(InputStream in, long maxBytes) throws IOException {
+        try (InputStream is = in) {
+            if (maxBytes >= MAX_ARRAY_SIZE) {
+                return is.readAllBytes();
             }
-            bao = null;
-            if (bsi != null) {
-                bsi.close();
+            byte[] bytes = is.readNBytes((int) maxBytes + 1);
+            if (bytes.length > maxBytes) {
+                throw new IOException("stream size exceeds the limit. limit : " + maxBytes);
             }
-            bsi = null;
+            return bytes;
         }
     }
 
@@ -499,31 +426,27 @@ public class FileUtil {
      * @return 파일 내용 byte
      */
     public static byte[] fileToBytes(File fp) throws IOException {
-        ByteArrayOutputStream bao = null;
-        byte[] buffer = new byte[8192];
-        int numOfBytes = -1;
-        BufferedInputStream bsi = null;
         try {
-            bao = new ByteArrayOutputStream();
-            bsi = new BufferedInputStream(new FileInputStream(fp));
-            while ((numOfBytes = bsi.read(buffer, 0, buffer.length)) != -1) {
-                bao.write(buffer, 0, numOfBytes);
-            }
-            return bao.toByteArray();
+            return fileToBytes(fp, Long.MAX_VALUE);
         } catch (Exception ex) {
             return new byte[0];
-        } finally {
-            if (bao != null) {
-                bao.close();
-            }
-            bao = null;
-            if (bsi != null) {
-                bsi.close();
-            }
-            bsi = null;
         }
     }
 
+    /**
+     * 파일의 내용을 byte로 리턴한다.
+     * <pre>
+     *     파일 크기가 maxBytes 를 넘으면 읽지 않고 IOException 을 던진다.
+     * </pre>
+     *
+     * @param fp       확인할 파일
+     * @param maxBytes 최대 파일 크기
+     * @return 파일 내용 byte
+     */
+    public static byte[] fileToBytes(File fp, long maxBytes) throws IOException {
+        return readAllBytes(fp.toPath(), maxBytes);
+    }
+
     /**
      * 파일의 내용을 String 으로 리턴한다.
      *
@@ -531,7 +454,7 @@ public class FileUtil {
      * @return 파일 내용
      */
     public static String fileToString(File fp) throws IOException {
-        return fileToString(fp, Charset.forName("UTF-8"));
+        return fileToString(fp, StandardCharsets.UTF_8);
     }
 
     /**
@@ -542,31 +465,39 @@ public class FileUtil {
      * @return 파일 내용
      */
     public static String fileToString(File fp, Charset charset) throws IOException {
-        ByteArrayOutputStream bao = null;
-        byte[] buffer = new byte[8192];
-        int numOfBytes = -1;
-        BufferedInputStream bsi = null;
         try {
-            bao = new ByteArrayOutputStream();
-            bsi = new BufferedInputStream(new FileInputStream(fp));
-            while ((numOfBytes = bsi.read(buffer, 0, buffer.length)) != -1) {
-                bao.write(buffer, 0, numOfBytes);
-            }
-            return new String(bao.toByteArray(), charset);
+            return fileToString(fp, charset, Long.MAX_VALUE);
         } catch (Exception ex) {
             return "";
-        } finally {
-            if (bao != null) {
-                bao.close();
-            }
-            bao = null;
-            if (bsi != null) {
-                bsi.close();
-            }
-            bsi = null;
         }
     }
 
+    /**
+     * 파일의 내용을 String 으로 리턴한다.
+     * <pre>
+     *     파일 크기가 maxBytes 를 넘으면 읽지 않고 IOException 을 던진다.
+     * </pre>
+     *
+     * @param fp       확인할 파일
+     * @param charset  charset
+     * @param maxBytes 최대 파일 크기
+     * @return 파일 내용
+     */
+    public static String fileToString(File fp, Charset charset, long maxBytes) throws IOException {
+        return new String(readAllBytes(fp.toPath(), maxBytes), charset);
+    }
+
+    /**
+     * 파일 크기만큼 미리 할당한 배열에 한번에 읽는다.
+     */
+    private static byte[] readAllBytes(Path path, long maxBytes) throws IOException {
+        long size = Files.size(path);
+        if (size > maxBytes) {
+            throw new IOException("file size exceeds the limit. size : " + size + ", limit : " + maxBytes + ", path : " + path);
+        }
+        return Files.readAllBytes(path);
+    }
+
     /**
      * 해당 파일을 line 단위로 읽어서 처리한다.
      *
@@ -575,7 +506,19 @@ public class FileUtil {
      * @throws IOException
      */
     public static void readAndProcessByLine(File fp, Consumer<String> process) throws IOException {
-        try (BufferedReader bis = new BufferedReader(new FileReader(fp))) {
+        readAndProcessByLine(fp, Charset.defaultCharset(), process);
+    }
+
+    /**
+     * 해당 파일을 line 단위로 읽어서 처리한다.
+     *
+     * @param fp      파일
+     * @param charset charset
+     * @param process line 단위로 읽어서 처리하는 프로세서
+     * @throws IOException
+     */
+    public static void readAndProcessByLine(File fp, Charset charset, Consumer<String> process) throws IOException {
+        try (BufferedReader bis = new BufferedReader(new InputStreamReader(new FileInputStream(fp), charset))) {
             String line;
             while ((line = bis.readLine()) != null) {
                 if (line.isBlank()) {
@@ -589,6 +532,40 @@ public class FileUtil {
         }
     }
 
+    /**
+     * 해당 파일을 line 단위로 읽어서 batch 단위로 병렬 처리한다. ({@link LineProcessUtil})
+     *
+     * @param fp        파일
+     * @param charset   charset
+     * @param batchSize batch 크기
+     * @param process   batch 단위로 처리하는 프로세서 (worker thread 에서 실행)
+     * @return 처리한 line 수
+     * @throws IOException
+     */
+    public static long readAndProcessByLine(File fp, Charset charset, int batchSize,
+                                            ListUtil.BaseProcessor<String> process) throws IOException {
+        return readAndProcessByLine(fp, LineProcessOption.of(charset, batchSize), process);
+    }
+
+    /**
+     * 해당 파일을 line 단위로 읽어서 batch 단위로 병렬 처리한다. ({@link LineProcessUtil})
+     *
+     * @param fp      파일
+     * @param option  병렬 처리 옵션
+     * @param process batch 단위로 처리하는 프로세서 (worker thread 에서 실행)
+     * @return 처리한 line 수
+     * @throws IOException
+     */
+    public static long readAndProcessByLine(File fp, LineProcessOption option,
+                                            ListUtil.BaseProcessor<String> process) throws IOException {
+        try {
+            return LineProcessUtil.processByLine(fp.toPath(), option, process);
+        } catch (IOException ex) {
+            log.error(ex.getMessage());
+            throw ex;
+        }
+    }
+
     /**
      * 파일을 저장한다.
      *
@@ -633,7 +610,7 @@ public class FileUtil {
     /**
      * 파일에 Stream에 담긴 데이터를 쓰고 저장한다.
      * <pre>
-     *     BufferedOutputStream, BufferedInputStream 사용
+     *     FileChannel.transferFrom 사용 ({@link FileCopyUtil})
      *     파일에 Stream에 담긴 데이터를 byte로 쓴다.
      * </pre>
      *
@@ -641,39 +618,30 @@ public class FileUtil {
      * @param in   파일 InputStream
      */
     public static void saveStreamToFile(String path, InputStream in) throws IOException {
+        saveStreamToFile(path, in, null);
+    }
+
+    /**
+     * 파일에 Stream에 담긴 데이터를 쓰고 저장한다.
+     * <pre>
+     *     FileChannel.transferFrom 사용 ({@link FileCopyUtil})
+     *     저장 후 InputStream 은 닫는다.
+     * </pre>
+     *
+     * @param path     저장할 파일 path
+     * @param in       파일 InputStream
+     * @param listener 저장 진행 상황 callback (nullable)
+     */
+    public static void saveStreamToFile(String path, InputStream in, FileCopyUtil.CopyProgressListener listener)
+            throws IOException {
         if (in == null) {
             return;
         }
-        BufferedOutputStream bos = null;
-        BufferedInputStream inBuffer = null;
         try {
-            bos = new BufferedOutputStream(new FileOutputStream(path));
-            inBuffer = new BufferedInputStream(in);
-            int numofbytes = 0;
-            byte[] buffer = new byte[8192];
-            while ((numofbytes = inBuffer.read(buffer, 0, buffer.length)) > -1) {
-                bos.write(buffer, 0, numofbytes);
-            }
-            bos.flush();
+            FileCopyUtil.copy(in, Paths.get(path), listener);
         } finally {
-            if (bos != null) {
-                try {
-                    bos.close();
-                } catch (Exception ex) {
-                } finally {
-                    bos = null;
-                }
-            }
-            if (inBuffer != null) {
-                try {
-                    inBuffer.close();
-                } catch (Exception ex) {
-                } finally {
-                    inBuffer = null;
-                }
-            }
+            closeStream(in);
         }
-
     }
 
 
@@ -894,9 +862,8 @@ public class FileUtil {
         }
 
         for (File file : listFile) {
-            // com.macrogen.util.FileUtil.move(file, path);
             try {
-                Files.move(Paths.get(file.getAbsolutePath()), Paths.get(path, file.getName()));
+                FileCopyUtil.move(file.toPath(), Paths.get(path, file.getName()), null);
             } catch (IOException e) {
                 log.error(e.getMessage(), e);
                 return;
@@ -921,7 +888,7 @@ public class FileUtil {
         }
 
         try {
-            Files.move(Paths.get(file.getAbsolutePath()), Paths.get(path, file.getName()));
+            FileCopyUtil.move(file.toPath(), Paths.get(path, file.getName()), null);
         } catch (IOException e) {
             log.error(e.getMessage(), e);
         }
@@ -0,0 +1,72 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.Data;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일 line 단위 병렬 처리 옵션 ({@link LineProcessUtil})
+ */
+@Data
+public class LineProcessOption
+{
+    /**
+     * 파일 charset
+     */
+    private Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * worker 에 전달할 line 묶음 크기
+     */
+    private int batchSize = 1000;
+
+    /**
+     * worker thread 수 (range 모드에서는 파일 분할 수)
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 처리 대기중인 batch 최대 수. (backpressure)
+     * 0 이하면 parallelism * 2
+     */
+    private int maxPendingBatches = 0;
+
+    /**
+     * virtual thread 사용 여부
+     */
+    private boolean virtualThread = false;
+
+    /**
+     * batch 처리 결과를 읽은 순서대로 전달할지 여부 (false 면 완료된 순서)
+     */
+    private boolean ordered = true;
+
+    /**
+     * 공백 line 제외 여부
+     */
+    private boolean skipBlank = true;
+
+    public static LineProcessOption of (Charset charset, int batchSize)
+    {
+        LineProcessOption option = new LineProcessOption();
+        option.setCharset(charset);
+        option.setBatchSize(batchSize);
+        return option;
+    }
+
+    int resolveMaxPendingBatches ()
+    {
+        return maxPendingBatches > 0 ? maxPendingBatches : Math.max(1, resolveParallelism() * 2);
+    }
+
+    int resolveParallelism ()
+    {
+        return Math.max(1, parallelism);
+    }
+
+    int resolveBatchSize ()
+    {
+        return Math.max(1, batchSize);
+    }
+}
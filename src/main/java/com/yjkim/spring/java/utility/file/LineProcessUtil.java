@@ -0,0 +1,411 @@
+package com.yjkim.spring.java.utility.file;
+
+import com.yjkim.spring.java.utility.data.list.ListUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 대용량 파일 line 단위 병렬 처리 유틸리티
+ * <pre>
+ *     - processByLine  : 1개의 reader thread 가 line 을 batch 로 묶어 worker pool 에 전달한다.
+ *                        대기중인 batch 수가 maxPendingBatches 를 넘으면 reader 가 대기한다. (backpressure)
+ *     - processByRange : 파일을 line 경계에 맞춘 byte 범위로 나누어 각 worker 가 직접 읽는다.
+ * </pre>
+ */
+@Slf4j
+public class LineProcessUtil
+{
+    private static final int READER_BUFFER_SIZE = 64 * 1024;
+
+    public LineProcessUtil ()
+    {
+        throw new IllegalStateException("LineProcessUtil is utility class.");
+    }
+
+    /**
+     * 파일을 line 단위로 읽어 batch 로 병렬 처리한다.
+     *
+     * @param path      파일
+     * @param option    옵션
+     * @param processor batch 처리 프로세서 (worker thread 에서 실행)
+     * @return 처리한 line 수
+     */
+    public static long processByLine (Path path, LineProcessOption option, ListUtil.BaseProcessor<String> processor)
+            throws IOException
+    {
+        return processByLine(path, option, batch -> {
+            processor.process(batch);
+            return null;
+        }, null);
+    }
+
+    /**
+     * 파일을 line 단위로 읽어 batch 로 병렬 처리한다.
+     * <pre>
+     *     mapper 는 worker thread 에서, completion 은 호출한 thread 에서 실행된다.
+     *     option.ordered 가 true 면 completion 은 파일의 batch 순서대로 호출된다.
+     * </pre>
+     *
+     * @param path       파일
+     * @param option     옵션
+     * @param mapper     batch 처리 함수 (worker thread 에서 실행)
+     * @param completion batch 처리 결과 callback (nullable)
+     * @param <R>        batch 처리 결과 타입
+     * @return 처리한 line 수
+     */
+    public static <R> long processByLine (Path path, LineProcessOption option, Function<List<String>, R> mapper,
+                                          Consumer<R> completion) throws IOException
+    {
+        int batchSize = option.resolveBatchSize();
+        long count = 0;
+
+        ExecutorService executor = newExecutor(option);
+        BatchDispatcher<R> dispatcher = new BatchDispatcher<>(executor, option, completion);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), option.getCharset()), READER_BUFFER_SIZE))
+        {
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (option.isSkipBlank() && line.isBlank())
+                {
+                    continue;
+                }
+                batch.add(line);
+                count++;
+
+                if (batch.size() >= batchSize)
+                {
+                    List<String> submitted = batch;
+                    dispatcher.submit(() -> mapper.apply(submitted));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty())
+            {
+                List<String> submitted = batch;
+                dispatcher.submit(() -> mapper.apply(submitted));
+            }
+            dispatcher.drain();
+        } finally
+        {
+            executor.shutdownNow();
+        }
+        return count;
+    }
+
+    /**
+     * 파일을 line 경계에 맞춘 byte 범위로 나누어 병렬 처리한다.
+     * <pre>
+     *     parallelism 개의 범위로 나누고, 각 범위는 하나의 worker 가 읽으면서 batch 단위로 processor 를 호출한다.
+     *     범위 사이의 처리 순서는 보장하지 않는다.
+     *     '\n' 이 1byte 로 인코딩되는 charset (UTF-8, ASCII, ISO-8859-x, EUC-KR 등)만 지원한다.
+     * </pre>
+     *
+     * @param path      파일
+     * @param option    옵션
+     * @param processor batch 처리 프로세서 (worker thread 에서 실행)
+     * @return 처리한 line 수
+     */
+    public static long processByRange (Path path, LineProcessOption option, ListUtil.BaseProcessor<String> processor)
+            throws IOException
+    {
+        Charset charset = option.getCharset();
+        if (!Arrays.equals("\n".getBytes(charset), new byte[]{'\n'}))
+        {
+            throw new IllegalArgumentException("Not supported charset for range split > " + charset);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            List<long[]> ranges = splitByLine(channel, option.resolveParallelism());
+            log.debug("split file into {} ranges > {}", ranges.size(), path);
+
+            ExecutorService executor = newExecutor(option);
+            try
+            {
+                List<Future<Long>> futures = new ArrayList<>(ranges.size());
+                for (long[] range : ranges)
+                {
+                    futures.add(executor.submit(() -> processRange(channel, range[0], range[1], option, processor)));
+                }
+
+                long count = 0;
+                for (Future<Long> future : futures)
+                {
+                    count += await(future);
+                }
+                return count;
+            } finally
+            {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 파일을 parts 개의 byte 범위로 나눈다. 각 범위의 끝은 '\n' 바로 다음 위치로 맞춘다.
+     *
+     * @param channel 파일 channel
+     * @param parts   분할 수
+     * @return [start, end) 범위 목록
+     */
+    static List<long[]> splitByLine (FileChannel channel, int parts) throws IOException
+    {
+        long size = channel.size();
+        List<long[]> ranges = new ArrayList<>(parts);
+        if (size == 0)
+        {
+            return ranges;
+        }
+
+        long step = Math.max(1, size / parts);
+        long start = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        for (int i = 1; i < parts && start < size; i++)
+        {
+            long end = nextLineStart(channel, Math.max(start, i * step), size, buffer);
+            if (end <= start)
+            {
+                continue;
+            }
+            ranges.add(new long[]{start, end});
+            start = end;
+        }
+        if (start < size)
+        {
+            ranges.add(new long[]{start, size});
+        }
+        return ranges;
+    }
+
+    private static long nextLineStart (FileChannel channel, long position, long size, ByteBuffer buffer)
+            throws IOException
+    {
+        long pos = position;
+        while (pos < size)
+        {
+            buffer.clear();
+            int read = channel.read(buffer, pos);
+            if (read <= 0)
+            {
+                break;
+            }
+            for (int i = 0; i < read; i++)
+            {
+                if (buffer.get(i) == '\n')
+                {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private static long processRange (FileChannel channel, long start, long end, LineProcessOption option,
+                                      ListUtil.BaseProcessor<String> processor) throws IOException
+    {
+        int batchSize = option.resolveBatchSize();
+        long count = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new RangeInputStream(channel, start, end), option.getCharset()),
+                READER_BUFFER_SIZE))
+        {
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (option.isSkipBlank() && line.isBlank())
+                {
+                    continue;
+                }
+                batch.add(line);
+                count++;
+
+                if (batch.size() >= batchSize)
+                {
+                    processor.process(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty())
+            {
+                processor.process(batch);
+            }
+        }
+        return count;
+    }
+
+    private static ExecutorService newExecutor (LineProcessOption option)
+    {
+        return option.isVirtualThread()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(option.resolveParallelism());
+    }
+
+    private static <T> T await (Future<T> future) throws IOException
+    {
+        try
+        {
+            return future.get();
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("line process interrupted.");
+        } catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe)
+            {
+                throw ioe;
+            }
+            if (cause instanceof RuntimeException re)
+            {
+                throw re;
+            }
+            if (cause instanceof Error err)
+            {
+                throw err;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 제출한 batch 를 maxPendingBatches 이내로 유지하면서 결과를 completion 에 전달한다.
+     */
+    private static class BatchDispatcher<R>
+    {
+        private final ExecutorCompletionService<R> completionService;
+        private final Deque<Future<R>> pending = new ArrayDeque<>();
+        private final int maxPending;
+        private final boolean ordered;
+        private final Consumer<R> completion;
+        private final ExecutorService executor;
+
+        BatchDispatcher (ExecutorService executor, LineProcessOption option, Consumer<R> completion)
+        {
+            this.executor = executor;
+            this.completionService = new ExecutorCompletionService<>(executor);
+            this.maxPending = option.resolveMaxPendingBatches();
+            this.ordered = option.isOrdered();
+            this.completion = completion;
+        }
+
+        void submit (Callable<R> task) throws IOException
+        {
+            while (pending.size() >= maxPending)
+            {
+                completeNext();
+            }
+            pending.addLast(ordered ? executor.submit(task) : completionService.submit(task));
+        }
+
+        void drain () throws IOException
+        {
+            while (!pending.isEmpty())
+            {
+                completeNext();
+            }
+        }
+
+        private void completeNext () throws IOException
+        {
+            Future<R> future;
+            if (ordered)
+            {
+                future = pending.pollFirst();
+            } else
+            {
+                try
+                {
+                    future = completionService.take();
+                } catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("line process interrupted.");
+                }
+                pending.remove(future);
+            }
+
+            R result = await(future);
+            if (completion != null)
+            {
+                completion.accept(result);
+            }
+        }
+    }
+
+    /**
+     * FileChannel 의 [start, end) 범위를 positional read 로 읽는 InputStream
+     */
+    private static class RangeInputStream extends InputStream
+    {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RangeInputStream (FileChannel channel, long start, long end)
+        {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read () throws IOException
+        {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read (byte[] b, int off, int len) throws IOException
+        {
+            if (position >= end)
+            {
+                return -1;
+            }
+            int length = (int) Math.min(len, end - position);
+            int read = channel.read(ByteBuffer.wrap(b, off, length), position);
+            if (read > 0)
+            {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close ()
+        {
+            // channel 은 호출한 쪽에서 닫는다.
+        }
+    }
+}
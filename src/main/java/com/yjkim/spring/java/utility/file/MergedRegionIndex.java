@@ -0,0 +1,162 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병합 영역 index
+ * <pre>
+ *     행 별로 그 행에 걸친 병합 영역을 시작 열 순으로 정렬해 두고 binary search 로 찾는다.
+ *     병합 영역은 서로 겹치지 않으므로 한 셀이 속한 영역은 최대 1개이다.
+ *     높이가 {@link #TALL_REGION_ROWS} 행을 넘는 영역은 행 별로 펼치지 않고 따로 검사한다.
+ *     만든 시점의 병합 영역을 복사해 두므로 시트의 병합 영역이 바뀌면 다시 만든다.
+ *     조회 결과는 복사본이다. (수정해도 index 에 영향이 없다.)
+ * </pre>
+ */
+public class MergedRegionIndex
+{
+    static final int TALL_REGION_ROWS = 256;
+
+    private final Map<Integer, RowIntervals> rows;
+    private final List<CellRangeAddress> tallRegions;
+    private final List<CellRangeAddress> regions;
+
+    private MergedRegionIndex (Map<Integer, RowIntervals> rows, List<CellRangeAddress> tallRegions,
+            List<CellRangeAddress> regions)
+    {
+        this.rows = rows;
+        this.tallRegions = tallRegions;
+        this.regions = regions;
+    }
+
+    /**
+     * @param regions 병합 영역 목록
+     * @return index
+     */
+    public static MergedRegionIndex of (List<CellRangeAddress> regions)
+    {
+        Map<Integer, List<CellRangeAddress>> byRow = new HashMap<>();
+        List<CellRangeAddress> tallRegions = new ArrayList<>();
+        List<CellRangeAddress> copies = new ArrayList<>(regions.size());
+        for (CellRangeAddress address : regions)
+        {
+            CellRangeAddress region = address.copy();
+            copies.add(region);
+            if (region.getLastRow() - region.getFirstRow() >= TALL_REGION_ROWS)
+            {
+                tallRegions.add(region);
+                continue;
+            }
+            for (int r = region.getFirstRow(); r <= region.getLastRow(); r++)
+            {
+                byRow.computeIfAbsent(r, k -> new ArrayList<>(2)).add(region);
+            }
+        }
+
+        Map<Integer, RowIntervals> rows = new HashMap<>(byRow.size() * 4 / 3 + 1);
+        for (Map.Entry<Integer, List<CellRangeAddress>> entry : byRow.entrySet())
+        {
+            rows.put(entry.getKey(), new RowIntervals(entry.getValue()));
+        }
+        return new MergedRegionIndex(rows, tallRegions, copies);
+    }
+
+    /**
+     * 해당 셀이 속한 병합 영역
+     *
+     * @param rowIx 행
+     * @param colIx 열
+     * @return 병합 영역 (복사본). 없으면 null
+     */
+    public CellRangeAddress find (int rowIx, int colIx)
+    {
+        RowIntervals intervals = rows.get(rowIx);
+        if (intervals != null)
+        {
+            CellRangeAddress region = intervals.find(colIx);
+            if (region != null)
+            {
+                return region.copy();
+            }
+        }
+        for (CellRangeAddress region : tallRegions)
+        {
+            if (region.isInRange(rowIx, colIx))
+            {
+                return region.copy();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * index 에 포함된 병합 영역 (복사본, 원래 순서)
+     */
+    public List<CellRangeAddress> getRegions ()
+    {
+        List<CellRangeAddress> list = new ArrayList<>(regions.size());
+        for (CellRangeAddress region : regions)
+        {
+            list.add(region.copy());
+        }
+        return list;
+    }
+
+    /**
+     * index 에 포함된 병합 영역 수
+     */
+    public int size ()
+    {
+        return regions.size();
+    }
+
+    /**
+     * 한 행의 병합 영역 (시작 열 순)
+     */
+    private static class RowIntervals
+    {
+        private final int[] firstColumns;
+        private final int[] lastColumns;
+        private final CellRangeAddress[] regions;
+
+        RowIntervals (List<CellRangeAddress> list)
+        {
+            list.sort(Comparator.comparingInt(CellRangeAddress::getFirstColumn));
+            int n = list.size();
+            firstColumns = new int[n];
+            lastColumns = new int[n];
+            regions = list.toArray(new CellRangeAddress[n]);
+            for (int i = 0; i < n; i++)
+            {
+                firstColumns[i] = regions[i].getFirstColumn();
+                lastColumns[i] = regions[i].getLastColumn();
+            }
+        }
+
+        CellRangeAddress find (int colIx)
+        {
+            // firstColumn <= colIx 인 마지막 영역
+            int low = 0;
+            int high = firstColumns.length - 1;
+            int found = -1;
+            while (low <= high)
+            {
+                int mid = (low + high) >>> 1;
+                if (firstColumns[mid] <= colIx)
+                {
+                    found = mid;
+                    low = mid + 1;
+                } else
+                {
+                    high = mid - 1;
+                }
+            }
+            return found >= 0 && colIx <= lastColumns[found] ? regions[found] : null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.Data;
+
+import java.nio.charset.Charset;
+
+/**
+ * 압축 해제 옵션 ({@link ZipUtil#unzipParallel(java.io.File, java.io.File, UnzipOption)})
+ */
+@Data
+public class UnzipOption
+{
+    /**
+     * entry 명 charset
+     */
+    private String charsetName = Charset.defaultCharset().name();
+
+    /**
+     * 압축 해제 thread 수
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 압축 해제할 entry glob pattern (ex. "images/**&#47;*.png"). null 이면 전체
+     */
+    private String includeGlob;
+
+    /**
+     * entry 별 최대 압축률 (압축 해제 크기 / 압축 크기). 넘으면 zip bomb 으로 판단한다.
+     */
+    private long maxCompressionRatio = 100;
+
+    /**
+     * 압축률 검사를 시작할 entry 크기. 작은 파일은 압축률이 높아도 허용한다. (1MB)
+     */
+    private long compressionRatioThreshold = 1024L * 1024;
+
+    /**
+     * 압축 해제할 전체 최대 크기
+     */
+    private long maxTotalSize = Long.MAX_VALUE;
+}
@@ -1,9 +1,13 @@
 package com.yjkim.spring.java.utility.file;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.Data;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -43,6 +47,13 @@ public class XSSFExcelUtil
         }
     }
 
+    /**
+     * 병합 영역을 시작 행 별로 묶는다. 행 별 목록은 시작 열 순으로 정렬된다.
+     *
+     * @param sheet
+     * @param cellRangeAddressList
+     * @return 시작 행 : 병합 영역 목록
+     */
     public static Map<Integer, List<MergeRegionItem>> cellRangeAddressToMergeRegionItem(XSSFSheet sheet,
         List<CellRangeAddress> cellRangeAddressList)
     {
@@ -50,25 +61,68 @@ public class XSSFExcelUtil
         for (CellRangeAddress address : cellRangeAddressList)
         {
             int firstRow = address.getFirstRow();
-            List<MergeRegionItem> list = map.containsKey(firstRow) ? map.get(firstRow) : new ArrayList<>();
-            list.add(new MergeRegionItem(sheet.getRow(firstRow), address));
-            map.put(firstRow, list);
+            map.computeIfAbsent(firstRow, k -> new ArrayList<>()).add(new MergeRegionItem(sheet.getRow(firstRow), address));
+        }
+        for (List<MergeRegionItem> list : map.values())
+        {
+            list.sort(Comparator.comparingInt(MergeRegionItem::getFirstColumn));
         }
         return map;
     }
 
+    /**
+     * 병합 영역 index 의 영역을 시작 행 별로 묶는다. 행 별 목록은 시작 열 순으로 정렬된다.
+     *
+     * @param sheet
+     * @param index {@link #getMergedRegionIndex(XSSFSheet)}
+     * @return 시작 행 : 병합 영역 목록
+     */
+    public static Map<Integer, List<MergeRegionItem>> cellRangeAddressToMergeRegionItem(XSSFSheet sheet,
+        MergedRegionIndex index)
+    {
+        return XSSFExcelUtil.cellRangeAddressToMergeRegionItem(sheet, index.getRegions());
+    }
+
     public static String getMergedRegionValue(Map<Integer, List<XSSFExcelUtil.MergeRegionItem>> map, int rowIx,
         int colIx)
     {
-        if (map.containsKey(rowIx))
+        List<MergeRegionItem> list = map.get(rowIx);
+        if (list == null)
         {
-            MergeRegionItem item = map.get(rowIx).stream().filter(x -> x.isRegion(colIx)).findFirst().orElse(null);
-            if (item != null)
+            return null;
+        }
+
+        // firstColumn <= colIx 인 마지막 영역
+        int low = 0;
+        int high = list.size() - 1;
+        MergeRegionItem item = null;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).getFirstColumn() <= colIx)
             {
-                return getCellStringValue(item.getCell());
+                item = list.get(mid);
+                low = mid + 1;
+            } else
+            {
+                high = mid - 1;
             }
         }
-        return null;
+        return item != null && item.isRegion(colIx) ? getCellStringValue(item.getCell()) : null;
+    }
+
+    /**
+     * 시트의 현재 병합 영역으로 index 를 만든다.
+     * <p>
+     * 여러 셀을 조회할 때는 한번 만들어 두고 getMergedRegion(index, ...) 등에 넘긴다.
+     * 시트의 병합 영역을 바꾸면 다시 만들어야 한다.
+     *
+     * @param sheet
+     * @return
+     */
+    public static MergedRegionIndex getMergedRegionIndex(XSSFSheet sheet)
+    {
+        return MergedRegionIndex.of(sheet.getMergedRegions());
     }
 
     /**
@@ -161,7 +215,10 @@ public class XSSFExcelUtil
      * @param rowIx
      * @param colIx
      * @return
+     * @deprecated 호출할 때마다 시트의 병합 영역 전체를 검사한다.
+     * {@link #getMergedRegionIndex(XSSFSheet)} 로 만든 index 와 {@link #getMergedRegion(MergedRegionIndex, int, int)} 를 사용한다.
      */
+    @Deprecated
     public static CellRangeAddress getMergedRegion(XSSFSheet sheet, int rowIx, int colIx)
     {
         for (CellRangeAddress mergedRegion : sheet.getMergedRegions())
@@ -175,6 +232,19 @@ public class XSSFExcelUtil
         return null;
     }
 
+    /**
+     * 병합 영역 index 에서 {@param rowIx}행 {@param colIx}열 셀이 속한 병합 영역
+     *
+     * @param index {@link #getMergedRegionIndex(XSSFSheet)}
+     * @param rowIx
+     * @param colIx
+     * @return 병합 영역 (복사본). 없으면 null
+     */
+    public static CellRangeAddress getMergedRegion(MergedRegionIndex index, int rowIx, int colIx)
+    {
+        return index.find(rowIx, colIx);
+    }
+
     /**
      * 해당 시트의 병합된 셀 {@param rowIx}행 부터 {@param colIx}열의 값을 문자열로 반환
      *
@@ -182,11 +252,31 @@ public class XSSFExcelUtil
      * @param rowIx
      * @param colIx
      * @return
+     * @deprecated 호출할 때마다 시트의 병합 영역 전체를 검사한다.
+     * {@link #getCellStringValueWithMerges(XSSFSheet, MergedRegionIndex, int, int)} 를 사용한다.
      */
+    @Deprecated
     public static String getCellStringValueWithMerges(XSSFSheet sheet, int rowIx, int colIx)
     {
-        CellRangeAddress mergedRegion = XSSFExcelUtil.getMergedRegion(sheet, rowIx, colIx);
+        return XSSFExcelUtil.getMergedCellStringValue(sheet, XSSFExcelUtil.getMergedRegion(sheet, rowIx, colIx), rowIx, colIx);
+    }
+
+    /**
+     * 해당 시트의 병합된 셀 {@param rowIx}행 부터 {@param colIx}열의 값을 문자열로 반환 (병합 영역 index 사용)
+     *
+     * @param sheet
+     * @param index {@link #getMergedRegionIndex(XSSFSheet)}
+     * @param rowIx
+     * @param colIx
+     * @return
+     */
+    public static String getCellStringValueWithMerges(XSSFSheet sheet, MergedRegionIndex index, int rowIx, int colIx)
+    {
+        return XSSFExcelUtil.getMergedCellStringValue(sheet, index.find(rowIx, colIx), rowIx, colIx);
+    }
 
+    private static String getMergedCellStringValue(XSSFSheet sheet, CellRangeAddress mergedRegion, int rowIx, int colIx)
+    {
         if (mergedRegion != null)
         {
             XSSFCell cell = sheet.getRow(mergedRegion.getFirstRow()).getCell(mergedRegion.getFirstColumn());
@@ -196,4 +286,21 @@ public class XSSFExcelUtil
         return XSSFExcelUtil.getCellStringValue(sheet.getRow(rowIx).getCell(colIx));
     }
 
+    /**
+     * 엑셀 파일 시트의 행을 streaming 방식으로 읽어 {@param callback}에 전달한다.
+     * 셀 값은 getCellValue, getCellStringValue 와 같은 규칙으로 변환되며, 병합 셀 값도 조회할 수 있다.
+     *
+     * @param file
+     * @param sheetIndex
+     * @param callback
+     * @return 읽은 행 수
+     */
+    public static long readRows(File file, int sheetIndex, Consumer<XSSFStreamReader.Row> callback) throws IOException
+    {
+        try (XSSFStreamReader reader = XSSFStreamReader.open(file))
+        {
+            return reader.read(sheetIndex, true, callback);
+        }
+    }
+
 }
@@ -0,0 +1,604 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * XSSFExcel streaming reader
+ * <pre>
+ *     sheet xml 을 pull 방식으로 읽어 한 행씩 반환하므로, 행 수와 관계없이 메모리 사용량이 일정하다.
+ *     (shared strings 는 메모리에 올린다.)
+ *     셀 값은 {@link XSSFExcelUtil#getCellValue(org.apache.poi.xssf.usermodel.XSSFCell)},
+ *     {@link XSSFExcelUtil#getCellStringValue(org.apache.poi.xssf.usermodel.XSSFCell)} 와 같은 규칙으로 변환한다.
+ *
+ *     try (XSSFStreamReader reader = XSSFStreamReader.open(file);
+ *          Stream&lt;XSSFStreamReader.Row&gt; rows = reader.rows(0, true))
+ *     {
+ *         rows.forEach(row -&gt; ...);
+ *     }
+ * </pre>
+ */
+@Slf4j
+public class XSSFStreamReader implements Closeable
+{
+    private final OPCPackage pkg;
+    private final XSSFReader reader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final XMLInputFactory xmlInputFactory = XMLHelper.newXMLInputFactory();
+
+    private XSSFStreamReader (OPCPackage pkg) throws IOException
+    {
+        this.pkg = pkg;
+        try
+        {
+            this.reader = new XSSFReader(pkg);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        } catch (OpenXML4JException | SAXException e)
+        {
+            pkg.revert();
+            throw new IOException("invalid xlsx file.", e);
+        }
+    }
+
+    /**
+     * 엑셀 파일을 읽기 전용으로 연다.
+     *
+     * @param file xlsx 파일
+     * @return reader
+     */
+    public static XSSFStreamReader open (File file) throws IOException
+    {
+        try
+        {
+            return new XSSFStreamReader(OPCPackage.open(file, PackageAccess.READ));
+        } catch (OpenXML4JException e)
+        {
+            throw new IOException("invalid xlsx file. " + file.getName(), e);
+        }
+    }
+
+    /**
+     * 엑셀 InputStream 을 연다. (zip 구조상 전체를 읽어야 하므로, 가능하면 {@link #open(File)} 을 사용한다.)
+     *
+     * @param is xlsx InputStream
+     * @return reader
+     */
+    public static XSSFStreamReader open (InputStream is) throws IOException
+    {
+        try
+        {
+            return new XSSFStreamReader(OPCPackage.open(is));
+        } catch (OpenXML4JException e)
+        {
+            throw new IOException("invalid xlsx stream.", e);
+        }
+    }
+
+    /**
+     * 시트명 목록
+     */
+    public List<String> getSheetNames () throws IOException
+    {
+        List<String> names = new ArrayList<>();
+        XSSFReader.SheetIterator it = sheetIterator();
+        while (it.hasNext())
+        {
+            try (InputStream ignored = it.next())
+            {
+                names.add(it.getSheetName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 시트의 행을 순서대로 callback 에 전달한다.
+     *
+     * @param sheetIndex    시트 index
+     * @param mergedRegions 병합 셀 정보 포함 여부 (sheet xml 을 한번 더 읽는다.)
+     * @param callback      행 callback
+     * @return 읽은 행 수
+     */
+    public long read (int sheetIndex, boolean mergedRegions, Consumer<Row> callback) throws IOException
+    {
+        long count = 0;
+        try (RowIterator it = new RowIterator(sheetIndex, mergedRegions))
+        {
+            while (it.hasNext())
+            {
+                callback.accept(it.next());
+                count++;
+            }
+        } catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+        return count;
+    }
+
+    /**
+     * 시트의 행 Stream. 사용 후 반드시 close 해야 한다.
+     *
+     * @param sheetIndex    시트 index
+     * @param mergedRegions 병합 셀 정보 포함 여부 (sheet xml 을 한번 더 읽는다.)
+     * @return 행 Stream
+     */
+    public Stream<Row> rows (int sheetIndex, boolean mergedRegions) throws IOException
+    {
+        RowIterator it = new RowIterator(sheetIndex, mergedRegions);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL),
+                false).onClose(it::closeQuietly);
+    }
+
+    @Override
+    public void close ()
+    {
+        pkg.revert();
+    }
+
+    private XSSFReader.SheetIterator sheetIterator () throws IOException
+    {
+        try
+        {
+            return (XSSFReader.SheetIterator) reader.getSheetsData();
+        } catch (OpenXML4JException e)
+        {
+            throw new IOException("invalid xlsx workbook.", e);
+        }
+    }
+
+    private InputStream openSheet (int sheetIndex) throws IOException
+    {
+        XSSFReader.SheetIterator it = sheetIterator();
+        for (int i = 0; it.hasNext(); i++)
+        {
+            InputStream is = it.next();
+            if (i == sheetIndex)
+            {
+                return is;
+            }
+            is.close();
+        }
+        throw new IllegalArgumentException("sheet not found. index : " + sheetIndex);
+    }
+
+    private XMLStreamReader createXmlReader (InputStream is) throws IOException
+    {
+        try
+        {
+            return xmlInputFactory.createXMLStreamReader(is);
+        } catch (XMLStreamException e)
+        {
+            is.close();
+            throw new IOException("invalid sheet xml.", e);
+        }
+    }
+
+    /**
+     * sheet xml 의 mergeCells 만 읽는다. (sheetData 뒤에 위치)
+     */
+    private List<CellRangeAddress> readMergedRegions (int sheetIndex) throws IOException
+    {
+        List<CellRangeAddress> regions = new ArrayList<>();
+        try (InputStream is = openSheet(sheetIndex))
+        {
+            XMLStreamReader xml = createXmlReader(is);
+            try
+            {
+                while (xml.hasNext())
+                {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "mergeCell".equals(xml.getLocalName()))
+                    {
+                        regions.add(CellRangeAddress.valueOf(xml.getAttributeValue(null, "ref")));
+                    }
+                }
+            } finally
+            {
+                xml.close();
+            }
+        } catch (XMLStreamException e)
+        {
+            throw new IOException("invalid sheet xml.", e);
+        }
+        regions.sort(Comparator.comparingInt(CellRangeAddress::getFirstRow));
+        return regions;
+    }
+
+    /**
+     * "AB12" 형식 셀 주소의 열 index (0부터)
+     */
+    static int toColumnIndex (String ref)
+    {
+        int col = 0;
+        for (int i = 0; i < ref.length(); i++)
+        {
+            char c = ref.charAt(i);
+            if (c < 'A' || c > 'Z')
+            {
+                break;
+            }
+            col = col * 26 + (c - 'A' + 1);
+        }
+        return col - 1;
+    }
+
+    /**
+     * sheetData 를 한 행씩 읽는 iterator
+     */
+    private class RowIterator implements Iterator<Row>, Closeable
+    {
+        private final InputStream is;
+        private final XMLStreamReader xml;
+        private final List<CellRangeAddress> regions;
+        private final Deque<MergedRegion> activeRegions = new ArrayDeque<>();
+        private int nextRegion = 0;
+        private int lastRowNum = -1;
+        private Row next;
+        private boolean finished = false;
+
+        RowIterator (int sheetIndex, boolean mergedRegions) throws IOException
+        {
+            this.regions = mergedRegions ? readMergedRegions(sheetIndex) : List.of();
+            this.is = openSheet(sheetIndex);
+            this.xml = createXmlReader(is);
+        }
+
+        @Override
+        public boolean hasNext ()
+        {
+            if (next == null && !finished)
+            {
+                try
+                {
+                    next = readRow();
+                } catch (XMLStreamException e)
+                {
+                    throw new UncheckedIOException(new IOException("invalid sheet xml.", e));
+                }
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Row next ()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Row row = next;
+            next = null;
+            return row;
+        }
+
+        @Override
+        public void close () throws IOException
+        {
+            try
+            {
+                xml.close();
+            } catch (XMLStreamException e)
+            {
+                log.debug("sheet xml close failed : {}", e.getMessage());
+            } finally
+            {
+                is.close();
+            }
+        }
+
+        void closeQuietly ()
+        {
+            try
+            {
+                close();
+            } catch (IOException e)
+            {
+                log.debug("sheet stream close failed : {}", e.getMessage());
+            }
+        }
+
+        private Row readRow () throws XMLStreamException
+        {
+            List<Cell> cells = null;
+            int rowNum = -1;
+            int lastCol = -1;
+
+            String ref = null;
+            String type = null;
+            String raw = null;
+            StringBuilder inline = null;
+            boolean formula = false;
+
+            while (xml.hasNext())
+            {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT)
+                {
+                    switch (xml.getLocalName())
+                    {
+                        case "row":
+                            String r = xml.getAttributeValue(null, "r");
+                            rowNum = r != null ? Integer.parseInt(r) - 1 : lastRowNum + 1;
+                            cells = new ArrayList<>();
+                            lastCol = -1;
+                            break;
+                        case "c":
+                            ref = xml.getAttributeValue(null, "r");
+                            type = xml.getAttributeValue(null, "t");
+                            raw = null;
+                            inline = null;
+                            formula = false;
+                            break;
+                        case "v":
+                            raw = xml.getElementText();
+                            break;
+                        case "f":
+                            formula = true;
+                            break;
+                        case "is":
+                            inline = new StringBuilder();
+                            break;
+                        case "t":
+                            if (inline != null)
+                            {
+                                inline.append(xml.getElementText());
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT)
+                {
+                    switch (xml.getLocalName())
+                    {
+                        case "c":
+                            int col = ref != null ? toColumnIndex(ref) : lastCol + 1;
+                            cells.add(toCell(col, type, raw, inline, formula));
+                            lastCol = col;
+                            break;
+                        case "row":
+                            lastRowNum = rowNum;
+                            return toRow(rowNum, cells);
+                        case "sheetData":
+                            return null;
+                        default:
+                            break;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Cell toCell (int col, String type, String raw, StringBuilder inline, boolean formula)
+        {
+            if (formula)
+            {
+                return new Cell(col, CellType.FORMULA, raw, raw, raw);
+            }
+            if (type == null || "n".equals(type))
+            {
+                return raw == null || raw.isEmpty()
+                        ? new Cell(col, CellType.BLANK, null, null, "")
+                        : new Cell(col, CellType.NUMERIC, raw, Double.parseDouble(raw), raw);
+            }
+
+            switch (type)
+            {
+                case "s":
+                    String shared = raw == null ? "" : sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+                    return new Cell(col, CellType.STRING, raw, shared, shared);
+                case "inlineStr":
+                    String text = inline == null ? "" : inline.toString();
+                    return new Cell(col, CellType.STRING, text, text, text);
+                case "str":
+                    String str = raw == null ? "" : raw;
+                    return new Cell(col, CellType.STRING, raw, str, str);
+                case "b":
+                    boolean bool = "1".equals(raw) || "true".equalsIgnoreCase(raw);
+                    return new Cell(col, CellType.BOOLEAN, raw, bool, bool ? "TRUE" : "FALSE");
+                case "e":
+                default:
+                    return new Cell(col, CellType.ERROR, raw, null, "");
+            }
+        }
+
+        private Row toRow (int rowNum, List<Cell> cells)
+        {
+            Cell[] array = new Cell[cells.isEmpty() ? 0 : cells.get(cells.size() - 1).getColumnIndex() + 1];
+            for (Cell cell : cells)
+            {
+                if (cell.getColumnIndex() >= array.length)
+                {
+                    array = Arrays.copyOf(array, cell.getColumnIndex() + 1);
+                }
+                array[cell.getColumnIndex()] = cell;
+            }
+
+            if (regions.isEmpty())
+            {
+                return new Row(rowNum, array, List.of());
+            }
+
+            // 지나간 병합 영역은 버리고, 이번 행에서 시작하는 병합 영역은 첫 셀 값을 기억한다.
+            activeRegions.removeIf(region -> region.getAddress().getLastRow() < rowNum);
+            while (nextRegion < regions.size() && regions.get(nextRegion).getFirstRow() <= rowNum)
+            {
+                CellRangeAddress address = regions.get(nextRegion++);
+                if (address.getLastRow() < rowNum)
+                {
+                    continue;
+                }
+                int firstCol = address.getFirstColumn();
+                Cell anchor = address.getFirstRow() == rowNum && firstCol < array.length ? array[firstCol] : null;
+                activeRegions.add(new MergedRegion(address, anchor));
+            }
+            return new Row(rowNum, array, activeRegions.isEmpty() ? List.of() : new ArrayList<>(activeRegions));
+        }
+    }
+
+    /**
+     * 셀
+     */
+    @Data
+    public static class Cell
+    {
+        private final int columnIndex;
+        private final CellType cellType;
+        /**
+         * sheet xml 의 값 (shared string 은 index)
+         */
+        private final String rawValue;
+        /**
+         * {@link XSSFExcelUtil#getCellValue(org.apache.poi.xssf.usermodel.XSSFCell)} 와 같은 값
+         */
+        private final Object value;
+        /**
+         * {@link XSSFExcelUtil#getCellStringValue(org.apache.poi.xssf.usermodel.XSSFCell)} 와 같은 값
+         */
+        private final String stringValue;
+
+        public Cell (int columnIndex, CellType cellType, String rawValue, Object value, String stringValue)
+        {
+            this.columnIndex = columnIndex;
+            this.cellType = cellType;
+            this.rawValue = rawValue;
+            this.value = value;
+            this.stringValue = stringValue;
+        }
+    }
+
+    /**
+     * 병합 영역과 첫 셀
+     */
+    @Data
+    public static class MergedRegion
+    {
+        private final CellRangeAddress address;
+        private final Cell anchor;
+
+        public MergedRegion (CellRangeAddress address, Cell anchor)
+        {
+            this.address = address;
+            this.anchor = anchor;
+        }
+    }
+
+    /**
+     * 행
+     */
+    @Data
+    public static class Row
+    {
+        private final int rowNum;
+        private final Cell[] cells;
+        /**
+         * 이 행에 걸친 병합 영역
+         */
+        private final List<MergedRegion> mergedRegions;
+
+        public Row (int rowNum, Cell[] cells, List<MergedRegion> mergedRegions)
+        {
+            this.rowNum = rowNum;
+            this.cells = cells;
+            this.mergedRegions = mergedRegions;
+        }
+
+        /**
+         * 마지막 셀 index + 1
+         */
+        public int getLastCellNum ()
+        {
+            return cells.length;
+        }
+
+        public Cell getCell (int colIx)
+        {
+            return colIx >= 0 && colIx < cells.length ? cells[colIx] : null;
+        }
+
+        /**
+         * 해당 열 셀의 값
+         */
+        public Object getCellValue (int colIx)
+        {
+            Cell cell = getCell(colIx);
+            return cell == null ? null : cell.getValue();
+        }
+
+        /**
+         * 해당 열 셀의 값을 문자열로 변환
+         */
+        public String getCellStringValue (int colIx)
+        {
+            Cell cell = getCell(colIx);
+            return cell == null ? null : cell.getStringValue();
+        }
+
+        /**
+         * 해당 열이 포함된 병합 영역
+         */
+        public CellRangeAddress getMergedRegion (int colIx)
+        {
+            MergedRegion region = findMergedRegion(colIx);
+            return region == null ? null : region.getAddress();
+        }
+
+        /**
+         * 병합된 셀이면 병합 영역 첫 셀의 값을, 아니면 해당 열 셀의 값을 문자열로 반환
+         */
+        public String getCellStringValueWithMerges (int colIx)
+        {
+            MergedRegion region = findMergedRegion(colIx);
+            if (region != null)
+            {
+                return region.getAnchor() == null ? null : region.getAnchor().getStringValue();
+            }
+            return getCellStringValue(colIx);
+        }
+
+        private MergedRegion findMergedRegion (int colIx)
+        {
+            for (MergedRegion region : mergedRegions)
+            {
+                if (region.getAddress().isInRange(rowNum, colIx))
+                {
+                    return region;
+                }
+            }
+            return null;
+        }
+    }
+}
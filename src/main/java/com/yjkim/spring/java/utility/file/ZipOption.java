@@ -0,0 +1,66 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.Data;
+
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * 압축 옵션 ({@link ZipUtil#zipParallel(java.io.File, java.io.OutputStream, ZipOption)})
+ */
+@Data
+public class ZipOption
+{
+    /**
+     * 이미 압축된 형식이라 다시 압축하지 않는 (STORED) 확장자
+     */
+    public static final Set<String> DEFAULT_STORED_EXTENSIONS = Set.of(
+            "jpg", "jpeg", "png", "gif", "webp", "heic",
+            "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar",
+            "mp3", "aac", "ogg", "mp4", "m4a", "mov", "avi", "mkv", "webm",
+            "docx", "xlsx", "pptx");
+
+    /**
+     * entry 명 charset
+     */
+    private String charsetName = Charset.defaultCharset().name();
+
+    /**
+     * 디렉토리 압축시 src 디렉토리를 entry 경로에 포함할지 여부
+     */
+    private boolean includeSrc = true;
+
+    /**
+     * 압축 thread 수
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * deflate 압축 레벨 ({@link Deflater#NO_COMPRESSION} ~ {@link Deflater#BEST_COMPRESSION},
+     * {@link Deflater#DEFAULT_COMPRESSION})
+     */
+    private int level = Deflater.DEFAULT_COMPRESSION;
+
+    /**
+     * STORED 로 저장할 확장자 (소문자, '.' 제외)
+     */
+    private Set<String> storedExtensions = DEFAULT_STORED_EXTENSIONS;
+
+    /**
+     * 해당 파일을 압축하지 않고 저장할지 여부
+     *
+     * @param fileName 파일명
+     * @return STORED 대상이면 true
+     */
+    public boolean isStored (String fileName)
+    {
+        if (storedExtensions == null || storedExtensions.isEmpty() || fileName == null)
+        {
+            return false;
+        }
+        int pos = fileName.lastIndexOf('.');
+        return pos >= 0 && storedExtensions.contains(fileName.substring(pos + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,234 @@
+package com.yjkim.spring.java.utility.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * OutputStream 으로 바로 쓰는 zip writer
+ * <pre>
+ *     임시 파일 없이 entry 를 읽는 대로 압축하여 쓰고, entry 마다 flush 한다.
+ *     출력 stream 쓰기에서 발생한 오류는 {@link #isOutputFailed()} 로 구분할 수 있다. (client 연결 종료 등)
+ *
+ *     try (ZipStreamWriter writer = new ZipStreamWriter(response.getOutputStream()))
+ *     {
+ *         writer.addFile(file, "a/b.txt");
+ *         writer.addDirectory(dir, true);
+ *     }
+ * </pre>
+ */
+@Slf4j
+public class ZipStreamWriter implements Closeable
+{
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * writer 에 entry 를 추가하는 callback
+     */
+    @FunctionalInterface
+    public interface Content
+    {
+        void write (ZipStreamWriter writer) throws IOException;
+    }
+
+    private final TrackingOutputStream out;
+    private final ZipArchiveOutputStream zos;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int entryCount = 0;
+
+    public ZipStreamWriter (OutputStream os)
+    {
+        this(os, Charset.defaultCharset().name(), Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param os          출력 stream
+     * @param charsetName entry 명 charset
+     * @param level       deflate 압축 레벨
+     */
+    public ZipStreamWriter (OutputStream os, String charsetName, int level)
+    {
+        this.out = new TrackingOutputStream(os);
+        this.zos = new ZipArchiveOutputStream(out);
+        this.zos.setEncoding(charsetName);
+        this.zos.setLevel(level);
+    }
+
+    /**
+     * 파일을 entry 로 추가한다.
+     *
+     * @param file      파일
+     * @param entryName entry 명
+     */
+    public void addFile (File file, String entryName) throws IOException
+    {
+        ZipArchiveEntry entry = new ZipArchiveEntry(entryName);
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setSize(file.length());
+        entry.setTime(file.lastModified());
+        try (InputStream in = Files.newInputStream(file.toPath()))
+        {
+            write(entry, in);
+        }
+    }
+
+    /**
+     * 파일 or 디렉토리 하위 파일들을 entry 로 추가한다.
+     *
+     * @param src        file or directory
+     * @param includeSrc 디렉토리 압축시 src 디렉토리를 entry 경로에 포함할지 여부
+     */
+    public void addDirectory (File src, boolean includeSrc) throws IOException
+    {
+        File absolute = src.getAbsoluteFile();
+        File root = ZipUtil.rootOf(absolute, includeSrc);
+        List<File> files = ZipUtil.listFiles(absolute, includeSrc);
+        for (File f : files)
+        {
+            addFile(f, ZipUtil.toPath(root, f));
+        }
+    }
+
+    /**
+     * InputStream 을 entry 로 추가한다. InputStream 은 닫지 않는다.
+     *
+     * @param entryName entry 명
+     * @param in        entry 내용
+     */
+    public void addEntry (String entryName, InputStream in) throws IOException
+    {
+        ZipArchiveEntry entry = new ZipArchiveEntry(entryName);
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setTime(System.currentTimeMillis());
+        write(entry, in);
+    }
+
+    /**
+     * byte 배열을 entry 로 추가한다.
+     *
+     * @param entryName entry 명
+     * @param bytes     entry 내용
+     */
+    public void addEntry (String entryName, byte[] bytes) throws IOException
+    {
+        addEntry(entryName, new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * 추가한 entry 수
+     */
+    public int getEntryCount ()
+    {
+        return entryCount;
+    }
+
+    /**
+     * 출력 stream 쓰기 중 오류 발생 여부
+     */
+    public boolean isOutputFailed ()
+    {
+        return out.failed;
+    }
+
+    /**
+     * central directory 를 쓰지 않고 출력 stream 을 닫는다. (받는 쪽에서 불완전한 zip 으로 인식)
+     */
+    public void abort ()
+    {
+        try
+        {
+            out.close();
+        } catch (IOException e)
+        {
+            log.debug("zip stream close failed : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * central directory 를 쓰고 출력 stream 을 닫는다.
+     * 출력 stream 쓰기에 실패한 경우 central directory 를 쓰지 않는다.
+     */
+    @Override
+    public void close () throws IOException
+    {
+        if (out.failed)
+        {
+            abort();
+            return;
+        }
+        zos.close();
+    }
+
+    private void write (ZipArchiveEntry entry, InputStream in) throws IOException
+    {
+        zos.putArchiveEntry(entry);
+        int length;
+        while ((length = in.read(buffer)) >= 0)
+        {
+            zos.write(buffer, 0, length);
+        }
+        zos.closeArchiveEntry();
+        zos.flush();
+        entryCount++;
+        log.debug("file : " + entry.getName());
+    }
+
+    /**
+     * 출력 stream 쓰기 오류를 기록하는 OutputStream
+     */
+    private static class TrackingOutputStream extends FilterOutputStream
+    {
+        private boolean failed = false;
+
+        TrackingOutputStream (OutputStream out)
+        {
+            super(out);
+        }
+
+        @Override
+        public void write (int b) throws IOException
+        {
+            try
+            {
+                out.write(b);
+            } catch (IOException e)
+            {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write (byte[] b, int off, int len) throws IOException
+        {
+            try
+            {
+                out.write(b, off, len);
+            } catch (IOException e)
+            {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush () throws IOException
+        {
+            try
+            {
+                out.flush();
+            } catch (IOException e)
+            {
+                failed = true;
+                throw e;
+            }
+        }
+    }
+}
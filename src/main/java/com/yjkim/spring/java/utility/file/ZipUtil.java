@@ -1,13 +1,34 @@
 package com.yjkim.spring.java.utility.file;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
 
 /**
  * Zip (압축) 클래스
@@ -80,27 +101,24 @@ public class ZipUtil
      */
     public static void unzip (InputStream is, File destDir, String charsetName) throws IOException
     {
-        ZipArchiveInputStream zis;
         ZipArchiveEntry entry;
         String name;
         File target;
         int nWritten = 0;
-        BufferedOutputStream bos = null;
         byte[] buf = new byte[1024 * 8];
+        Path destPath = destDir.toPath().toAbsolutePath().normalize();
 
-        zis = new ZipArchiveInputStream(is, charsetName, false);
-        while ((entry = zis.getNextZipEntry()) != null)
+        try (ZipArchiveInputStream zis = new ZipArchiveInputStream(is, charsetName, false))
         {
-            name = entry.getName();
-            target = new File(destDir, name);
-            if (entry.isDirectory())
+            while ((entry = zis.getNextZipEntry()) != null)
             {
-                log.info("dir  : " + name);
-                log.info(target.getAbsolutePath());
-                target.mkdirs(); /* does it always work? */
-            } else
-            {
-                try
+                name = entry.getName();
+                target = resolveEntry(destPath, name).toFile();
+                if (entry.isDirectory())
+                {
+                    log.debug("dir  : " + name);
+                    target.mkdirs(); /* does it always work? */
+                } else
                 {
                     File parent = target.getParentFile();
                     if (!parent.exists())
@@ -108,26 +126,181 @@ public class ZipUtil
                         parent.mkdirs();
                     }
 
-                    target.createNewFile();
-                    bos = new BufferedOutputStream(new FileOutputStream(target));
-                    while ((nWritten = zis.read(buf)) >= 0)
+                    try (BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(target)))
                     {
-                        bos.write(buf, 0, nWritten);
+                        while ((nWritten = zis.read(buf)) >= 0)
+                        {
+                            bos.write(buf, 0, nWritten);
+                        }
                     }
-                } catch (IOException e)
+                    log.debug("file : " + name);
+                }
+            }
+        }
+    }
+
+    /**
+     * 압축 파일을 병렬로 해제한다.
+     * <pre>
+     *     ZipFile 의 central directory 를 한번 읽은 뒤, entry 들을 option.threads 개의 thread 에서 나누어 해제한다.
+     *     - option.includeGlob 에 맞는 entry 만 해제한다.
+     *     해제 전 (central directory 확인) : 하나라도 걸리면 아무 entry 도 (디렉토리도) 만들지 않고 IOException 을 던진다.
+     *     - 압축 해제 위치 밖을 가리키는 entry (zip slip)
+     *     - 선언된 크기의 압축률이 제한을 넘는 entry (zip bomb)
+     *     해제 중 : 실제 해제 크기의 압축률이나 전체 크기가 제한을 넘으면 해당 entry 를 중단하고 쓰던 파일을 삭제한다.
+     *     (전체 크기를 넘은 뒤에는 아직 해제 중인 entry 도 같은 이유로 중단된다.)
+     *     실패한 entry 가 있으면 모든 entry 처리 후 IOException 을 던진다. (개별 오류는 suppressed)
+     * </pre>
+     *
+     * @param zippedFile 압축 파일
+     * @param destDir    압축 해제 위치
+     * @param option     압축 해제 옵션
+     * @return 해제된 파일 목록
+     */
+    public static List<File> unzipParallel (File zippedFile, File destDir, UnzipOption option) throws IOException
+    {
+        Path destPath = destDir.toPath().toAbsolutePath().normalize();
+        PathMatcher matcher = option.getIncludeGlob() == null ? null
+                : FileSystems.getDefault().getPathMatcher("glob:" + option.getIncludeGlob());
+
+        try (ZipFile zipFile = new ZipFile(zippedFile, option.getCharsetName()))
+        {
+            List<ZipArchiveEntry> entries = new ArrayList<>();
+            List<Path> targets = new ArrayList<>();
+            Set<Path> directories = new LinkedHashSet<>();
+            Enumeration<ZipArchiveEntry> enumeration = zipFile.getEntriesInPhysicalOrder();
+            while (enumeration.hasMoreElements())
+            {
+                ZipArchiveEntry entry = enumeration.nextElement();
+                Path target = resolveEntry(destPath, entry.getName());
+                if (matcher != null && !matcher.matches(Paths.get(entry.getName())))
                 {
-                    log.error(e.toString(), e);
-                } finally
+                    continue;
+                }
+
+                if (entry.isDirectory())
                 {
-                    if (bos != null)
+                    directories.add(target);
+                    continue;
+                }
+
+                checkCompressionRatio(entry, entry.getSize(), option);
+                directories.add(target.getParent());
+                entries.add(entry);
+                targets.add(target);
+            }
+
+            // 모든 entry 를 확인한 뒤에 디렉토리를 만든다.
+            for (Path directory : directories)
+            {
+                log.debug("dir  : " + destPath.relativize(directory));
+                Files.createDirectories(directory);
+            }
+
+            AtomicLong totalSize = new AtomicLong();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(option.getThreads(), entries.size())));
+            try
+            {
+                List<Future<?>> futures = new ArrayList<>(entries.size());
+                for (int i = 0; i < entries.size(); i++)
+                {
+                    ZipArchiveEntry entry = entries.get(i);
+                    Path target = targets.get(i);
+                    futures.add(executor.submit(() -> {
+                        extractEntry(zipFile, entry, target, option, totalSize);
+                        return null;
+                    }));
+                }
+
+                IOException failure = null;
+                List<File> files = new ArrayList<>(entries.size());
+                for (int i = 0; i < futures.size(); i++)
+                {
+                    try
+                    {
+                        futures.get(i).get();
+                        files.add(targets.get(i).toFile());
+                    } catch (ExecutionException e)
                     {
-                        bos.close();
+                        log.error("unzip failed > {} : {}", entries.get(i).getName(), e.getCause().getMessage());
+                        if (failure == null)
+                        {
+                            failure = new IOException("unzip failed. " + zippedFile.getName());
+                        }
+                        failure.addSuppressed(e.getCause());
                     }
                 }
-                log.debug("file : " + name);
+
+                if (failure != null)
+                {
+                    throw failure;
+                }
+                return files;
+            } catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("unzip interrupted.");
+            } finally
+            {
+                executor.shutdownNow();
             }
         }
-        zis.close();
+    }
+
+    private static void extractEntry (ZipFile zipFile, ZipArchiveEntry entry, Path target, UnzipOption option,
+                                      AtomicLong totalSize) throws IOException
+    {
+        byte[] buf = new byte[1024 * 64];
+        long written = 0;
+        try (InputStream in = zipFile.getInputStream(entry);
+             OutputStream out = Files.newOutputStream(target))
+        {
+            int length;
+            while ((length = in.read(buf)) >= 0)
+            {
+                out.write(buf, 0, length);
+                written += length;
+
+                // 선언된 크기는 조작될 수 있으므로 실제 해제 크기로 다시 검사한다.
+                checkCompressionRatio(entry, written, option);
+                if (totalSize.addAndGet(length) > option.getMaxTotalSize())
+                {
+                    throw new IOException("total uncompressed size exceeds the limit. limit : " + option.getMaxTotalSize());
+                }
+            }
+        } catch (IOException e)
+        {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        log.debug("file : " + entry.getName());
+    }
+
+    private static void checkCompressionRatio (ZipArchiveEntry entry, long uncompressedSize, UnzipOption option)
+            throws IOException
+    {
+        long compressedSize = entry.getCompressedSize();
+        if (uncompressedSize < option.getCompressionRatioThreshold() || compressedSize <= 0)
+        {
+            return;
+        }
+        if (uncompressedSize / compressedSize > option.getMaxCompressionRatio())
+        {
+            throw new IOException("compression ratio exceeds the limit. entry : " + entry.getName());
+        }
+    }
+
+    /**
+     * 압축 해제 위치를 벗어나는 entry 인지 확인한다. (zip slip)
+     */
+    private static Path resolveEntry (Path destPath, String name) throws IOException
+    {
+        Path target = destPath.resolve(name).normalize();
+        if (!target.startsWith(destPath))
+        {
+            throw new IOException("entry is outside of the target dir. entry : " + name);
+        }
+        return target;
     }
 
     /**
@@ -190,18 +363,7 @@ public class ZipUtil
      */
     public static void zip (File src, File destDir, String charSetName, boolean includeSrc) throws IOException
     {
-        String fileName = src.getName();
-        if (!src.isDirectory())
-        {
-            int pos = fileName.lastIndexOf(".");
-            if (pos > 0)
-            {
-                fileName = fileName.substring(0, pos);
-            }
-        }
-        fileName += ".zip";
-
-        File zippedFile = new File(destDir, fileName);
+        File zippedFile = new File(destDir, toZipFileName(src));
         if (!zippedFile.exists())
         {
             zippedFile.createNewFile();
@@ -298,7 +460,149 @@ public class ZipUtil
         zos.close();
     }
 
-    private static String toPath (File root, File dir)
+    /**
+     * 파일 or 디렉토리를 병렬로 압축한다. create the compressed file under the given destDir.
+     *
+     * @param src     file or directory
+     * @param destDir 압축 파일 위치
+     * @param option  압축 옵션
+     * @return 압축 파일
+     * @throws IOException
+     */
+    public static File zipParallel (File src, File destDir, ZipOption option) throws IOException
+    {
+        File zippedFile = new File(destDir, toZipFileName(src));
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(zippedFile)))
+        {
+            zipParallel(src, os, option);
+        }
+        return zippedFile;
+    }
+
+    /**
+     * 파일 or 디렉토리를 병렬로 압축한다. writes to the given output stream
+     * <pre>
+     *     각 파일은 option.threads 개의 thread 에서 임시 파일(scatter)로 압축한 뒤 순서대로 output stream 에 합친다.
+     *     option.storedExtensions 에 해당하는 파일은 압축하지 않고 저장(STORED)한다.
+     * </pre>
+     *
+     * @param src    file or directory
+     * @param os     output stream (압축 후 닫는다.)
+     * @param option 압축 옵션
+     * @throws IOException
+     */
+    public static void zipParallel (File src, OutputStream os, ZipOption option) throws IOException
+    {
+        File root = rootOf(src, option.isIncludeSrc());
+        List<File> files = listFiles(src, option.isIncludeSrc());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, option.getThreads()));
+        try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(os))
+        {
+            zos.setEncoding(option.getCharsetName());
+
+            ParallelScatterZipCreator creator = new ParallelScatterZipCreator(executor,
+                    () -> new FileBasedScatterGatherBackingStore(Files.createTempFile("parallelscatter", "n").toFile()),
+                    option.getLevel());
+
+            for (File f : files)
+            {
+                String name = toPath(root, f);
+                log.debug("file : " + name);
+
+                ZipArchiveEntry ze = new ZipArchiveEntry(name);
+                ze.setMethod(option.isStored(f.getName()) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+                ze.setTime(f.lastModified());
+                creator.addArchiveEntry(ze, () -> {
+                    try
+                    {
+                        return new FileInputStream(f);
+                    } catch (FileNotFoundException e)
+                    {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+
+            creator.writeTo(zos);
+            log.debug("zip : {}", creator.getStatisticsMessage());
+        } catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("zip interrupted.");
+        } catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 압축 대상 파일 목록 (디렉토리 제외)
+     */
+    static List<File> listFiles (File src, boolean includeSrc)
+    {
+        List<File> files = new ArrayList<>();
+        if (!src.isDirectory())
+        {
+            files.add(src);
+            return files;
+        }
+
+        Deque<File> stack = new ArrayDeque<>();
+        if (includeSrc)
+        {
+            stack.push(src);
+        } else
+        {
+            File[] fs = src.listFiles();
+            for (int i = 0; fs != null && i < fs.length; i++)
+            {
+                stack.push(fs[i]);
+            }
+        }
+
+        while (!stack.isEmpty())
+        {
+            File f = stack.pop();
+            if (f.isDirectory())
+            {
+                File[] fs = f.listFiles();
+                for (int i = 0; fs != null && i < fs.length; i++)
+                {
+                    stack.push(fs[i]);
+                }
+            } else
+            {
+                files.add(f);
+            }
+        }
+        return files;
+    }
+
+    static File rootOf (File src, boolean includeSrc)
+    {
+        return src.isDirectory() && !includeSrc ? src : src.getParentFile();
+    }
+
+    private static String toZipFileName (File src)
+    {
+        String fileName = src.getName();
+        if (!src.isDirectory())
+        {
+            int pos = fileName.lastIndexOf(".");
+            if (pos > 0)
+            {
+                fileName = fileName.substring(0, pos);
+            }
+        }
+        return fileName + ".zip";
+    }
+
+    static String toPath (File root, File dir)
     {
         String path = dir.getAbsolutePath();
         path = path.substring(root.getAbsolutePath().length()).replace(File.separatorChar, '/');
@@ -1,13 +1,17 @@
 package com.yjkim.spring.java.utility.http;
 
+import com.yjkim.spring.java.utility.file.ZipStreamWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpHeaders;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
 
 /**
  * Rest req, res 유틸리티
@@ -66,6 +70,16 @@ public class RestUtil
         response.setHeader(HttpHeaders.CONTENT_TYPE, "application/zip");
     }
     
+    /**
+     * Excel(xlsx) content 헤더
+     *
+     * @param response
+     */
+    public static void setHeaderExcel(HttpServletResponse response)
+    {
+        response.setHeader(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    }
+    
     /**
      * 텍스트 content 헤더
      * <p>
@@ -114,6 +128,76 @@ public class RestUtil
         RestUtil.setHeaderZip(response);
     }
     
+    /**
+     * Excel(xlsx) 파일 헤더
+     *
+     * @param response
+     * @param fileName
+     */
+    public static void setExcelFileHeader(HttpServletResponse response, String fileName)
+    {
+        RestUtil.setHeaderFileName(response, fileName);
+        RestUtil.setHeaderExcel(response);
+    }
+    
+    /**
+     * Zip 파일을 임시 파일 없이 response 로 바로 압축하여 내려준다.
+     * <p>
+     * Content-Length 없이 헤더를 먼저 보내고(chunked), entry 마다 flush 한다.
+     * client 연결이 끊어지면 쓰기를 중단하고 false 를 반환한다.
+     *
+     * @param response
+     * @param fileName
+     * @param src        file or directory
+     * @param includeSrc 디렉토리 압축시 src 디렉토리를 entry 경로에 포함할지 여부
+     * @return 전송 완료 여부
+     */
+    public static boolean streamZip(HttpServletResponse response, String fileName, File src, boolean includeSrc) throws IOException
+    {
+        return RestUtil.streamZip(response, fileName, writer -> writer.addDirectory(src, includeSrc));
+    }
+    
+    /**
+     * Zip 파일을 임시 파일 없이 response 로 바로 압축하여 내려준다.
+     * <p>
+     * Content-Length 없이 헤더를 먼저 보내고(chunked), entry 마다 flush 한다.
+     * client 연결이 끊어지면 쓰기를 중단하고 false 를 반환한다.
+     * entry 를 읽는 중 발생한 오류는 그대로 던진다.
+     *
+     * @param response
+     * @param fileName
+     * @param content  entry 추가 callback
+     * @return 전송 완료 여부
+     */
+    public static boolean streamZip(HttpServletResponse response, String fileName, ZipStreamWriter.Content content) throws IOException
+    {
+        RestUtil.setZipFileHeader(response, fileName);
+        
+        ZipStreamWriter writer = null;
+        try
+        {
+            response.flushBuffer();
+            writer = new ZipStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8.name(), Deflater.DEFAULT_COMPRESSION);
+            content.write(writer);
+            writer.close();
+            return true;
+        } catch (IOException e)
+        {
+            if (writer != null)
+            {
+                writer.abort();
+                if (!writer.isOutputFailed())
+                {
+                    throw e;
+                }
+            }
+            
+            log.warn("zip download aborted. fileName : {}, entries : {}, cause : {}", fileName,
+                    writer == null ? 0 : writer.getEntryCount(), e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * 텍스트 파일 헤더
      *
@@ -0,0 +1,71 @@
+package com.yjkim.spring.java.utility.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.yjkim.spring.java.utility.data.json.JsonMapperRegistry;
+import com.yjkim.spring.java.utility.data.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMapperInitializerTest
+{
+    private static final String UNKNOWN = "{\"itemName\":\"a\",\"unknown\":1}";
+
+    @Test
+    void sharedMapperStrictReader () throws Exception
+    {
+        JacksonConfig config = new JacksonConfig();
+        ObjectMapper primary = config.objectMapper();
+        ObjectMapper snake = config.snakeObjectMapper();
+        try
+        {
+            JsonMapperRegistry.install(primary, snake);
+
+            // Spring mapper 를 그대로 사용한다. (cache 공유)
+            assertSame(primary.getTypeFactory(), JsonMapperRegistry.typeFactory());
+            assertSame(primary.getFactory(), JsonMapperRegistry.reader(Item.class).getFactory());
+            assertSame(primary.getFactory(), JsonMapperRegistry.writer().getFactory());
+            assertSame(snake.getFactory(),
+                    JsonMapperRegistry.reader(Item.class, JsonMapperRegistry.Option.SNAKE_CASE).getFactory());
+
+            // 읽기는 엄격하게 한다.
+            assertThrows(UnrecognizedPropertyException.class,
+                    () -> JsonMapperRegistry.reader(Item.class).readValue(UNKNOWN));
+            assertThrows(JsonProcessingException.class,
+                    () -> JsonMapperRegistry.reader(Item.class).readValue("{\"itemName\":\"a\u0001\"}"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> JsonMapperRegistry.convert(JsonUtil.parseString(UNKNOWN), Item.class));
+            Item item = JsonMapperRegistry.reader(Item.class, JsonMapperRegistry.Option.IGNORE_UNKNOWN).readValue(UNKNOWN);
+            assertEquals("a", item.itemName);
+            assertEquals("a", JsonMapperRegistry.convert(JsonUtil.parseString(UNKNOWN), Item.class,
+                    JsonMapperRegistry.Option.IGNORE_UNKNOWN).itemName);
+
+            // Spring mapper 의 module, 속성명 규칙은 따른다.
+            item = JsonMapperRegistry.reader(Item.class, JsonMapperRegistry.Option.SNAKE_CASE)
+                    .readValue("{\"item_name\":\"b\",\"created_at\":\"2024-01-02\"}");
+            assertEquals("b", item.itemName);
+            assertEquals(LocalDate.of(2024, 1, 2), item.createdAt);
+
+            // mapper() 는 Spring mapper 가 아닌 복사본을 준다.
+            ObjectMapper exported = JsonMapperRegistry.mapper();
+            assertNotSame(primary, exported);
+            assertTrue(exported.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+            assertFalse(primary.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+            assertEquals("a", primary.readValue(UNKNOWN, Item.class).itemName);
+        } finally
+        {
+            JsonMapperRegistry.reset();
+        }
+    }
+
+    public static class Item
+    {
+        public String itemName;
+        public LocalDate createdAt;
+    }
+}
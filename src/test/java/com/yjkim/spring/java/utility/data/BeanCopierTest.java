@@ -0,0 +1,212 @@
+package com.yjkim.spring.java.utility.data;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanCopierTest
+{
+    @Test
+    void entityToDto ()
+    {
+        Order order = Order.sample();
+        BeanCopier<Order, OrderDto> copier = BeanCopier.of(Order.class, OrderDto.class);
+        OrderDto dto = copier.copy(order);
+
+        assertEquals("1", dto.getId());
+        assertEquals(3L, dto.getCount());
+        assertEquals("DONE", dto.getStatus());
+        assertEquals(new BigDecimal("1.5"), dto.getAmount());
+        assertEquals(0, dto.getQuantity());
+        assertEquals("Seoul", dto.getAddress().getCity());
+        assertEquals(1, dto.getLines().size());
+        assertEquals("A", dto.getLines().iterator().next().getSku());
+        assertSame(copier, BeanCopier.of(Order.class, OrderDto.class));
+    }
+
+    @Test
+    void dtoToEntity ()
+    {
+        OrderDto dto = BeanCopier.of(Order.class, OrderDto.class).copy(Order.sample());
+        dto.setQuantity(7);
+        Order order = BeanCopier.of(OrderDto.class, Order.class).copy(dto);
+
+        assertEquals(1L, order.getId());
+        assertEquals(Status.DONE, order.getStatus());
+        assertEquals(7, order.getQuantity());
+        assertEquals("A", order.getLines().get(0).getSku());
+    }
+
+    @Test
+    void shallow ()
+    {
+        Order order = Order.sample();
+        Order copy = BeanCopier.of(Order.class, Order.class).copy(order);
+
+        assertSame(order.getAddress(), copy.getAddress());
+        assertSame(order.getLines(), copy.getLines());
+
+        Order target = new Order();
+        ReflectionUtil.deepCopyObject(order, target);
+        assertSame(order.getAddress(), target.getAddress());
+    }
+
+    @Test
+    void deep ()
+    {
+        Order order = Order.sample();
+        order.getAddress().setOrder(order);
+        order.getLines().add(order.getLines().get(0));
+
+        Order copy = BeanCopier.of(Order.class, Order.class, BeanCopier.Mode.DEEP).copy(order);
+
+        assertNotSame(order.getAddress(), copy.getAddress());
+        assertNotSame(order.getLines(), copy.getLines());
+        assertNotSame(order.getLines().get(0), copy.getLines().get(0));
+        assertNotSame(order.getCreatedAt(), copy.getCreatedAt());
+        assertEquals(order.getCreatedAt(), copy.getCreatedAt());
+        assertSame(copy, copy.getAddress().getOrder());
+        assertSame(copy.getLines().get(0), copy.getLines().get(1));
+        assertEquals("Seoul", copy.getAddress().getCity());
+    }
+
+    @Test
+    void genericEntity ()
+    {
+        User user = new User();
+        user.setId(10L);
+        user.setName("kim");
+        user.setValue("text");
+
+        UserDto dto = BeanCopier.of(User.class, UserDto.class).copy(user);
+        assertEquals(10L, dto.getId());
+        assertEquals("kim", dto.getName());
+        assertEquals("text", dto.getValue());
+
+        UserDto target = new UserDto();
+        ReflectionUtil.deepCopyObject(user, target);
+        assertEquals(10L, target.getId());
+
+        User copy = BeanCopier.of(UserDto.class, User.class).copy(dto);
+        assertEquals(10L, copy.getId());
+
+        user.setValue(1);
+        assertNull(BeanCopier.of(User.class, UserDto.class).copy(user).getValue());
+    }
+
+    public static class BaseEntity<ID>
+    {
+        private ID id;
+
+        public ID getId ()
+        {
+            return id;
+        }
+
+        public void setId (ID id)
+        {
+            this.id = id;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class User extends BaseEntity<Long>
+    {
+        private String name;
+        private Object value;
+    }
+
+    @Data
+    public static class UserDto
+    {
+        private Long id;
+        private String name;
+        private CharSequence value;
+    }
+
+    public enum Status
+    {
+        READY, DONE
+    }
+
+    /**
+     * Order 와 서로 참조하므로 equals / hashCode 는 만들지 않는다.
+     */
+    @Getter
+    @Setter
+    public static class Address
+    {
+        private String city;
+        private Order order;
+    }
+
+    @Data
+    public static class AddressDto
+    {
+        private String city;
+    }
+
+    @Data
+    public static class Line
+    {
+        private String sku;
+    }
+
+    @Data
+    public static class LineDto
+    {
+        private String sku;
+    }
+
+    @Getter
+    @Setter
+    public static class Order
+    {
+        private long id;
+        private Integer count;
+        private Status status;
+        private Double amount;
+        private Integer quantity;
+        private Date createdAt;
+        private Address address;
+        private List<Line> lines;
+
+        static Order sample ()
+        {
+            Order order = new Order();
+            order.id = 1L;
+            order.count = 3;
+            order.status = Status.DONE;
+            order.amount = 1.5;
+            order.createdAt = new Date(0);
+            order.address = new Address();
+            order.address.setCity("Seoul");
+            Line line = new Line();
+            line.setSku("A");
+            order.lines = new ArrayList<>(List.of(line));
+            return order;
+        }
+    }
+
+    @Data
+    public static class OrderDto
+    {
+        private String id;
+        private long count;
+        private String status;
+        private BigDecimal amount;
+        private int quantity;
+        private AddressDto address;
+        private Set<LineDto> lines;
+    }
+}
@@ -0,0 +1,114 @@
+package com.yjkim.spring.java.utility.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodAccessorsTest
+{
+    @Test
+    void getterAndSetter () throws Exception
+    {
+        Function<Object, Object> getter = MethodAccessors.getter(Item.class.getMethod("getCount"));
+        BiConsumer<Object, Object> setter = MethodAccessors.setter(Item.class.getMethod("setCount", int.class));
+
+        Item item = new Item();
+        setter.accept(item, 3);
+        assertEquals(3, getter.apply(item));
+        assertSame(getter, MethodAccessors.getter(Item.class.getMethod("getCount")));
+    }
+
+    @Test
+    void primitiveWidening () throws Exception
+    {
+        Item item = new Item();
+        MethodAccessors.setter(Item.class.getMethod("setTotal", long.class)).accept(item, 3);
+        assertEquals(3L, item.getTotal());
+
+        MethodAccessors.setter(Item.class.getMethod("setCount", int.class)).accept(item, (short) 2);
+        assertEquals(2, item.getCount());
+        assertThrows(ClassCastException.class,
+                () -> MethodAccessors.setter(Item.class.getMethod("setCount", int.class)).accept(item, 1L));
+    }
+
+    @Test
+    void privateClass () throws Exception
+    {
+        Hidden hidden = new Hidden();
+        MethodAccessors.setter(Hidden.class.getDeclaredMethod("setName", String.class)).accept(hidden, "a");
+        assertEquals("a", MethodAccessors.getter(Hidden.class.getDeclaredMethod("getName")).apply(hidden));
+    }
+
+    @Test
+    void exception () throws Exception
+    {
+        Function<Object, Object> getter = MethodAccessors.getter(Item.class.getMethod("getFail"));
+        assertThrows(UnsupportedOperationException.class, () -> getter.apply(new Item()));
+        assertThrows(IllegalArgumentException.class, () -> MethodAccessors.getter(Item.class.getMethod("setCount", int.class)));
+    }
+
+    @Test
+    void reflectionUtil ()
+    {
+        Item item = new Item();
+        ReflectionUtil.invokeSetMethod(item, "count", 5);
+        assertEquals(5, ReflectionUtil.invokeGetMethod(item, "count"));
+
+        ReflectionUtil.invokeSetMethod(item, "count", "wrong type");
+        assertEquals(5, item.getCount());
+        assertNull(ReflectionUtil.invokeGetMethod(item, "fail"));
+
+        Item copy = new Item();
+        ReflectionUtil.deepCopyObject(item, copy);
+        assertEquals(5, copy.getCount());
+    }
+
+    public static class Item
+    {
+        private int count;
+        private long total;
+
+        public int getCount ()
+        {
+            return count;
+        }
+
+        public void setCount (int count)
+        {
+            this.count = count;
+        }
+
+        public long getTotal ()
+        {
+            return total;
+        }
+
+        public void setTotal (long total)
+        {
+            this.total = total;
+        }
+
+        public String getFail ()
+        {
+            throw new UnsupportedOperationException("fail");
+        }
+    }
+
+    private static class Hidden
+    {
+        private String name;
+
+        private String getName ()
+        {
+            return name;
+        }
+
+        private void setName (String name)
+        {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.yjkim.spring.java.utility.data;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectDiffTest
+{
+    @Test
+    void shallow ()
+    {
+        Order before = Order.sample();
+        Order after = Order.sample();
+        after.setName("changed");
+        after.setAmount(new BigDecimal("1.50"));
+        after.getAddress().setCity("Busan");
+
+        List<ObjectDiff.Change> changes = ObjectDiff.diff(before, after);
+
+        assertEquals(2, changes.size());
+        assertEquals(new ObjectDiff.Change("address", before.getAddress(), after.getAddress()), changes.get(0));
+        assertEquals(new ObjectDiff.Change("name", "order-1", "changed"), changes.get(1));
+        assertTrue(ObjectDiff.diff(before, before).isEmpty());
+    }
+
+    @Test
+    void deep ()
+    {
+        Order before = Order.sample();
+        Order after = Order.sample();
+        after.getAddress().setCity("Busan");
+        after.getLines().add("C");
+        after.getExtra().put("key", 2);
+        after.getAddress().setOrder(after);
+        before.getAddress().setOrder(before);
+
+        List<ObjectDiff.Change> changes = ObjectDiff.diff(before, after, ObjectDiff.Option.DEEP);
+
+        assertEquals(List.of(
+                new ObjectDiff.Change("address.city", "Seoul", "Busan"),
+                new ObjectDiff.Change("extra.key", 1, 2),
+                new ObjectDiff.Change("lines[2]", null, "C")), changes);
+        for (ObjectDiff.Change change : changes)
+        {
+            assertEquals(change.newValue(), ReflectionUtil.getValueByPath(after, change.path()));
+        }
+    }
+
+    @Test
+    void emptyAsNull ()
+    {
+        Order before = Order.sample();
+        Order after = Order.sample();
+        after.setAddress(before.getAddress());
+        before.setName(null);
+        after.setName("");
+        after.setLines(new ArrayList<>());
+
+        assertEquals(2, ObjectDiff.diff(before, after).size());
+        assertEquals(List.of(new ObjectDiff.Change("lines", before.getLines(), null)),
+                ObjectDiff.diff(before, after, ObjectDiff.Option.EMPTY_AS_NULL));
+
+        Map<String, Object> compared = ReflectionUtil.compareObject(before, after);
+        assertEquals(1, compared.size());
+        assertTrue(compared.containsKey("lines"));
+        assertNull(compared.get("lines"));
+    }
+
+    @Test
+    void throwingGetter ()
+    {
+        Broken before = new Broken();
+        Broken after = new Broken();
+        after.setName("changed");
+
+        assertThrows(IllegalStateException.class, () -> ObjectDiff.diff(before, after));
+        // EMPTY_AS_NULL (compareObject) 는 예외를 null 로 본다.
+        assertEquals(List.of(new ObjectDiff.Change("name", null, "changed")),
+                ObjectDiff.diff(before, after, ObjectDiff.Option.EMPTY_AS_NULL));
+        assertEquals(Map.of("name", "changed"), ReflectionUtil.compareObject(before, after));
+    }
+
+    @Test
+    void created ()
+    {
+        Order after = Order.sample();
+        List<ObjectDiff.Change> changes = ObjectDiff.diff(null, after);
+
+        assertEquals(5, changes.size());
+        assertNull(changes.get(0).oldValue());
+        assertThrows(IllegalArgumentException.class, () -> ObjectDiff.diff(after, "order"));
+    }
+
+    @Getter
+    @Setter
+    public static class Address
+    {
+        private String city;
+        private Order order;
+    }
+
+    @Getter
+    @Setter
+    public static class Order
+    {
+        private String name;
+        private BigDecimal amount;
+        private Address address;
+        private List<String> lines;
+        private Map<String, Object> extra;
+
+        static Order sample ()
+        {
+            Order order = new Order();
+            order.name = "order-1";
+            order.amount = new BigDecimal("1.5");
+            order.address = new Address();
+            order.address.setCity("Seoul");
+            order.lines = new ArrayList<>(List.of("A", "B"));
+            order.extra = new LinkedHashMap<>(Map.of("key", 1));
+            return order;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Broken
+    {
+        private String name;
+        private String status;
+
+        public String getStatus ()
+        {
+            throw new IllegalStateException("broken getter");
+        }
+    }
+}
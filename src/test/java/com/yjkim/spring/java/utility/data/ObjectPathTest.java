@@ -0,0 +1,87 @@
+package com.yjkim.spring.java.utility.data;
+
+import com.sun.jdi.InternalException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectPathTest
+{
+    private final Map<String, Object> root = Map.of(
+            "id", 7,
+            "data", Map.of(
+                    "users", List.of(new User("kim", new int[]{1, 2}), new User("lee", null)),
+                    "matrix", List.of(List.of("a", "b"), List.of("c"))));
+
+    @Test
+    void getValue ()
+    {
+        assertEquals(7, ReflectionUtil.getValueByPath(root, "id"));
+        assertEquals("lee", ReflectionUtil.getValueByPath(root, "data.users[1].name"));
+        assertEquals(2, ReflectionUtil.getValueByPath(root, "data.users[0].scores[1]"));
+        assertEquals("b", ReflectionUtil.getValueByPath(root, "data.matrix[0][1]"));
+        assertEquals("c", ObjectPath.compile("[1][0]").getValue(ReflectionUtil.getValueByPath(root, "data.matrix")));
+        assertNull(ReflectionUtil.getValueByPath(root, "unknown"));
+        assertSame(ObjectPath.compile("data.users[1].name"), ObjectPath.compile("data.users[1].name"));
+    }
+
+    @Test
+    void missingPath ()
+    {
+        assertThrows(InternalException.class, () -> ReflectionUtil.getValueByPath(root, "unknown.id"));
+        assertThrows(InternalException.class, () -> ReflectionUtil.getValueByPath(root, "data.users[2]"));
+        assertThrows(InternalException.class, () -> ReflectionUtil.getValueByPath(root, "id[0]"));
+        assertThrows(InternalException.class, () -> ReflectionUtil.getValueByPath(root, "data.users[0].unknown"));
+        assertThrows(InternalException.class, () -> ReflectionUtil.getValueByPath(root, "data.users[0].scores[2]"));
+        assertThrows(IllegalArgumentException.class, () -> ObjectPath.compile(null));
+    }
+
+    @Test
+    void batch ()
+    {
+        ObjectPath.Batch batch = ObjectPath.Batch.of("data.users[0].name", "id", "data.users[0].scores[0]",
+                "data.users[0].name", "data.users[1]");
+        Object[] values = batch.getValues(root);
+
+        assertEquals("kim", values[0]);
+        assertEquals(7, values[1]);
+        assertEquals(1, values[2]);
+        assertEquals("kim", values[3]);
+        assertInstanceOf(User.class, values[4]);
+
+        Map<String, Object> map = ReflectionUtil.getValuesByPath(root, "id", "data.users[1].name");
+        assertEquals(List.of("id", "data.users[1].name"), List.copyOf(map.keySet()));
+        assertEquals("lee", map.get("data.users[1].name"));
+
+        String[] paths = {"id", "data.users[1].name"};
+        ObjectPath.Batch compiled = ObjectPath.Batch.compile(paths);
+        paths[0] = "data";
+        assertSame(compiled, ObjectPath.Batch.compile("id", "data.users[1].name"));
+        assertNotSame(compiled, ObjectPath.Batch.compile(paths));
+    }
+
+    public static class User
+    {
+        private final String name;
+        private final int[] scores;
+
+        User (String name, int[] scores)
+        {
+            this.name = name;
+            this.scores = scores;
+        }
+
+        public String getName ()
+        {
+            return name;
+        }
+
+        public int[] getScores ()
+        {
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonNodePathTest
+{
+    private static final String JSON = "{\"id\":7,\"name\":\"kim\",\"active\":true,\"none\":null,"
+            + "\"data\":{\"users\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2}],\"a.b\":\"dot\"}}";
+
+    @Test
+    void find () throws Exception
+    {
+        JsonNode node = JsonUtil.parseString(JSON);
+
+        assertEquals(7L, JsonNodePath.compile("id").asLong(node));
+        assertEquals("kim", JsonNodePath.compile("$.name").asText(node));
+        assertTrue(JsonNodePath.compile("active").asBoolean(node));
+        assertEquals(2, JsonNodePath.compile("data.users[1].id").asInt(node));
+        assertEquals("b", JsonNodePath.compile("data.users[0].tags[1]").asText(node));
+        assertEquals("dot", JsonNodePath.of("data", "a.b").asText(node));
+        assertEquals("dot", JsonNodeUtil.jsonNodeToString(node, "data", "a.b"));
+        assertTrue(JsonNodeUtil.jsonNodeToBoolean(node, "active"));
+        assertTrue(JsonNodePath.compile("none").find(node).isNull());
+    }
+
+    @Test
+    void missingPath () throws Exception
+    {
+        JsonNode node = JsonUtil.parseString(JSON);
+
+        assertNull(JsonNodePath.compile("unknown").find(node));
+        assertNull(JsonNodePath.compile("data.unknown.id").asText(node));
+        assertNull(JsonNodePath.compile("data.users[5].id").asLong(node));
+        assertNull(JsonNodePath.compile("data.users.id").asLong(node));
+        assertNull(JsonNodePath.compile("name.length").asText(node));
+        assertNull(JsonNodePath.compile("id[0]").asText(node));
+
+        // 중간 경로가 없으면 부모 노드의 값이 아닌 null
+        assertNull(JsonNodeUtil.jsonNodeToString(node, "data", "unknown"));
+        assertNull(JsonNodeUtil.jsonNodeToBoolean(node, "unknown", "active"));
+        assertEquals("1", JsonNodeUtil.jsonNodeToString(node, JsonNodePath.compile("data.users[0].id")));
+    }
+
+    @Test
+    void invalidPath ()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile(" "));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile(null));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile("a..b"));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile("a."));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile("a[x]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonNodePath.compile("a[1"));
+    }
+}
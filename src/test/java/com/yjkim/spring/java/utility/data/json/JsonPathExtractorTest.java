@@ -0,0 +1,101 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPathExtractorTest
+{
+    private static final String JSON = "{\"id\":7,\"type\":\"order\",\"none\":null,"
+            + "\"payload\":{\"big\":[1,2,3,{\"x\":1}],\"items\":[{\"sku\":\"A\",\"price\":1.5},{\"sku\":\"B\"}]},"
+            + "\"meta\":{\"createdAt\":\"2024-01-01\",\"flag\":false}}";
+
+    @Test
+    void extract () throws Exception
+    {
+        JsonPathExtractor extractor = JsonPathExtractor.of("id", "type", "payload.items[1].sku",
+                "payload.items[0].price", "meta.flag", "meta", "meta.createdAt");
+        JsonPathExtractor.Result result = extractor.extract(JSON);
+
+        assertEquals(7L, result.getLong(0));
+        assertEquals("order", result.getString(1));
+        assertEquals("B", result.get("payload.items[1].sku"));
+        assertEquals(1.5, result.getDouble(3));
+        assertFalse(result.getBoolean(4));
+        assertInstanceOf(JsonNode.class, result.get(5));
+        assertEquals("2024-01-01", result.getString(6));
+    }
+
+    @Test
+    void sameAsJsonNodePath () throws Exception
+    {
+        String[] paths = {"id", "payload.big[3].x", "payload.items[0].sku", "meta.createdAt"};
+        JsonNode node = JsonUtil.parseString(JSON);
+        JsonPathExtractor.Result result = JsonPathExtractor.of(paths).extract(JSON);
+
+        for (int i = 0; i < paths.length; i++)
+        {
+            assertEquals(JsonNodePath.compile(paths[i]).asText(node), result.getString(i), paths[i]);
+        }
+    }
+
+    @Test
+    void missingPath () throws Exception
+    {
+        JsonPathExtractor.Result result = JsonPathExtractor.of("none", "unknown", "payload.items[5].sku",
+                "type.length", "payload.items.sku", "meta.flag.x").extract(JSON);
+
+        assertTrue(result.isPresent(0));
+        assertNull(result.get(0));
+        for (int i = 1; i < 6; i++)
+        {
+            assertFalse(result.isPresent(i));
+            assertNull(result.get(i));
+        }
+        assertEquals(1, result.toMap().size());
+    }
+
+    @Test
+    void extractBytes () throws Exception
+    {
+        JsonPathExtractor extractor = JsonPathExtractor.of("id", "payload.items[0].price", "meta.flag", "type");
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+        direct.put((byte) ' ').put(bytes).flip().position(1);
+
+        JsonPathExtractor.Result[] results = {
+                extractor.extract(bytes),
+                extractor.extract(ByteBuffer.wrap(bytes)),
+                extractor.extract(direct),
+                extractor.extract(new ByteArrayInputStream(bytes))
+        };
+        for (JsonPathExtractor.Result result : results)
+        {
+            assertEquals(7L, result.getLong(0, -1L));
+            assertEquals(1.5, result.getDouble(1, 0d));
+            assertFalse(result.getBoolean(2, true));
+            assertEquals("order", result.getString(3));
+            assertEquals(4, result.getFoundCount());
+        }
+        assertEquals(1, direct.position());
+        assertEquals(-1L, results[0].getLong(3, -1L));
+    }
+
+    @Test
+    void earlyExitKeepsParserPosition () throws Exception
+    {
+        JsonPathExtractor extractor = JsonPathExtractor.of("id");
+        try (JsonParser parser = JsonMapperRegistry.mapper().createParser("{\"id\":1,\"rest\":{\"a\":[1,2]}} {\"id\":2}"))
+        {
+            assertEquals(1L, extractor.extract(parser).getLong(0));
+            parser.nextToken();
+            assertEquals(2L, extractor.extract(parser).getLong(0));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonSchemaInferrerTest
+{
+    @Test
+    void fieldUnion () throws Exception
+    {
+        String source = new JsonSchemaInferrer()
+                .add(JsonUtil.parseString("{\"id\":1,\"name\":\"a\"}"))
+                .add(JsonUtil.parseString("{\"id\":2,\"active\":true}"))
+                .toJavaSource("Order", "com.example.dto");
+
+        assertTrue(source.startsWith("package com.example.dto;\n"));
+        assertTrue(source.contains("public class Order {"));
+        // 처음 나온 순서
+        assertTrue(source.indexOf("Integer id;") < source.indexOf("String name;"));
+        assertTrue(source.indexOf("String name;") < source.indexOf("Boolean active;"));
+    }
+
+    @Test
+    void widening () throws Exception
+    {
+        JsonSchemaInferrer inferrer = new JsonSchemaInferrer();
+        inferrer.addAll(new ByteArrayInputStream(("[{\"a\":null,\"b\":1,\"c\":1,\"d\":1,\"e\":1,\"f\":\"x\"},"
+                + "{\"a\":\"s\",\"b\":null,\"c\":10000000000,\"d\":1.5,\"e\":123456789012345678901234567890,\"f\":1}]")
+                .getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, inferrer.getSampleCount());
+        String source = inferrer.toJavaSource("Sample", null);
+        assertFalse(source.startsWith("package"));
+        // null 은 타입에 영향을 주지 않는다.
+        assertTrue(source.contains("String a;"));
+        assertTrue(source.contains("Integer b;"));
+        // 숫자는 넓힌다.
+        assertTrue(source.contains("Long c;"));
+        assertTrue(source.contains("Double d;"));
+        assertTrue(source.contains("BigInteger e;"));
+        // 서로 다른 타입
+        assertTrue(source.contains("Object f;"));
+    }
+
+    @Test
+    void sharedNestedClass () throws Exception
+    {
+        String source = new JsonSchemaInferrer()
+                .add(JsonUtil.parseString("{\"from\":{\"x\":1,\"y\":2},\"to\":{\"x\":3,\"y\":4},"
+                        + "\"lines\":[{\"sku\":\"a\"},{\"sku\":\"b\",\"qty\":1}],\"item\":{\"sku\":\"c\"}}"))
+                .toJavaSource("Route", null);
+
+        // 구조가 같은 객체는 class 하나
+        assertTrue(source.contains("From from;"));
+        assertTrue(source.contains("From to;"));
+        assertFalse(source.contains("class To "));
+        assertTrue(source.contains("List<Lines> lines;"));
+        assertTrue(source.contains("Item item;"));
+        assertEquals(1, count(source, "public static class From {"));
+        assertTrue(source.contains("Integer qty;"));
+    }
+
+    @Test
+    void identifier () throws Exception
+    {
+        String source = new JsonSchemaInferrer()
+                .add(JsonUtil.parseString("{\"class\":1,\"first-name\":\"a\",\"first_name\":\"b\",\"1st\":true,\"\":2}"))
+                .toJavaSource("Person", null);
+
+        assertTrue(source.contains("@JsonProperty(\"class\")\n\tInteger class_;"));
+        assertTrue(source.contains("@JsonProperty(\"first-name\")\n\tString first_name;"));
+        // 바꾼 이름이 겹치면 번호를 붙인다.
+        assertTrue(source.contains("@JsonProperty(\"first_name\")\n\tString first_name2;"));
+        assertTrue(source.contains("@JsonProperty(\"1st\")\n\tBoolean _1st;"));
+        assertTrue(source.contains("@JsonProperty(\"\")\n\tInteger _;"));
+
+        assertEquals("a_b", JsonSchemaInferrer.toIdentifier("a.b"));
+        assertEquals("int_", JsonSchemaInferrer.toIdentifier("int"));
+    }
+
+    @Test
+    void overflow ()
+    {
+        ObjectNode first = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < JsonSchemaInferrer.MAX_FIELDS; i++)
+        {
+            first.put("f" + i, i);
+        }
+        first.put("extra0", 1);
+        ObjectNode second = JsonNodeFactory.instance.objectNode();
+        second.put("f0", 10000000000L);
+        second.put("extra1", 2);
+
+        String source = new JsonSchemaInferrer().add(first).add(second).toJavaSource("Wide", null);
+
+        // 기존 필드는 계속 병합한다.
+        assertTrue(source.contains("\tLong f0;"));
+        assertTrue(source.contains("\tInteger f511;"));
+        assertFalse(source.contains("extra0;"));
+        // 넘친 필드는 최상위에서도 사라지지 않는다.
+        assertTrue(source.contains("\t@JsonAnySetter\n\tMap<String, Integer> additionalProperties = new LinkedHashMap<>();"));
+
+        ObjectNode wrapper = JsonNodeFactory.instance.objectNode();
+        wrapper.set("nested", first);
+        source = new JsonSchemaInferrer().add(wrapper).toJavaSource("Wrapper", null);
+
+        assertTrue(source.contains("\tNested nested;"));
+        assertEquals(1, count(source, "@JsonAnySetter\n"));
+        assertTrue(source.contains("\t\t@JsonAnySetter\n\t\tMap<String, Integer> additionalProperties"));
+    }
+
+    private static int count (String source, String token)
+    {
+        int count = 0;
+        for (int i = source.indexOf(token); i >= 0; i = source.indexOf(token, i + 1))
+        {
+            count++;
+        }
+        return count;
+    }
+}
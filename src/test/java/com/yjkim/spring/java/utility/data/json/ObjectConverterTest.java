@@ -0,0 +1,258 @@
+package com.yjkim.spring.java.utility.data.json;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.Data;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectConverterTest
+{
+    private final ObjectMapper mapper = JsonMapperRegistry.defaultMapper();
+
+    @Test
+    void sameAsConvertValue () throws Exception
+    {
+        ObjectConverter converter = new ObjectConverter(mapper);
+        Order order = Order.sample();
+
+        OrderDto converted = converter.convert(order, OrderDto.class);
+        OrderDto expected = mapper.convertValue(order, OrderDto.class);
+
+        assertEquals(mapper.writeValueAsString(expected), mapper.writeValueAsString(converted));
+        assertEquals(0, converted.quantity);
+        assertNotSame(order.address, converted.address);
+        assertEquals("Seoul", converted.address.getCity());
+        assertEquals(0, converter.getStats().fallbacks());
+
+        converter.convert(order, OrderDto.class);
+        ObjectConverter.Stats stats = converter.getStats();
+        assertEquals(2, stats.misses());
+        assertTrue(stats.hits() >= 2);
+    }
+
+    @Test
+    void unknownProperty ()
+    {
+        ObjectConverter converter = new ObjectConverter(mapper);
+        Order order = Order.sample();
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.convertValue(order, Line.class));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(order, Line.class));
+        assertEquals(1, converter.getStats().fallbacks());
+
+        Named named = converter.convert(order, Named.class);
+        assertEquals("order-1", named.name);
+        assertEquals(1, converter.getStats().fallbacks());
+    }
+
+    @Test
+    void fallback ()
+    {
+        ObjectConverter converter = new ObjectConverter(mapper);
+        Order order = Order.sample();
+
+        Created created = converter.convert(order, Created.class);
+        assertEquals(order.name, created.name);
+        Map<?, ?> map = converter.convert(order, Map.class);
+        assertEquals(order.id, ((Number) map.get("id")).longValue());
+        assertEquals(2, converter.getStats().fallbacks());
+    }
+
+    @Test
+    void nonNull ()
+    {
+        ObjectConverter converter = new ObjectConverter(mapper);
+        Sparse sparse = new Sparse();
+
+        Named named = converter.convert(sparse, Named.class);
+        assertEquals("default", named.name);
+        assertEquals(mapper.convertValue(sparse, Named.class).name, named.name);
+    }
+
+    @Test
+    void customProperty ()
+    {
+        ObjectConverter converter = new ObjectConverter(mapper);
+
+        Shouting shouting = new Shouting();
+        shouting.name = "kim";
+        assertEquals(mapper.convertValue(shouting, Named.class).name, converter.convert(shouting, Named.class).name);
+        assertEquals("KIM", converter.convert(shouting, Named.class).name);
+
+        Named named = new Named();
+        named.name = "lee";
+        assertEquals(mapper.convertValue(named, Loud.class).name, converter.convert(named, Loud.class).name);
+        assertEquals("LEE", converter.convert(named, Loud.class).name);
+
+        Tagged tagged = new Tagged();
+        tagged.tags.put("a", "1");
+        tagged.tags.put("b", null);
+        assertEquals(mapper.convertValue(tagged, Tagged.class).tags, converter.convert(tagged, Tagged.class).tags);
+        assertEquals(Map.of("a", "1"), converter.convert(tagged, Tagged.class).tags);
+        assertEquals(6, converter.getStats().fallbacks());
+    }
+
+    public static class UpperSerializer extends StdSerializer<String>
+    {
+        public UpperSerializer ()
+        {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize (String value, JsonGenerator gen, SerializerProvider provider) throws IOException
+        {
+            gen.writeString(value.toUpperCase());
+        }
+    }
+
+    public static class UpperDeserializer extends StdDeserializer<String>
+    {
+        public UpperDeserializer ()
+        {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize (JsonParser parser, DeserializationContext ctxt) throws IOException
+        {
+            return parser.getValueAsString().toUpperCase();
+        }
+    }
+
+    public static class Shouting
+    {
+        @JsonSerialize(using = UpperSerializer.class)
+        public String name;
+    }
+
+    public static class Loud
+    {
+        @JsonDeserialize(using = UpperDeserializer.class)
+        public String name;
+    }
+
+    public static class Tagged
+    {
+        @JsonInclude(content = JsonInclude.Include.NON_NULL)
+        public Map<String, String> tags = new LinkedHashMap<>();
+    }
+
+    public enum Status
+    {
+        READY, DONE
+    }
+
+    @Data
+    public static class Address
+    {
+        private String city;
+        private String zipCode;
+    }
+
+    @Data
+    public static class AddressDto
+    {
+        private String city;
+        @JsonProperty("zipCode")
+        private String zip;
+    }
+
+    public static class Line
+    {
+        public String sku;
+        public BigDecimal price;
+    }
+
+    public static class Order
+    {
+        public long id;
+        public String name;
+        public Status status;
+        public Integer quantity;
+        public int count;
+        public LocalDateTime createdAt;
+        public List<Line> lines;
+        public Address address;
+        public Map<String, Object> extra;
+
+        static Order sample ()
+        {
+            Order order = new Order();
+            order.id = 1L;
+            order.name = "order-1";
+            order.status = Status.DONE;
+            order.count = 3;
+            order.createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600);
+            Line line = new Line();
+            line.sku = "A";
+            line.price = new BigDecimal("1.50");
+            order.lines = List.of(line);
+            order.address = new Address();
+            order.address.setCity("Seoul");
+            order.address.setZipCode("01234");
+            order.extra = new LinkedHashMap<>();
+            order.extra.put("key", 1);
+            return order;
+        }
+    }
+
+    public static class OrderDto
+    {
+        public String id;
+        public String name;
+        public Status status;
+        public int quantity;
+        public long count;
+        public LocalDateTime createdAt;
+        public List<Map<String, Object>> lines;
+        public AddressDto address;
+        public Map<String, String> extra;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Named
+    {
+        public String name = "default";
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Sparse
+    {
+        public String name;
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Created
+    {
+        private final String name;
+
+        @JsonCreator
+        public Created (@JsonProperty("name") String name)
+        {
+            this.name = name;
+        }
+    }
+}
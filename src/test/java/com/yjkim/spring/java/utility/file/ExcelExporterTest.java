@@ -0,0 +1,151 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelExporterTest
+{
+    @Test
+    void annotation () throws IOException
+    {
+        ExcelExporter<UserExcel> exporter = ExcelExporter.of(UserExcel.class);
+        exporter.setSheetName("users");
+        exporter.setMaxRowsPerSheet(3);
+        exporter.setWindowSize(1);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        long count = exporter.export(IntStream.range(0, 5).mapToObj(UserExcel::of), os);
+
+        assertEquals(5, count);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray())))
+        {
+            // 헤더 포함 시트당 3행
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("users", workbook.getSheetName(0));
+            assertEquals("users (2)", workbook.getSheetName(1));
+            assertEquals("users (3)", workbook.getSheetName(2));
+
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            // order 순
+            assertEquals("이름", XSSFExcelUtil.getCellValue(sheet, 0, 0));
+            assertEquals("금액", XSSFExcelUtil.getCellValue(sheet, 0, 1));
+            assertEquals("가입일", XSSFExcelUtil.getCellValue(sheet, 0, 2));
+            assertEquals("활성", XSSFExcelUtil.getCellValue(sheet, 0, 3));
+            assertEquals("user-0", XSSFExcelUtil.getCellValue(sheet, 1, 0));
+            assertEquals(1000.5, XSSFExcelUtil.getCellValue(sheet, 1, 1));
+            assertEquals(true, XSSFExcelUtil.getCellValue(sheet, 1, 3));
+            assertEquals(LocalDate.of(2024, 1, 2), sheet.getRow(2).getCell(2).getLocalDateTimeCellValue().toLocalDate());
+            // null 값은 셀을 만들지 않는다.
+            assertNull(sheet.getRow(2).getCell(3));
+
+            XSSFSheet last = workbook.getSheetAt(2);
+            assertEquals("이름", XSSFExcelUtil.getCellValue(last, 0, 0));
+            assertEquals("user-4", XSSFExcelUtil.getCellValue(last, 1, 0));
+            assertNull(last.getRow(2));
+
+            // data format 별 style 은 시트가 바뀌어도 같은 것을 쓴다.
+            CellStyle amount = sheet.getRow(1).getCell(1).getCellStyle();
+            assertEquals("#,##0.0", amount.getDataFormatString());
+            assertEquals(amount.getIndex(), last.getRow(1).getCell(1).getCellStyle().getIndex());
+            CellStyle date = sheet.getRow(1).getCell(2).getCellStyle();
+            assertEquals("yyyy-mm-dd", date.getDataFormatString());
+            assertEquals(date.getIndex(), last.getRow(1).getCell(2).getCellStyle().getIndex());
+            CellStyle header = sheet.getRow(0).getCell(0).getCellStyle();
+            assertTrue(workbook.getFontAt(header.getFontIndex()).getBold());
+            assertEquals(header.getIndex(), last.getRow(0).getCell(3).getCellStyle().getIndex());
+            // 기본 style + 헤더 + 금액 + 날짜
+            assertEquals(4, workbook.getNumCellStyles());
+        }
+    }
+
+    @Test
+    void builder () throws IOException
+    {
+        List<ExcelColumnDefinition<UserExcel>> columns = ExcelColumnDefinition.<UserExcel>builder()
+                .column("이름", u -> u.name)
+                .column("금액", u -> u.amount, "#,##0", 20)
+                .column("가입일", u -> u.joinedAt)
+                .build();
+        ExcelExporter<UserExcel> exporter = ExcelExporter.of(columns);
+        exporter.setMaxRowsPerSheet(2);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        // 페이지 단위 조회
+        long count = exporter.export(page -> page < 2 ? List.of(UserExcel.of(page * 2), UserExcel.of(page * 2 + 1)) : List.of(), os);
+
+        assertEquals(4, count);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray())))
+        {
+            assertEquals(4, workbook.getNumberOfSheets());
+            assertEquals("Sheet (4)", workbook.getSheetName(3));
+
+            XSSFSheet sheet = workbook.getSheetAt(3);
+            assertEquals("user-3", XSSFExcelUtil.getCellValue(sheet, 1, 0));
+            XSSFCell amount = sheet.getRow(1).getCell(1);
+            assertEquals(1003.5, XSSFExcelUtil.getCellValue(amount));
+            assertEquals("#,##0", amount.getCellStyle().getDataFormatString());
+            assertEquals(20 * 256, sheet.getColumnWidth(1));
+            // format 이 없으면 타입별 기본 format
+            assertEquals("yyyy-mm-dd", sheet.getRow(1).getCell(2).getCellStyle().getDataFormatString());
+            assertEquals(amount.getCellStyle().getIndex(),
+                    workbook.getSheetAt(0).getRow(1).getCell(1).getCellStyle().getIndex());
+        }
+    }
+
+    @Test
+    void empty () throws IOException
+    {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        assertEquals(0, ExcelExporter.of(UserExcel.class).export(Stream.empty(), os));
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(os.toByteArray())))
+        {
+            assertEquals(1, workbook.getNumberOfSheets());
+            assertEquals("이름", XSSFExcelUtil.getCellValue(workbook.getSheetAt(0), 0, 0));
+            assertNull(workbook.getSheetAt(0).getRow(1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ExcelExporter.of(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> ExcelExporter.of(String.class));
+    }
+
+    public static class UserExcel
+    {
+        @ExcelColumn(header = "가입일", order = 3)
+        private LocalDate joinedAt;
+
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, format = "#,##0.0")
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "활성", order = 4)
+        private Boolean active;
+
+        private String memo = "not exported";
+
+        static UserExcel of (int i)
+        {
+            UserExcel user = new UserExcel();
+            user.name = "user-" + i;
+            user.amount = new BigDecimal("1000.5").add(BigDecimal.valueOf(i));
+            user.joinedAt = LocalDate.of(2024, 1, 1 + i);
+            user.active = i % 2 == 0 ? Boolean.TRUE : null;
+            return user;
+        }
+    }
+}
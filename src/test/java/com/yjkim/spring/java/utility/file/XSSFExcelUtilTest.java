@@ -0,0 +1,76 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XSSFExcelUtilTest
+{
+    @Test
+    void mergedRegionChanged () throws IOException
+    {
+        try (XSSFWorkbook workbook = new XSSFWorkbook())
+        {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("A");
+            sheet.createRow(5).createCell(2).setCellValue("B");
+            sheet.addMergedRegion(new CellRangeAddress(0, 1, 0, 1));
+            assertEquals("A", XSSFExcelUtil.getCellStringValueWithMerges(sheet, 1, 1));
+
+            // 병합 영역 수는 같고 내용만 바뀐다.
+            sheet.removeMergedRegion(0);
+            sheet.addMergedRegion(new CellRangeAddress(5, 6, 2, 3));
+            MergedRegionIndex index = XSSFExcelUtil.getMergedRegionIndex(sheet);
+
+            assertNull(XSSFExcelUtil.getMergedRegion(sheet, 1, 1));
+            assertNull(XSSFExcelUtil.getMergedRegion(index, 1, 1));
+            assertEquals(new CellRangeAddress(5, 6, 2, 3), XSSFExcelUtil.getMergedRegion(index, 6, 3));
+            assertEquals("B", XSSFExcelUtil.getCellStringValueWithMerges(sheet, index, 6, 3));
+        }
+    }
+
+    @Test
+    void mergedRegionCopy ()
+    {
+        MergedRegionIndex index = MergedRegionIndex.of(List.of(new CellRangeAddress(0, 1, 0, 1)));
+
+        CellRangeAddress found = index.find(1, 1);
+        found.setLastRow(10);
+        index.getRegions().get(0).setLastColumn(10);
+
+        assertNull(index.find(5, 1));
+        assertNull(index.find(0, 5));
+        assertEquals(new CellRangeAddress(0, 1, 0, 1), index.find(0, 0));
+    }
+
+    @Test
+    void mergeRegionItem () throws IOException
+    {
+        try (XSSFWorkbook workbook = new XSSFWorkbook())
+        {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(3).setCellValue("A");
+            sheet.getRow(0).createCell(0).setCellValue("B");
+            sheet.addMergedRegion(new CellRangeAddress(0, 0, 3, 4));
+            sheet.addMergedRegion(new CellRangeAddress(0, 1, 0, 1));
+
+            Map<Integer, List<XSSFExcelUtil.MergeRegionItem>> map =
+                XSSFExcelUtil.cellRangeAddressToMergeRegionItem(sheet, XSSFExcelUtil.getMergedRegionIndex(sheet));
+            assertEquals(2, map.get(0).size());
+            assertEquals("B", XSSFExcelUtil.getMergedRegionValue(map, 0, 1));
+            assertEquals("A", XSSFExcelUtil.getMergedRegionValue(map, 0, 4));
+            assertNull(XSSFExcelUtil.getMergedRegionValue(map, 0, 2));
+
+            map = XSSFExcelUtil.cellRangeAddressToMergeRegionItem(sheet, sheet.getMergedRegions());
+            assertEquals(0, map.get(0).get(0).getFirstColumn());
+            assertEquals("A", XSSFExcelUtil.getMergedRegionValue(map, 0, 3));
+        }
+    }
+}
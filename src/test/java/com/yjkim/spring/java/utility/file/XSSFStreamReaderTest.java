@@ -0,0 +1,121 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XSSFStreamReaderTest
+{
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void sameAsDom () throws IOException
+    {
+        File file = tempDir.resolve("sample.xlsx").toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook())
+        {
+            XSSFSheet sheet = workbook.createSheet("data");
+            XSSFRow row = sheet.createRow(0);
+            row.createCell(0).setCellValue("title");
+            row.createCell(1).setCellValue(1.5);
+            row.createCell(2).setCellValue(true);
+            row.createCell(3).setCellFormula("B1*2");
+            row.createCell(4);
+            row.createCell(6).setCellValue("gap");
+
+            // 1행은 비워 둔다.
+            row = sheet.createRow(2);
+            row.createCell(0).setCellValue("merged");
+            row.createCell(1).setCellValue(42);
+            row.createCell(2).setCellValue(false);
+            row.createCell(3).setCellFormula("CONCATENATE(A1,\"!\")");
+            row = sheet.createRow(3);
+            row.createCell(2).setCellValue("title");
+            row.createCell(3).setCellValue(-0.25);
+            sheet.addMergedRegion(new CellRangeAddress(2, 3, 0, 1));
+            sheet.addMergedRegion(new CellRangeAddress(0, 0, 5, 6));
+            workbook.createSheet("second").createRow(0).createCell(0).setCellValue("second");
+
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            try (OutputStream os = new FileOutputStream(file))
+            {
+                workbook.write(os);
+            }
+
+            List<XSSFStreamReader.Row> rows = new ArrayList<>();
+            assertEquals(3, XSSFExcelUtil.readRows(file, 0, rows::add));
+            assertEquals(List.of(0, 2, 3), rows.stream().map(XSSFStreamReader.Row::getRowNum).collect(Collectors.toList()));
+
+            // getCellStringValue 는 숫자 셀의 타입을 바꾸므로 값을 먼저 비교한다.
+            for (XSSFStreamReader.Row streamed : rows)
+            {
+                XSSFRow dom = sheet.getRow(streamed.getRowNum());
+                assertEquals(dom.getLastCellNum(), streamed.getLastCellNum());
+                for (int c = 0; c < dom.getLastCellNum(); c++)
+                {
+                    assertEquals(XSSFExcelUtil.getCellValue(dom.getCell(c)), streamed.getCellValue(c),
+                            "value " + streamed.getRowNum() + ":" + c);
+                }
+            }
+
+            MergedRegionIndex index = XSSFExcelUtil.getMergedRegionIndex(sheet);
+            for (XSSFStreamReader.Row streamed : rows)
+            {
+                int r = streamed.getRowNum();
+                XSSFRow dom = sheet.getRow(r);
+                for (int c = 0; c < dom.getLastCellNum(); c++)
+                {
+                    String position = r + ":" + c;
+                    assertEquals(XSSFExcelUtil.getCellStringValue(dom.getCell(c)), streamed.getCellStringValue(c),
+                            "string " + position);
+                    assertEquals(XSSFExcelUtil.getMergedRegion(index, r, c), streamed.getMergedRegion(c),
+                            "merge " + position);
+                    assertEquals(XSSFExcelUtil.getCellStringValueWithMerges(sheet, index, r, c),
+                            streamed.getCellStringValueWithMerges(c), "with merges " + position);
+                }
+            }
+        }
+
+        assertEquals("merged", rowsOf(file).get(2).getCellStringValueWithMerges(1));
+        assertNull(rowsOf(file).get(0).getCellStringValue(5));
+        try (XSSFStreamReader reader = XSSFStreamReader.open(file))
+        {
+            assertEquals(List.of("data", "second"), reader.getSheetNames());
+            try (Stream<XSSFStreamReader.Row> rows = reader.rows(1, false))
+            {
+                assertEquals(List.of("second"), rows.map(row -> row.getCellStringValue(0)).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    private static List<XSSFStreamReader.Row> rowsOf (File file) throws IOException
+    {
+        List<XSSFStreamReader.Row> rows = new ArrayList<>();
+        XSSFExcelUtil.readRows(file, 0, rows::add);
+        return rows;
+    }
+
+    @Test
+    void columnIndex ()
+    {
+        assertEquals(0, XSSFStreamReader.toColumnIndex("A1"));
+        assertEquals(25, XSSFStreamReader.toColumnIndex("Z10"));
+        assertEquals(27, XSSFStreamReader.toColumnIndex("AB12"));
+    }
+}
@@ -0,0 +1,180 @@
+package com.yjkim.spring.java.utility.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipUtilTest
+{
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void zipSlip () throws IOException
+    {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a/dir/", null);
+        entries.put("a/file.txt", bytes(10));
+        entries.put("../evil.txt", bytes(10));
+        File zip = zip("slip.zip", entries);
+        Path dest = Files.createDirectory(tempDir.resolve("out"));
+
+        assertThrows(IOException.class, () -> ZipUtil.unzipParallel(zip, dest.toFile(), new UnzipOption()));
+        // 앞의 entry 디렉토리도 만들지 않는다.
+        assertFalse(Files.exists(dest.resolve("a")));
+        assertFalse(Files.exists(tempDir.resolve("evil.txt")));
+    }
+
+    @Test
+    void declaredCompressionRatio () throws IOException
+    {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("b/", null);
+        entries.put("b/small.txt", bytes(10));
+        entries.put("b/big.bin", bytes(2 * 1024 * 1024));
+        File zip = zip("bomb.zip", entries);
+        Path dest = Files.createDirectory(tempDir.resolve("out"));
+
+        IOException e = assertThrows(IOException.class,
+                () -> ZipUtil.unzipParallel(zip, dest.toFile(), new UnzipOption()));
+        assertTrue(e.getMessage().contains("b/big.bin"));
+        assertFalse(Files.exists(dest.resolve("b")));
+
+        // 제한을 풀면 해제된다.
+        UnzipOption option = new UnzipOption();
+        option.setMaxCompressionRatio(Long.MAX_VALUE);
+        assertEquals(2, ZipUtil.unzipParallel(zip, dest.toFile(), option).size());
+        assertEquals(2 * 1024 * 1024, Files.size(dest.resolve("b/big.bin")));
+    }
+
+    @Test
+    void actualCompressionRatio () throws IOException
+    {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("ok.txt", bytes(10));
+        entries.put("big.bin", bytes(2 * 1024 * 1024));
+        File zip = zip("fake.zip", entries);
+        // central directory 의 해제 크기를 작게 조작한다.
+        forgeUncompressedSize(zip, "big.bin", 100);
+        Path dest = Files.createDirectory(tempDir.resolve("out"));
+
+        IOException e = assertThrows(IOException.class,
+                () -> ZipUtil.unzipParallel(zip, dest.toFile(), new UnzipOption()));
+        assertEquals(1, e.getSuppressed().length);
+        assertTrue(e.getSuppressed()[0].getMessage().contains("compression ratio"));
+        assertFalse(Files.exists(dest.resolve("big.bin")));
+        assertTrue(Files.exists(dest.resolve("ok.txt")));
+    }
+
+    @Test
+    void maxTotalSize () throws IOException
+    {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a.txt", bytes(600));
+        entries.put("b.txt", bytes(600));
+        File zip = zip("total.zip", entries);
+        Path dest = Files.createDirectory(tempDir.resolve("out"));
+        UnzipOption option = new UnzipOption();
+        option.setThreads(1);
+        option.setMaxTotalSize(1000);
+
+        IOException e = assertThrows(IOException.class, () -> ZipUtil.unzipParallel(zip, dest.toFile(), option));
+        assertTrue(e.getSuppressed()[0].getMessage().contains("total uncompressed size"));
+        assertTrue(Files.exists(dest.resolve("a.txt")));
+        assertFalse(Files.exists(dest.resolve("b.txt")));
+    }
+
+    @Test
+    void includeGlob () throws IOException
+    {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("images/a/x.png", bytes(10));
+        entries.put("images/b.txt", bytes(10));
+        entries.put("docs/", null);
+        entries.put("docs/y.png", bytes(10));
+        File zip = zip("glob.zip", entries);
+        Path dest = Files.createDirectory(tempDir.resolve("out"));
+        UnzipOption option = new UnzipOption();
+        option.setIncludeGlob("images/**/*.png");
+
+        List<File> files = ZipUtil.unzipParallel(zip, dest.toFile(), option);
+
+        assertEquals(List.of(dest.resolve("images/a/x.png").toFile()), files);
+        assertArrayEquals(bytes(10), Files.readAllBytes(dest.resolve("images/a/x.png")));
+        assertFalse(Files.exists(dest.resolve("images/b.txt")));
+        assertFalse(Files.exists(dest.resolve("docs")));
+    }
+
+    /**
+     * entry 값이 null 이면 디렉토리
+     */
+    private File zip (String name, Map<String, byte[]> entries) throws IOException
+    {
+        Path file = tempDir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(file);
+             ZipOutputStream zos = new ZipOutputStream(out, StandardCharsets.UTF_8))
+        {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet())
+            {
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                if (entry.getValue() != null)
+                {
+                    zos.write(entry.getValue());
+                }
+                zos.closeEntry();
+            }
+        }
+        return file.toFile();
+    }
+
+    /**
+     * central directory header 의 uncompressed size 를 바꾼다.
+     */
+    private static void forgeUncompressedSize (File zip, String entryName, int size) throws IOException
+    {
+        byte[] data = Files.readAllBytes(zip.toPath());
+        byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + 46 + name.length <= data.length; i++)
+        {
+            if (data[i] == 0x50 && data[i + 1] == 0x4b && data[i + 2] == 0x01 && data[i + 3] == 0x02
+                    && matches(data, i + 46, name))
+            {
+                for (int b = 0; b < 4; b++)
+                {
+                    data[i + 24 + b] = (byte) (size >>> (8 * b));
+                }
+            }
+        }
+        Files.write(zip.toPath(), data);
+    }
+
+    private static boolean matches (byte[] data, int offset, byte[] name)
+    {
+        for (int i = 0; i < name.length; i++)
+        {
+            if (data[offset + i] != name[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] bytes (int size)
+    {
+        return new byte[size];
+    }
+}